@@ -0,0 +1,85 @@
+package upei.project;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reproducible headless game positions for the benchmarks.
+ * A fixture seats four AI players on a {@link GameBoard} and plays a
+ * seeded game up to the requested phase, so every benchmark run measures
+ * the same board:
+ * - early: a few pieces have just left base
+ * - mid: most pieces are spread over the main track
+ * - end: pieces are in or near their home stretches
+ *
+ * @author UPEI Project Team
+ * @version 1.0
+ */
+final class BenchmarkFixture {
+    /** Seed of the game played to reach a phase */
+    private static final long SEED = 2024L;
+
+    /** Player colors in the seating order of {@link SimulationExperiment} */
+    private static final PlayerColor[] COLORS = {
+        PlayerColor.RED, PlayerColor.BLUE, PlayerColor.GREEN, PlayerColor.YELLOW};
+
+    /** Board holding the position */
+    final GameBoard board;
+
+    /** Seated players */
+    final List<Player> players;
+
+    /** Every piece on the board */
+    final List<Piece> pieces;
+
+    private BenchmarkFixture(GameBoard board, List<Player> players) {
+        this.board = board;
+        this.players = players;
+        this.pieces = new ArrayList<>();
+        for (Player player : players) {
+            pieces.addAll(player.getPieces());
+        }
+    }
+
+    /**
+     * Creates a board in the given game phase.
+     *
+     * @param phase "early", "mid" or "end"
+     * @return The fixture
+     */
+    static BenchmarkFixture create(String phase) {
+        int turns = switch (phase) {
+            case "early" -> 12;
+            case "mid" -> 100;
+            case "end" -> 220;
+            default -> throw new IllegalArgumentException("Unknown phase: " + phase);
+        };
+
+        GameBoard board = new GameBoard();
+        List<Player> players = new ArrayList<>();
+        for (PlayerColor color : COLORS) {
+            List<Piece> pieces = new ArrayList<>();
+            for (int i = 0; i < GameState.PIECES_PER_COLOR; i++) {
+                pieces.add(new Piece(color, board));
+            }
+            players.add(new AIPlayer("Balanced", color, pieces, "Balanced"));
+        }
+        for (Player player : players) {
+            player.setAllPlayers(players);
+        }
+
+        // Early 6s get pieces out of base the way the simulation does
+        DiceSource dice = DiceSource.seeded(SEED);
+        GameState state = board.getState();
+        for (int turn = 0; turn < turns; turn++) {
+            Player player = players.get(state.getTurn());
+            int roll = turn % 10 == 0 ? 6 : dice.roll();
+            player.makeMove(roll, players);
+            if (state.hasWon(player.getPlayerColor().index())) {
+                break;
+            }
+            state.advanceTurn(players.size());
+        }
+        return new BenchmarkFixture(board, players);
+    }
+}
@@ -0,0 +1,53 @@
+package upei.project;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks complete headless games, reported in games per second.
+ * Each invocation plays the next game of a fixed campaign, so repeated
+ * runs play the same sequence of games.
+ *
+ * @author UPEI Project Team
+ * @version 1.0
+ * @see SimulationExperiment
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GameBenchmark {
+    /** Campaign seed of the benchmarked games */
+    private static final long SEED = 2024L;
+
+    /** Strategies of the seated players, separated by commas */
+    @Param({"Aggressive,Defensive,Balanced,Balanced"})
+    public String strategies;
+
+    private List<String> seats;
+    private long gameIndex;
+
+    @Setup
+    public void setUp() {
+        seats = List.of(strategies.split(","));
+    }
+
+    @Benchmark
+    public SimulationExperiment.GameResult playGame() {
+        return SimulationExperiment.playGame(seats, DiceSource.forGame(SEED, gameIndex++));
+    }
+}
@@ -0,0 +1,109 @@
+package upei.project;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the move engine on every piece of a board for every roll:
+ * - Simulating a move to the target node
+ * - Checking a move without exceptions
+ * - Validating a move through the exception based API
+ * - Resolving which pieces a move would capture
+ * - Making a move on the game state and taking it back
+ *
+ * Each operation covers 16 pieces times 6 rolls.
+ *
+ * @author UPEI Project Team
+ * @version 1.0
+ * @see Piece
+ * @see GameState
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoveEngineBenchmark {
+    /** Game phase of the benchmarked board */
+    @Param({"early", "mid", "end"})
+    public String phase;
+
+    private List<Piece> pieces;
+    private GameState state;
+
+    @Setup
+    public void setUp() {
+        BenchmarkFixture fixture = BenchmarkFixture.create(phase);
+        pieces = fixture.pieces;
+        state = fixture.board.getState();
+    }
+
+    @Benchmark
+    public void simulateMove(Blackhole blackhole) {
+        for (Piece piece : pieces) {
+            for (int roll = 1; roll <= 6; roll++) {
+                blackhole.consume(piece.simulateMove(roll));
+            }
+        }
+    }
+
+    @Benchmark
+    public void checkMove(Blackhole blackhole) {
+        for (Piece piece : pieces) {
+            for (int roll = 1; roll <= 6; roll++) {
+                blackhole.consume(piece.checkMove(roll));
+            }
+        }
+    }
+
+    @Benchmark
+    public void validateMove(Blackhole blackhole) {
+        for (Piece piece : pieces) {
+            for (int roll = 1; roll <= 6; roll++) {
+                try {
+                    piece.validateMove(roll);
+                    blackhole.consume(true);
+                } catch (InvalidMoveException e) {
+                    blackhole.consume(e);
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void captureResolution(Blackhole blackhole) {
+        for (Piece piece : pieces) {
+            int color = GameState.colorOf(piece.getSlot());
+            for (int roll = 1; roll <= 6; roll++) {
+                blackhole.consume(state.captureMask(color, state.target(piece.getSlot(), roll)));
+            }
+        }
+    }
+
+    @Benchmark
+    public void makeUnmakeMove(Blackhole blackhole) {
+        for (Piece piece : pieces) {
+            int slot = piece.getSlot();
+            for (int roll = 1; roll <= 6; roll++) {
+                if (state.makeMove(slot, roll) >= 0) {
+                    blackhole.consume(state.getHash());
+                    state.unmakeMove();
+                }
+            }
+        }
+    }
+}
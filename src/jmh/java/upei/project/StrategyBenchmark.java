@@ -0,0 +1,80 @@
+package upei.project;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks evaluating a full turn with each strategy: every legal move
+ * of the player to act, for each of the six possible rolls, one move at
+ * a time and batched into one call per roll.
+ * Each value names a strategy of the {@link StrategyRegistry}; "Heuristic"
+ * is the scoring that used to be built into {@link AIPlayer}.
+ *
+ * @author UPEI Project Team
+ * @version 1.0
+ * @see MoveStrategy
+ * @see AIPlayer
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StrategyBenchmark {
+    /** Game phase of the benchmarked board */
+    @Param({"early", "mid", "end"})
+    public String phase;
+
+    /** Strategy evaluating the moves */
+    @Param({"Heuristic", "Aggressive", "Defensive", "Balanced"})
+    public String strategy;
+
+    private MoveStrategy moveStrategy;
+    private Player player;
+    private List<Player> players;
+    private double[] scores;
+
+    @Setup
+    public void setUp() {
+        BenchmarkFixture fixture = BenchmarkFixture.create(phase);
+        players = fixture.players;
+        player = players.get(fixture.board.getState().getTurn());
+        moveStrategy = StrategyRegistry.create(strategy);
+        scores = new double[player.getPieces().size()];
+    }
+
+    @Benchmark
+    public void evaluateTurn(Blackhole blackhole) {
+        List<Piece> pieces = player.getPieces();
+        for (int roll = 1; roll <= 6; roll++) {
+            int legalMoves = player.legalMoveMask(roll);
+            for (int i = 0; i < pieces.size(); i++) {
+                if ((legalMoves & (1 << i)) != 0) {
+                    blackhole.consume(moveStrategy.evaluateMove(pieces.get(i), roll, player, players));
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void evaluateTurnBatched(Blackhole blackhole) {
+        for (int roll = 1; roll <= 6; roll++) {
+            moveStrategy.evaluateMoves(player, roll, player.legalMoveMask(roll), players, scores);
+            blackhole.consume(scores);
+        }
+    }
+}
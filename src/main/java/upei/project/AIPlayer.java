@@ -1,9 +1,8 @@
 package upei.project;
 
-import java.awt.*;
+import java.awt.Color;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
 
 /**
  * Represents an AI player in the Ludo game that uses different strategies to make moves.
@@ -12,11 +11,16 @@ import java.util.Random;
  * - Strategy-based decision making
  * - Game state tracking
  *
- * The AI player can use different strategies (Aggressive, Defensive, Balanced) to:
+ * The AI player can use any strategy of the {@link StrategyRegistry}, such as
+ * Aggressive, Defensive, Balanced, Heuristic, Expectimax or MCTS, to:
  * - Evaluate potential moves
  * - Prioritize piece movement
  * - React to game situations
  *
+ * The strategy is held in {@link Player}'s move strategy field rather than
+ * a final field of its own, so {@link #setMoveStrategy(MoveStrategy)} can
+ * still replace it after construction.
+ *
  * Performance statistics are tracked including:
  * - Number of moves made
  * - Captures achieved
@@ -28,11 +32,10 @@ import java.util.Random;
  * @see MoveStrategy
  */
 public class AIPlayer extends Player {
-    private final Random random = new Random();
     private int capturesMade = 0;
     private int movesCount = 0;
     private List<Player> allPlayers;
-    private String strategy;
+    private final String strategy;
     private static final int MOVE_DELAY = 500;
 
     /**
@@ -41,11 +44,60 @@ public class AIPlayer extends Player {
      * @param name     the player's name
      * @param color    the player's color
      * @param pieces   the player's pieces
-     * @param strategy the player's strategy (Aggressive, Defensive, Balanced)
+     * @param strategy the name of a registered strategy (Aggressive, Defensive, Balanced, Heuristic, Expectimax, MCTS)
+     * @throws IllegalArgumentException if no strategy is registered under the name
+     */
+    public AIPlayer(String name, PlayerColor color, List<Piece> pieces, String strategy) {
+        this(name, color, pieces, StrategyRegistry.create(strategy), strategy);
+    }
+
+    /**
+     * Constructs an AI player drawn with the given AWT color, as the GUI
+     * creates them.
+     *
+     * @param name     the player's name
+     * @param color    the player's AWT color
+     * @param pieces   the player's pieces
+     * @param strategy the name of a registered strategy
+     * @throws IllegalArgumentException if the color is not a player color or no strategy is registered under the name
      */
     public AIPlayer(String name, Color color, List<Piece> pieces, String strategy) {
-        super(name, color);
-        this.pieces = pieces;
+        this(name, PieceColors.playerColor(color), pieces, strategy);
+    }
+
+    /**
+     * Constructs an AI player that evaluates its moves with the given move
+     * strategy. The strategy name reported is the simple name of its class.
+     *
+     * @param name         the player's name
+     * @param color        the player's color
+     * @param pieces       the player's pieces
+     * @param moveStrategy the strategy scoring each legal move
+     */
+    public AIPlayer(String name, PlayerColor color, List<Piece> pieces, MoveStrategy moveStrategy) {
+        this(name, color, pieces, moveStrategy, moveStrategy.getClass().getSimpleName());
+    }
+
+    /**
+     * Constructs an AI player drawn with the given AWT color that
+     * evaluates its moves with the given move strategy.
+     *
+     * @param name         the player's name
+     * @param color        the player's AWT color
+     * @param pieces       the player's pieces
+     * @param moveStrategy the strategy scoring each legal move
+     * @throws IllegalArgumentException if the color is not a player color
+     */
+    public AIPlayer(String name, Color color, List<Piece> pieces, MoveStrategy moveStrategy) {
+        this(name, PieceColors.playerColor(color), pieces, moveStrategy);
+    }
+
+    /**
+     * Constructs an AI player with the given move strategy and the name it is reported under.
+     */
+    private AIPlayer(String name, PlayerColor color, List<Piece> pieces, MoveStrategy moveStrategy, String strategy) {
+        super(name, color, pieces);
+        this.moveStrategy = moveStrategy;
         this.strategy = strategy;
     }
 
@@ -56,207 +108,120 @@ public class AIPlayer extends Player {
      * @param color  the player's color
      * @param pieces the player's pieces
      */
-    public AIPlayer(String name, Color color, List<Piece> pieces) {
+    public AIPlayer(String name, PlayerColor color, List<Piece> pieces) {
         this(name, color, pieces, "Balanced");
     }
 
+    /**
+     * Constructs an AI player drawn with the given AWT color, using the default Balanced strategy.
+     *
+     * @param name   the player's name
+     * @param color  the player's AWT color
+     * @param pieces the player's pieces
+     * @throws IllegalArgumentException if the color is not a player color
+     */
+    public AIPlayer(String name, Color color, List<Piece> pieces) {
+        this(name, PieceColors.playerColor(color), pieces);
+    }
+
     /**
      * Constructs an AI player with the given name, color, and board, using the default Balanced strategy.
      *
      * @param name  the player's name
      * @param color the player's color
-     * @param board the game board
+     * @param board the game board (a headless {@link GameBoard} or a {@link BoardPanel})
      */
-    public AIPlayer(String name, Color color, BoardPanel board) {
-        super(name, color);
+    public AIPlayer(String name, PlayerColor color, Board board) {
+        this(name, color, createPieces(color, board), "Balanced");
+    }
+
+    /**
+     * Constructs an AI player drawn with the given AWT color on a board,
+     * using the default Balanced strategy.
+     *
+     * @param name  the player's name
+     * @param color the player's AWT color
+     * @param board the game board (a headless {@link GameBoard} or a {@link BoardPanel})
+     * @throws IllegalArgumentException if the color is not a player color
+     */
+    public AIPlayer(String name, Color color, Board board) {
+        this(name, PieceColors.playerColor(color), board);
+    }
 
-        // Initialize pieces
+    /**
+     * Creates the four pieces of a player in base.
+     */
+    private static List<Piece> createPieces(PlayerColor color, Board board) {
         List<Piece> pieces = new ArrayList<>();
         for (int i = 0; i < 4; i++) {
             pieces.add(new Piece(color, board));
         }
-        this.pieces = pieces;
-        this.strategy = "Balanced"; // Default strategy
+        return pieces;
     }
 
     /**
-     * Makes a move based on the given die roll and game state.
+     * Gets the name of the strategy this player was created with: the
+     * registered name, or the class name of a strategy passed directly.
      *
-     * @param dieRoll    the result of the die roll
-     * @param allPlayers the list of all players in the game
+     * @return the strategy name
      */
-    @Override
-    public void makeMove(int dieRoll, List<Player> allPlayers) {
-        this.allPlayers = allPlayers;
-        MoveResult result = attemptMove(dieRoll);
-        if (result.wasSuccessful()) {
-            movesCount++;
-            if (result.didCapture()) {
-                capturesMade++;
-            }
-        }
+    public String getStrategyName() {
+        return strategy;
     }
 
     /**
-     * Selects the best piece to move based on the given die roll and game state.
+     * Makes a move based on the given die roll and game state.
      *
      * @param dieRoll    the result of the die roll
      * @param allPlayers the list of all players in the game
-     * @return the best piece to move, or null if no move is possible
      */
-    private Piece selectBestMove(int dieRoll, List<Player> allPlayers) {
-        Piece bestPiece = null;
-        int bestScore = Integer.MIN_VALUE;
-
-        for (Piece piece : pieces) {
-            try {
-                piece.validateMove(dieRoll);
-                int score = evaluateMove(piece, dieRoll);
-                if (score > bestScore) {
-                    bestScore = score;
-                    bestPiece = piece;
-                }
-            } catch (InvalidMoveException ignored) {
-                // Skip invalid moves
-            }
-        }
-
-        return bestPiece;
+    @Override
+    public void makeMove(int dieRoll, List<Player> allPlayers) {
+        playTurn(dieRoll, allPlayers);
     }
 
     /**
-     * Evaluates the potential move of a piece based on the given die roll and game state.
+     * Makes the best move for the given die roll and reports it directly,
+     * updating the move and capture counts.
      *
-     * @param piece     the piece to evaluate
-     * @param dieRoll   the result of the die roll
-     * @return the score of the potential move
+     * @param dieRoll    the result of the die roll
+     * @param allPlayers the list of all players in the game
+     * @return the packed outcome, or {@link TurnOutcome#NONE} if no move was possible
      */
     @Override
-    protected int evaluateMove(Piece piece, int dieRoll) {
-        // Base case: always try to get pieces out with a 6
-        if (piece.isAtHome() && dieRoll == 6) return 2000;
-
-        if (piece.hasReachedHome()) return -1;
-
-        Node targetNode = piece.simulateMove(dieRoll);
-        if (targetNode == null) return -1;
-
-        int score = 0;
-        int strategyMultiplier = 1;
-
-        // Count pieces already home
-        int piecesHome = (int) pieces.stream().filter(Piece::hasReachedHome).count();
-
-        // Apply strategy-specific multipliers
-        switch (strategy) {
-            case "Aggressive":
-                strategyMultiplier = 2;
-                break;
-            case "Defensive":
-                strategyMultiplier = piecesHome >= 2 ? 2 : 1;
-                break;
-            case "Balanced":
-                strategyMultiplier = piecesHome >= 1 ? 2 : 1;
-                break;
-        }
-
-        // Count pieces out of home
-        int piecesOut = (int) pieces.stream()
-                .filter(p -> !p.isAtHome() && !p.hasReachedHome())
-                .count();
-
-        // Strongly encourage getting pieces out early game
-        if (piecesOut < 2 && !piece.isAtHome()) {
-            score += 500;
-        }
-
-        // Prioritize moves that get closer to home
-        score += (52 - piece.getDistanceFromHome()) * 20;
-
-        // Extra points for getting very close to home
-        if (piece.getDistanceFromHome() < 10) {
-            score += 200;
-        }
-
-        // Bonus for landing on safe spots
-        if (targetNode.isSafeSpot()) {
-            score += 100;
-        }
-
-        // Strategy-specific scoring for captures
-        if (!targetNode.isEmpty() && !targetNode.isSafeSpot()) {
-            for (Piece otherPiece : targetNode.getPieces()) {
-                if (otherPiece.getColor() != piece.getColor()) {
-                    score += 200 * strategyMultiplier;
-                }
-            }
-        }
-
-        // Reduced penalty for moving into danger
-        for (Player player : allPlayers) {
-            if (player.getColor() != piece.getColor()) {
-                for (Piece otherPiece : player.getPieces()) {
-                    if (!otherPiece.isAtHome() && !otherPiece.hasReachedHome()) {
-                        Node otherNode = otherPiece.getCurrentNode();
-                        if (otherNode != null) {
-                            int distance = getNodeDistance(otherNode, targetNode);
-                            if (distance >= 1 && distance <= 6) {
-                                score -= (7 - distance) * 10;
-                            }
-                        }
-                    }
-                }
+    public int playTurn(int dieRoll, List<Player> allPlayers) {
+        this.allPlayers = allPlayers;
+        int outcome = attemptMove(dieRoll);
+        if (TurnOutcome.moved(outcome)) {
+            movesCount++;
+            if (TurnOutcome.captures(outcome) > 0) {
+                capturesMade++;
             }
         }
-
-        // Extra bonus for moves that would win the game
-        if (piece.getDistanceFromHome() <= dieRoll) {
-            score += 1000;
-        }
-
-        return score;
-    }
-
-    /**
-     * Calculates the distance between two nodes on the board.
-     *
-     * @param start the starting node
-     * @param end   the ending node
-     * @return the distance between the nodes, or -1 if the nodes are not connected
-     */
-    private int getNodeDistance(Node start, Node end) {
-        int distance = 0;
-        Node current = start;
-        while (current != null && current != end && distance < 52) {
-            current = current.getNext(color);
-            distance++;
-        }
-        return current == end ? distance : -1;
+        return outcome;
     }
 
     /**
      * Attempts to make a move based on the given die roll and game state.
      *
      * @param dieRoll the result of the die roll
-     * @return the result of the move attempt
+     * @return the packed outcome of the move, or {@link TurnOutcome#NONE}
      */
-    private MoveResult attemptMove(int dieRoll) {
-        Piece bestPiece = selectBestMove(dieRoll, allPlayers);
-        if (bestPiece != null) {
-            try {
-                final Piece finalBestPiece = bestPiece;
-                Node targetNode = finalBestPiece.simulateMove(dieRoll);
-                boolean willCapture = !targetNode.isEmpty() &&
-                        targetNode.getPieces().stream()
-                                .anyMatch(p -> p.getColor() != finalBestPiece.getColor());
-                finalBestPiece.move(dieRoll);
-                return new MoveResult(true, willCapture);
-            } catch (InvalidMoveException e) {
-                return new MoveResult(false, false);
-            }
+    private int attemptMove(int dieRoll) {
+        // Every legal move is scored in one call to the player's move strategy
+        int bestIndex = bestMoveIndex(dieRoll, allPlayers);
+        if (bestIndex < 0) {
+            return TurnOutcome.NONE;
+        }
+        Piece bestPiece = pieces.get(bestIndex);
+        int from = bestPiece.getState().getSquare(bestPiece.getSlot());
+        try {
+            int captured = bestPiece.move(dieRoll);
+            return TurnOutcome.of(bestIndex, from, bestPiece.getState().getSquare(bestPiece.getSlot()),
+                Integer.bitCount(captured), dieRoll);
+        } catch (InvalidMoveException e) {
+            return TurnOutcome.NONE;
         }
-
-        return new MoveResult(false, false);
     }
 
     /**
@@ -299,33 +264,10 @@ public class AIPlayer extends Player {
     }
 
     /**
-     * Represents the result of a move attempt.
+     * Clears the move and capture counts before the player starts a new game.
      */
-    private static class MoveResult {
-        private final boolean success;
-        private final boolean captured;
-
-        MoveResult(boolean success, boolean captured) {
-            this.success = success;
-            this.captured = captured;
-        }
-
-        /**
-         * Returns whether the move was successful.
-         *
-         * @return true if the move was successful, false otherwise
-         */
-        boolean wasSuccessful() {
-            return success;
-        }
-
-        /**
-         * Returns whether a capture was made during the move.
-         *
-         * @return true if a capture was made, false otherwise
-         */
-        boolean didCapture() {
-            return captured;
-        }
+    public void resetCounts() {
+        capturesMade = 0;
+        movesCount = 0;
     }
 }
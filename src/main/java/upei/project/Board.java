@@ -0,0 +1,47 @@
+package upei.project;
+
+import java.util.List;
+
+/**
+ * Logical view of a Ludo board shared by the headless engine and the GUI.
+ * A board exposes the {@link GameState} its pieces are stored in together
+ * with the {@link Node} objects used to present that state.
+ *
+ * Implemented by {@link GameBoard} for headless play and by
+ * {@link BoardPanel}, which renders a {@link GameBoard} in Swing.
+ *
+ * @author UPEI Project Team
+ * @version 1.0
+ * @see GameState
+ */
+public interface Board {
+    /**
+     * Gets the game state holding the position of every piece on this board.
+     *
+     * @return The board's game state
+     */
+    GameState getState();
+
+    /**
+     * Gets the node representing a square of the game state.
+     *
+     * @param square Square index (see {@link GameState})
+     * @return Node for the square, or null for base, home or invalid squares
+     */
+    Node getNode(int square);
+
+    /**
+     * Finds a node at a specific position on the board.
+     *
+     * @param position Position to find (0-51 for main track, 300+ for home stretches)
+     * @return Node at the specified position, or null if not found
+     */
+    Node getNodeAtPosition(int position);
+
+    /**
+     * Gets the main track nodes of the board.
+     *
+     * @return List of main track nodes
+     */
+    List<Node> getNodes();
+}
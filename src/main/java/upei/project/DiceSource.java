@@ -0,0 +1,96 @@
+package upei.project;
+
+import java.util.SplittableRandom;
+
+/**
+ * Source of die rolls for a single game.
+ * Every game owns its dice, so games never share a generator and can be
+ * played on any thread without contention.
+ *
+ * Simulation campaigns are seeded once. The dice of game i of a campaign
+ * are derived from the campaign seed and i alone, so any game of a large
+ * parallel run can be replayed on its own with
+ * {@link #forGame(long, long)}, independent of how many games were played
+ * before it or on which thread.
+ *
+ * This interface is designed to be implemented using lambda expressions,
+ * e.g. to script the rolls of a test game.
+ *
+ * @author UPEI Project Team
+ * @version 1.0
+ * @see SimulationExperiment
+ * @see ParallelSimulation
+ */
+@FunctionalInterface
+public interface DiceSource {
+    /** Increment between the seeds of consecutive games (the golden ratio gamma of SplitMix64) */
+    long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    /**
+     * Rolls the die.
+     *
+     * @return A value from 1 to 6
+     */
+    int roll();
+
+    /**
+     * Creates dice seeded with a fixed value.
+     *
+     * @param seed Seed of the dice
+     * @return Dice that roll the same sequence for the same seed
+     */
+    static DiceSource seeded(long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        return () -> random.nextInt(1, 7);
+    }
+
+    /**
+     * Creates unseeded dice for interactive games.
+     *
+     * @return Dice with an unpredictable sequence
+     */
+    static DiceSource unseeded() {
+        SplittableRandom random = new SplittableRandom();
+        return () -> random.nextInt(1, 7);
+    }
+
+    /**
+     * Creates the antithetic twin of a set of dice: every roll r of the
+     * given dice becomes 7 - r. The twin rolls each value equally often,
+     * but high rolls of one game are low rolls of the other, which lowers
+     * the variance of averages over both games.
+     *
+     * @param dice Dice to mirror
+     * @return Dice rolling 7 minus each roll of the given dice
+     */
+    static DiceSource antithetic(DiceSource dice) {
+        return () -> 7 - dice.roll();
+    }
+
+    /**
+     * Creates the dice of one game of a campaign.
+     *
+     * @param campaignSeed Seed of the campaign
+     * @param gameIndex Index of the game within the campaign
+     * @return The game's dice
+     */
+    static DiceSource forGame(long campaignSeed, long gameIndex) {
+        return seeded(gameSeed(campaignSeed, gameIndex));
+    }
+
+    /**
+     * Derives the seed of one game of a campaign. The game index is spread
+     * along the SplitMix64 sequence and mixed, so neighbouring games and
+     * neighbouring campaigns get unrelated streams.
+     *
+     * @param campaignSeed Seed of the campaign
+     * @param gameIndex Index of the game within the campaign
+     * @return Seed for the game's dice
+     */
+    static long gameSeed(long campaignSeed, long gameIndex) {
+        long z = campaignSeed + (gameIndex + 1) * GOLDEN_GAMMA;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
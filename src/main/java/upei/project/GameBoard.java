@@ -0,0 +1,150 @@
+package upei.project;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Headless Ludo board: the node graph of the board together with the
+ * {@link GameState} holding every piece position.
+ * The board, its nodes and the game state work on {@link PlayerColor}s
+ * only, so simulations can create and play boards without loading Swing
+ * or AWT. The AWT colors of the GUI are mapped in {@link PieceColors}.
+ *
+ * The board consists of:
+ * - Main track (52 nodes, positions 0-51)
+ * - Home stretches for each color (5 nodes each)
+ * - Safe spots where pieces cannot be captured
+ *
+ * Node coordinates follow the 15x15 tile layout drawn by {@link BoardPanel}.
+ *
+ * @author UPEI Project Team
+ * @version 1.0
+ * @see BoardPanel
+ * @see GameState
+ */
+public class GameBoard implements Board {
+    /** Size of each board tile in pixels */
+    public static final int TILE_SIZE = 40;
+
+    /** List of main track nodes */
+    private final List<Node> nodes;
+
+    /** Nodes indexed by game state square */
+    private final Node[] squares;
+
+    /** Positions of all pieces on this board */
+    private final GameState state;
+
+    /**
+     * Creates a new board with all nodes connected and every piece slot empty.
+     */
+    public GameBoard() {
+        this.nodes = new ArrayList<>();
+        this.squares = new Node[GameState.NUM_SQUARES];
+        this.state = new GameState();
+        initializeNodes();
+    }
+
+    /**
+     * Initializes all nodes on the board and their connections.
+     * Creates and connects:
+     * - Main track nodes (0-51)
+     * - Home stretch paths for each color
+     * - Safe spots at strategic positions
+     */
+    private void initializeNodes() {
+        // Main track nodes (0-51)
+        for (int i = 0; i < GameState.MAIN_TRACK_SIZE; i++) {
+            int x, y;
+            // Calculate x,y coordinates based on position
+            if (i < 13) {
+                x = (6 + i) * TILE_SIZE;
+                y = 6 * TILE_SIZE;
+            } else if (i < 26) {
+                x = 14 * TILE_SIZE;
+                y = ((i - 13) + 6) * TILE_SIZE;
+            } else if (i < 39) {
+                x = (14 - (i - 26)) * TILE_SIZE;
+                y = 14 * TILE_SIZE;
+            } else {
+                x = 6 * TILE_SIZE;
+                y = (14 - (i - 39)) * TILE_SIZE;
+            }
+            Node node = new Node(i, x, y, GameState.isSafe(i));
+            nodes.add(node);
+            squares[i] = node;
+        }
+
+        // First connect all nodes in the main track
+        for (int i = 0; i < nodes.size(); i++) {
+            nodes.get(i).setNext(nodes.get((i + 1) % nodes.size()));
+        }
+
+        // Then add home stretch paths (BLUE, GREEN, YELLOW, RED)
+        addHomeStretch(0, 6, 7, true);
+        addHomeStretch(1, 8, 6, false);
+        addHomeStretch(2, 14, 8, true);
+        addHomeStretch(3, 7, 14, false);
+    }
+
+    /**
+     * Creates and connects a home stretch path for a specific color.
+     * Each home stretch consists of 5 nodes leading to the final home position.
+     *
+     * @param color Color index of the home stretch
+     * @param startX X-coordinate of first home stretch node
+     * @param startY Y-coordinate of first home stretch node
+     * @param horizontal true if home stretch extends horizontally, false for vertical
+     */
+    private void addHomeStretch(int color, int startX, int startY, boolean horizontal) {
+        Node start = nodes.get(GameState.HOME_ENTRIES[color]);
+        int firstSquare = GameState.MAIN_TRACK_SIZE + color * GameState.HOME_STRETCH_SIZE;
+
+        // Create and connect home stretch nodes
+        Node[] homeNodes = new Node[GameState.HOME_STRETCH_SIZE];
+        for (int i = 0; i < homeNodes.length; i++) {
+            int x = horizontal ? (startX + i) * TILE_SIZE : startX * TILE_SIZE;
+            int y = horizontal ? startY * TILE_SIZE : (startY + i) * TILE_SIZE;
+            homeNodes[i] = new Node(GameState.positionOf(firstSquare + i), x, y, true);
+            squares[firstSquare + i] = homeNodes[i];
+            if (i > 0) {
+                homeNodes[i - 1].setNext(homeNodes[i]);
+            }
+        }
+
+        // Set the home path next for the entry node
+        // This preserves the main track connection set earlier
+        start.setHomePathNext(homeNodes[0]);
+    }
+
+    /**
+     * Returns every piece to base and clears the nodes, so the board can
+     * be played again. The nodes and the pieces' slots are kept.
+     */
+    public void reset() {
+        state.reset();
+        for (Node node : squares) {
+            node.clearPieces();
+        }
+    }
+
+    @Override
+    public GameState getState() {
+        return state;
+    }
+
+    @Override
+    public Node getNode(int square) {
+        return square >= 0 && square < squares.length ? squares[square] : null;
+    }
+
+    @Override
+    public Node getNodeAtPosition(int position) {
+        return getNode(GameState.squareOf(position));
+    }
+
+    @Override
+    public List<Node> getNodes() {
+        return nodes;
+    }
+}
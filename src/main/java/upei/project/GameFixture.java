@@ -0,0 +1,97 @@
+package upei.project;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reusable board, pieces and players for simulated games.
+ * Building a game allocates a board of 72 nodes, 16 pieces and 4 players;
+ * a fixture builds them once and starts every further game by resetting
+ * the board in place, so long simulation campaigns allocate almost
+ * nothing per game.
+ *
+ * The players are kept while consecutive games use the same strategies
+ * and are rebuilt, on the same pieces, when the strategies change. Kept
+ * players also keep their strategy instances: the rule based strategies
+ * hold no state, and the search strategies only keep caches that stay
+ * valid from one game to the next.
+ *
+ * A fixture is not thread safe; each worker thread uses its own.
+ *
+ * @author UPEI Project Team
+ * @version 1.0
+ * @see SimulationExperiment
+ * @see ParallelSimulation
+ */
+public class GameFixture {
+    /** Colors of the seats, in playing order */
+    private static final PlayerColor[] SEAT_COLORS = {
+        PlayerColor.RED, PlayerColor.BLUE, PlayerColor.GREEN, PlayerColor.YELLOW};
+
+    /** Board shared by every game of the fixture */
+    private final GameBoard board;
+
+    /** Pieces of each seat, created once on the board */
+    private final List<List<Piece>> seatPieces;
+
+    /** Players of the current strategies */
+    private final List<Player> players;
+
+    /** Strategies the players were built with, or null before the first game */
+    private List<String> strategies;
+
+    /**
+     * Creates a fixture with a new board and every piece in base.
+     */
+    public GameFixture() {
+        this.board = new GameBoard();
+        this.seatPieces = new ArrayList<>(SEAT_COLORS.length);
+        for (PlayerColor color : SEAT_COLORS) {
+            List<Piece> pieces = new ArrayList<>(GameState.PIECES_PER_COLOR);
+            for (int i = 0; i < GameState.PIECES_PER_COLOR; i++) {
+                pieces.add(new Piece(color, board));
+            }
+            seatPieces.add(pieces);
+        }
+        this.players = new ArrayList<>(SEAT_COLORS.length);
+    }
+
+    /**
+     * Prepares a new game: every piece returns to base, the first seat
+     * has the turn and the players' counts start from zero.
+     *
+     * @param strategies Strategies of the players, one per seat
+     * @return The players, in seat order
+     * @throws IllegalArgumentException if a strategy is not registered
+     */
+    public List<Player> newGame(List<String> strategies) {
+        board.reset();
+        if (strategies.equals(this.strategies)) {
+            for (Player player : players) {
+                ((AIPlayer) player).resetCounts();
+            }
+            return players;
+        }
+
+        this.strategies = null;
+        players.clear();
+        for (int i = 0; i < SEAT_COLORS.length; i++) {
+            String strategy = strategies.get(i);
+            players.add(new AIPlayer(strategy + (i + 1), SEAT_COLORS[i], seatPieces.get(i), strategy));
+        }
+        for (Player player : players) {
+            player.setAllPlayers(players);
+        }
+        this.strategies = List.copyOf(strategies);
+        return players;
+    }
+
+    /**
+     * Gets the board of the fixture.
+     *
+     * @return The board
+     */
+    public GameBoard getBoard() {
+        return board;
+    }
+}
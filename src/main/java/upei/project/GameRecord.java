@@ -0,0 +1,156 @@
+package upei.project;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Detailed record of one simulated game, as written by a {@link ResultSink}.
+ * Holds:
+ * - The campaign seed and game index the game's dice were derived from
+ * - The line-up and finishing order
+ * - The number of turns played
+ * - The captures made by each seat
+ * - The turn each piece reached home, per seat
+ *
+ * A record is meant to be reused: each worker fills the same instance
+ * game after game, and readers pass the same instance for every record
+ * they read, so streaming over many records keeps memory constant.
+ *
+ * @author UPEI Project Team
+ * @version 1.0
+ * @see ResultSink
+ * @see SimulationExperiment#playGame(GameFixture, List, DiceSource, GameRecord)
+ */
+public class GameRecord {
+    /** Number of seats at the board */
+    public static final int SEATS = 4;
+
+    /** Finish turn of a piece that did not reach home */
+    public static final int NOT_FINISHED = -1;
+
+    private long campaignSeed;
+    private long gameIndex;
+    private List<String> strategies = List.of();
+    private int placings;
+    private int turns;
+    private final int[] captures = new int[SEATS];
+    private final int[] finishTurns = new int[SEATS * GameState.PIECES_PER_COLOR];
+
+    /**
+     * Starts a new game: sets where its dice come from and clears the
+     * captures and finish turns.
+     *
+     * @param campaignSeed Seed of the campaign
+     * @param gameIndex Index of the game within the campaign
+     */
+    public void start(long campaignSeed, long gameIndex) {
+        this.campaignSeed = campaignSeed;
+        this.gameIndex = gameIndex;
+        Arrays.fill(captures, 0);
+        Arrays.fill(finishTurns, NOT_FINISHED);
+    }
+
+    /**
+     * Sets the outcome of the game.
+     *
+     * @param strategies Strategies of the players, one per seat
+     * @param placings Finishing order, packed as in {@link SimulationExperiment.GameResult#placings()}
+     * @param turns Number of turns played
+     */
+    void finish(List<String> strategies, int placings, int turns) {
+        this.strategies = strategies;
+        this.placings = placings;
+        this.turns = turns;
+    }
+
+    /**
+     * Sets the captures made by a seat.
+     */
+    void setCaptures(int seat, int count) {
+        captures[seat] = count;
+    }
+
+    /**
+     * Sets the turn a piece of a seat reached home.
+     */
+    void setFinishTurn(int seat, int piece, int turn) {
+        finishTurns[seat * GameState.PIECES_PER_COLOR + piece] = turn;
+    }
+
+    /**
+     * Gets the seed of the campaign the game belongs to.
+     *
+     * @return Campaign seed
+     */
+    public long getCampaignSeed() {
+        return campaignSeed;
+    }
+
+    /**
+     * Gets the index of the game within its campaign. Together with the
+     * campaign seed it gives the game's dice, {@link DiceSource#forGame(long, long)}.
+     *
+     * @return Game index
+     */
+    public long getGameIndex() {
+        return gameIndex;
+    }
+
+    /**
+     * Gets the line-up of the game.
+     *
+     * @return Strategies, one per seat
+     */
+    public List<String> getStrategies() {
+        return strategies;
+    }
+
+    /**
+     * Gets the packed finishing order.
+     *
+     * @return Finishing order, two bits per place
+     */
+    public int getPlacings() {
+        return placings;
+    }
+
+    /**
+     * Gets the seat that finished at a place.
+     *
+     * @param place Place, 0 for first
+     * @return Seat of the player
+     */
+    public int seatAt(int place) {
+        return (placings >>> (2 * place)) & 3;
+    }
+
+    /**
+     * Gets the number of turns played.
+     *
+     * @return Turns
+     */
+    public int getTurns() {
+        return turns;
+    }
+
+    /**
+     * Gets the captures made by a seat.
+     *
+     * @param seat Seat
+     * @return Number of captures
+     */
+    public int getCaptures(int seat) {
+        return captures[seat];
+    }
+
+    /**
+     * Gets the turn a piece reached home.
+     *
+     * @param seat Seat of the piece
+     * @param piece Index of the piece within its seat
+     * @return Turn the piece reached home, or {@link #NOT_FINISHED}
+     */
+    public int getFinishTurn(int seat, int piece) {
+        return finishTurns[seat * GameState.PIECES_PER_COLOR + piece];
+    }
+}
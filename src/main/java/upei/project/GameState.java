@@ -0,0 +1,1040 @@
+package upei.project;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Headless, primitive-array representation of a Ludo game in progress.
+ * The game state holds everything the rules need to play a game without
+ * any Swing or per-node object graph:
+ * - The square each of the 16 pieces occupies (base, board or home)
+ * - A bit mask of pieces that have reached home
+ * - An occupancy index: a bit mask of the slots standing on each square
+ * - The index of the seat whose turn it is
+ *
+ * Pieces are stored in fixed slots: slot = colorIndex * 4 + pieceNumber,
+ * so the four pieces of a color always occupy a contiguous group of bits
+ * in the masks. Squares are numbered 0-51 for the main track followed by
+ * five home stretch squares per color (52 + colorIndex * 5 + step).
+ *
+ * Move application, capture and win detection operate directly on these
+ * arrays. The occupancy index is kept up to date on every move and every
+ * return to base, so finding the pieces on a square, and therefore every
+ * capture, costs a single array read. {@link GameBoard} and {@link BoardPanel} provide the node based
+ * view on top of this state.
+ *
+ * Every position also has a 64-bit Zobrist key for caching search results.
+ * Each color and square has a random key, and the key of the pieces is the
+ * sum of the keys of the squares the pieces stand on, so pieces of one
+ * color are interchangeable and two pieces sharing a square do not cancel
+ * out. The sum is updated on every move and capture; the key of the seat
+ * to move is mixed in when the key is read.
+ *
+ * A threat map records, for every main track square and every color, how
+ * many of the color's pieces stand 1 to 6 steps behind the square along
+ * their own path, and how many wait in base to enter on their start
+ * square. It is updated whenever a piece is placed, so asking how exposed
+ * a square is costs a few array reads instead of walking the board.
+ *
+ * Each color also has a bitboard: one long with bit s set when a piece of
+ * the color stands on main track square s (0-51) and bit 52 + step for its
+ * own home stretch. Shifting a bitboard by a roll gives every square the
+ * color can land on, and masking it with the other colors' boards and the
+ * constant safe square board gives every capture, in a few bitwise ops.
+ *
+ * Searches try moves with {@link #makeMove} and take them back with
+ * {@link #unmakeMove}. Each made move is recorded on an undo stack as one
+ * packed int (mover, square it left, pieces it captured), which is all
+ * that is needed to restore the squares, occupancy index, home flags and
+ * key exactly, so a search can explore any number of positions on one
+ * game state without copying or allocating.
+ *
+ * @author UPEI Project Team
+ * @version 1.0
+ * @see GameBoard
+ * @see Piece
+ */
+public class GameState {
+    /** Number of colors (players) in a game */
+    public static final int NUM_COLORS = 4;
+
+    /** Number of pieces owned by each color */
+    public static final int PIECES_PER_COLOR = 4;
+
+    /** Total number of piece slots */
+    public static final int MAX_PIECES = NUM_COLORS * PIECES_PER_COLOR;
+
+    /** Number of squares on the main track */
+    public static final int MAIN_TRACK_SIZE = 52;
+
+    /** Number of squares in each color's home stretch */
+    public static final int HOME_STRETCH_SIZE = 5;
+
+    /** Total number of squares on the board */
+    public static final int NUM_SQUARES = MAIN_TRACK_SIZE + NUM_COLORS * HOME_STRETCH_SIZE;
+
+    /** Square code for a piece waiting in its base */
+    public static final int BASE = -1;
+
+    /** Square code for a piece that has reached home */
+    public static final int HOME = NUM_SQUARES;
+
+    /** Result code for a move that cannot be made */
+    public static final int NO_MOVE = -2;
+
+    /** Move check result: the move is legal */
+    public static final int MOVE_OK = 0;
+
+    /** Move check result: the number of steps is not positive */
+    public static final int MOVE_INVALID_STEPS = 1;
+
+    /** Move check result: the piece has already reached home */
+    public static final int MOVE_ALREADY_HOME = 2;
+
+    /** Move check result: the piece is in base and the roll is not a 6 */
+    public static final int MOVE_NEEDS_SIX = 3;
+
+    /** Move check result: the move would run off the piece's path */
+    public static final int MOVE_BEYOND_BOARD = 4;
+
+    /** Main track squares where each color enters the board */
+    static final int[] START_SQUARES = new int[NUM_COLORS];
+
+    /** Main track squares where each color turns into its home stretch */
+    static final int[] HOME_ENTRIES = new int[NUM_COLORS];
+
+    /** Node positions at which home stretches are numbered from */
+    private static final int HOME_POSITION_OFFSET = 300;
+
+    /** Safe squares where pieces cannot be captured */
+    private static final boolean[] SAFE = new boolean[NUM_SQUARES];
+
+    /** Color index whose home entry is at each main track square, or -1 */
+    private static final int[] ENTRY_COLORS = new int[MAIN_TRACK_SIZE];
+
+    static {
+        Arrays.fill(ENTRY_COLORS, -1);
+        for (PlayerColor color : PlayerColor.values()) {
+            START_SQUARES[color.index()] = color.getStartSquare();
+            HOME_ENTRIES[color.index()] = color.getHomeEntry();
+            ENTRY_COLORS[color.getHomeEntry()] = color.index();
+        }
+        for (int square : new int[]{0, 13, 26, 39, 8, 21, 34, 47}) {
+            SAFE[square] = true;
+        }
+        for (int square = MAIN_TRACK_SIZE; square < NUM_SQUARES; square++) {
+            SAFE[square] = true;
+        }
+    }
+
+    /** Number of square codes per color in the key table: base, the board and home */
+    private static final int KEY_SQUARES = NUM_SQUARES + 2;
+
+    /** Seed of the Zobrist keys; fixed so keys are the same in every run */
+    private static final long KEY_SEED = 0x4C75646F4B657973L;
+
+    /** Zobrist key of a piece of each color on each square, indexed by color * KEY_SQUARES + square + 1 */
+    private static final long[] PIECE_KEYS = new long[NUM_COLORS * KEY_SQUARES];
+
+    /** Zobrist key of each seat to move */
+    private static final long[] TURN_KEYS = new long[NUM_COLORS];
+
+    static {
+        SplittableRandom random = new SplittableRandom(KEY_SEED);
+        for (int i = 0; i < PIECE_KEYS.length; i++) {
+            PIECE_KEYS[i] = random.nextLong();
+        }
+        for (int i = 0; i < TURN_KEYS.length; i++) {
+            TURN_KEYS[i] = random.nextLong();
+        }
+    }
+
+    /** Bitboard of the main track squares */
+    public static final long MAIN_BOARD = (1L << MAIN_TRACK_SIZE) - 1;
+
+    /** Bitboard of a color's home stretch squares */
+    public static final long STRETCH_BOARD = ((1L << HOME_STRETCH_SIZE) - 1) << MAIN_TRACK_SIZE;
+
+    /** Bitboard of the safe squares, including the home stretch */
+    public static final long SAFE_BOARD;
+
+    /** Bitboard of the start squares where pieces enter the board */
+    public static final long START_BOARD;
+
+    /** Bitboard of the home entries where pieces turn into their home stretch */
+    public static final long HOME_ENTRY_BOARD;
+
+    /** Home stretch squares a move can stop on; a move reaching the last one goes home */
+    private static final long LANDING_STRETCH_BOARD = STRETCH_BOARD & ~(1L << (MAIN_TRACK_SIZE + HOME_STRETCH_SIZE - 1));
+
+    /** Bits per distance in a packed threat count */
+    private static final int THREAT_BITS = 4;
+
+    /** Number of main track squares ahead of each color's piece on each square that it threatens */
+    private static final int[] THREAT_REACH = new int[NUM_COLORS * MAIN_TRACK_SIZE];
+
+    /** Squares from which each color turns into its home stretch with each roll */
+    private static final long[] CROSSING_BOARDS = new long[NUM_COLORS * (MoveTable.MAX_ROLL + 1)];
+
+    /** Squares from which each color's pieces can reach each main track square with one roll */
+    private static final long[] HIT_BOARDS = new long[NUM_COLORS * MAIN_TRACK_SIZE];
+
+    static {
+        for (int color = 0; color < NUM_COLORS; color++) {
+            for (int square = 0; square < MAIN_TRACK_SIZE; square++) {
+                // Pieces turn into their home stretch after their home entry
+                // and cannot wrap around the end of the main track
+                int toEntry = (HOME_ENTRIES[color] - square + MAIN_TRACK_SIZE) % MAIN_TRACK_SIZE;
+                int toEnd = MAIN_TRACK_SIZE - 1 - square;
+                THREAT_REACH[color * MAIN_TRACK_SIZE + square] =
+                    Math.min(MoveTable.MAX_ROLL, Math.min(toEntry, toEnd));
+            }
+        }
+
+        long safe = STRETCH_BOARD;
+        long starts = 0;
+        long entries = 0;
+        for (int square = 0; square < MAIN_TRACK_SIZE; square++) {
+            if (SAFE[square]) {
+                safe |= 1L << square;
+            }
+        }
+        for (int color = 0; color < NUM_COLORS; color++) {
+            starts |= 1L << START_SQUARES[color];
+            entries |= 1L << HOME_ENTRIES[color];
+        }
+        SAFE_BOARD = safe;
+        START_BOARD = starts;
+        HOME_ENTRY_BOARD = entries;
+
+        for (int color = 0; color < NUM_COLORS; color++) {
+            int entry = HOME_ENTRIES[color];
+            for (int roll = 1; roll <= MoveTable.MAX_ROLL; roll++) {
+                long crossing = 0;
+                for (int square = Math.max(0, entry - roll + 1); square <= entry; square++) {
+                    crossing |= 1L << square;
+                }
+                CROSSING_BOARDS[color * (MoveTable.MAX_ROLL + 1) + roll] = crossing;
+            }
+            for (int square = 0; square < MAIN_TRACK_SIZE; square++) {
+                int reach = THREAT_REACH[color * MAIN_TRACK_SIZE + square];
+                for (int distance = 1; distance <= reach; distance++) {
+                    HIT_BOARDS[color * MAIN_TRACK_SIZE + square + distance] |= 1L << square;
+                }
+            }
+        }
+    }
+
+    /** Square occupied by each piece slot */
+    private final byte[] squares = new byte[MAX_PIECES];
+
+    /** Progress index of each piece slot along its color's path, kept in step with {@link #squares} */
+    private final byte[] progress = new byte[MAX_PIECES];
+
+    /** Bit mask of the slots standing on each square */
+    private final int[] occupants = new int[NUM_SQUARES];
+
+    /** Bit mask of slots that have been assigned to a piece */
+    private int pieceMask;
+
+    /** Bit mask of slots whose piece has reached home */
+    private int homeMask;
+
+    /** Index of the seat whose turn it is */
+    private int turn;
+
+    /** Sum of the Zobrist keys of every assigned piece on its square */
+    private long pieceKey;
+
+    /**
+     * Pieces of each color 1-6 steps behind each main track square, indexed
+     * by color * MAIN_TRACK_SIZE + square, one 4-bit count per distance
+     */
+    private final int[] threats = new int[NUM_COLORS * MAIN_TRACK_SIZE];
+
+    /** Sum of (7 - distance) over the pieces counted in {@link #threats} */
+    private final int[] threatWeights = new int[NUM_COLORS * MAIN_TRACK_SIZE];
+
+    /** Bit mask of assigned slots whose piece waits in base */
+    private int baseMask;
+
+    /** Bitboard of the squares each color's pieces stand on */
+    private final long[] boards = new long[NUM_COLORS];
+
+    /** Initial capacity of the undo stack, in moves */
+    private static final int UNDO_CAPACITY = 64;
+
+    /** Shift of the square a move left in an undo record */
+    private static final int UNDO_FROM_SHIFT = 4;
+
+    /** Shift of the captured slots in an undo record */
+    private static final int UNDO_CAPTURED_SHIFT = 11;
+
+    /** Moves made with {@link #makeMove} and not yet taken back; allocated on first use */
+    private int[] undoStack;
+
+    /** Number of moves on the undo stack */
+    private int undoDepth;
+
+    /**
+     * Creates an empty game state with every slot in base.
+     */
+    public GameState() {
+        reset();
+    }
+
+    /**
+     * Creates a copy of another game state. Searches use copies to try
+     * moves without touching the game being played.
+     *
+     * @param other The game state to copy
+     */
+    public GameState(GameState other) {
+        copyFrom(other);
+    }
+
+    /**
+     * Overwrites this game state with the contents of another one.
+     * Copies a few small arrays and allocates nothing. The undo stack is
+     * emptied, since the moves on it led to the old position.
+     *
+     * @param other The game state to copy
+     */
+    public final void copyFrom(GameState other) {
+        System.arraycopy(other.squares, 0, squares, 0, MAX_PIECES);
+        System.arraycopy(other.progress, 0, progress, 0, MAX_PIECES);
+        System.arraycopy(other.occupants, 0, occupants, 0, NUM_SQUARES);
+        pieceMask = other.pieceMask;
+        homeMask = other.homeMask;
+        turn = other.turn;
+        pieceKey = other.pieceKey;
+        System.arraycopy(other.threats, 0, threats, 0, threats.length);
+        System.arraycopy(other.threatWeights, 0, threatWeights, 0, threatWeights.length);
+        baseMask = other.baseMask;
+        System.arraycopy(other.boards, 0, boards, 0, NUM_COLORS);
+        undoDepth = 0;
+    }
+
+    /**
+     * Returns every piece to base and gives the turn to the first seat.
+     * Slots that have been assigned stay assigned.
+     */
+    public final void reset() {
+        for (int slot = 0; slot < MAX_PIECES; slot++) {
+            squares[slot] = BASE;
+        }
+        Arrays.fill(progress, (byte) MoveTable.BASE_PROGRESS);
+        Arrays.fill(occupants, 0);
+        homeMask = 0;
+        turn = 0;
+        pieceKey = computePieceKey();
+        Arrays.fill(threats, 0);
+        Arrays.fill(threatWeights, 0);
+        Arrays.fill(boards, 0);
+        baseMask = pieceMask;
+        undoDepth = 0;
+    }
+
+    /**
+     * Assigns the next free slot of the given color to a new piece.
+     *
+     * @param color Color index of the piece
+     * @return The slot assigned to the piece
+     * @throws IllegalStateException if all slots for the color are in use
+     */
+    public int addPiece(int color) {
+        int free = ~(pieceMask >>> (color * PIECES_PER_COLOR)) & 0xF;
+        if (free == 0) {
+            throw new IllegalStateException("All " + PIECES_PER_COLOR + " pieces of color "
+                + color + " are already on this board");
+        }
+        int slot = color * PIECES_PER_COLOR + Integer.numberOfTrailingZeros(free);
+        pieceMask |= 1 << slot;
+        pieceKey += keyOf(color, squares[slot]);
+        baseMask |= 1 << slot;
+        return slot;
+    }
+
+    /**
+     * Returns the slots that have been assigned to a piece.
+     *
+     * @return Bit mask of assigned slots
+     */
+    public int getPieceMask() {
+        return pieceMask;
+    }
+
+    /**
+     * Returns the assigned slots whose piece waits in base.
+     *
+     * @return Bit mask of slots in base
+     */
+    public int getBaseMask() {
+        return baseMask;
+    }
+
+    /**
+     * Returns the slots whose piece has reached home.
+     *
+     * @return Bit mask of slots at home
+     */
+    public int getHomeMask() {
+        return homeMask;
+    }
+
+    /**
+     * Returns the number of a color's pieces waiting in base.
+     *
+     * @param color Color index
+     * @return Number of pieces in base
+     */
+    public int baseCount(int color) {
+        return Integer.bitCount(baseMask & colorMask(color));
+    }
+
+    /**
+     * Returns the color index of the piece in a slot.
+     *
+     * @param slot Piece slot
+     * @return Color index (0-3)
+     */
+    public static int colorOf(int slot) {
+        return slot / PIECES_PER_COLOR;
+    }
+
+    /**
+     * Returns the square occupied by the piece in a slot.
+     *
+     * @param slot Piece slot
+     * @return Square index, {@link #BASE} or {@link #HOME}
+     */
+    public int getSquare(int slot) {
+        return squares[slot];
+    }
+
+    /**
+     * Returns how far the piece in a slot has advanced along its color's path.
+     *
+     * @param slot Piece slot
+     * @return 0 in base, 1-51 on the main track, 52-56 in the home stretch, 57 home
+     */
+    public int progressOf(int slot) {
+        return progress[slot];
+    }
+
+    /**
+     * Returns the summed progress of a color's pieces.
+     *
+     * @param color Color index
+     * @return Sum of {@link #progressOf(int)} over the color's slots
+     */
+    public int totalProgress(int color) {
+        int sum = 0;
+        for (int slot = color * PIECES_PER_COLOR; slot < (color + 1) * PIECES_PER_COLOR; slot++) {
+            sum += progress[slot];
+        }
+        return sum;
+    }
+
+    /**
+     * Checks if the piece in a slot is waiting in its base.
+     *
+     * @param slot Piece slot
+     * @return true if the piece is in base
+     */
+    public boolean isInBase(int slot) {
+        return squares[slot] == BASE;
+    }
+
+    /**
+     * Checks if the piece in a slot has reached home.
+     *
+     * @param slot Piece slot
+     * @return true if the piece is home
+     */
+    public boolean isHome(int slot) {
+        return (homeMask & (1 << slot)) != 0;
+    }
+
+    /**
+     * Follows the path of a piece for the given number of steps without
+     * resolving home arrival. Leaving base needs a 6, pieces turn into their
+     * home stretch at their home entry and may not wrap backwards around the
+     * main track. Answered from the precomputed {@link MoveTable}.
+     *
+     * @param slot Piece slot
+     * @param steps Number of steps to walk
+     * @return The square reached, or {@link #NO_MOVE} if the path ends first
+     */
+    public int walk(int slot, int steps) {
+        return MoveTable.walkFrom(colorOf(slot), progress[slot], steps);
+    }
+
+    /**
+     * Returns where a move would leave a piece, resolving home arrival.
+     * Reaching the last home stretch square, or overshooting it from inside
+     * the home stretch, takes the piece home.
+     *
+     * @param slot Piece slot
+     * @param steps Number of steps to move
+     * @return The destination square, {@link #HOME}, or {@link #NO_MOVE}
+     */
+    public int target(int slot, int steps) {
+        return MoveTable.targetFrom(colorOf(slot), progress[slot], steps);
+    }
+
+    /**
+     * Checks if the piece in a slot can move the given number of steps.
+     *
+     * @param slot Piece slot
+     * @param steps Number of steps to move
+     * @return true if the move is legal
+     */
+    public boolean canMove(int slot, int steps) {
+        return target(slot, steps) != NO_MOVE;
+    }
+
+    /**
+     * Checks a move and reports why it is illegal without allocating or
+     * throwing. The checks run in the order the rules are explained to players.
+     *
+     * @param slot Piece slot
+     * @param steps Number of steps to move
+     * @return {@link #MOVE_OK} or one of the other MOVE_ result codes
+     */
+    public int checkMove(int slot, int steps) {
+        if (steps < 1) {
+            return MOVE_INVALID_STEPS;
+        }
+        int square = squares[slot];
+        if (square == HOME) {
+            return MOVE_ALREADY_HOME;
+        }
+        if (square == BASE && steps != 6) {
+            return MOVE_NEEDS_SIX;
+        }
+        return MoveTable.targetFrom(colorOf(slot), progress[slot], steps) == NO_MOVE ? MOVE_BEYOND_BOARD : MOVE_OK;
+    }
+
+    /**
+     * Returns which pieces of a color can legally move the given number of steps.
+     * Bit i of the result is set if the color's i-th slot holds a piece that can move.
+     *
+     * @param color Color index
+     * @param steps Number of steps to move
+     * @return 4-bit mask of legal moves
+     */
+    public int legalMoveMask(int color, int steps) {
+        int first = color * PIECES_PER_COLOR;
+        int mask = 0;
+        for (int i = 0; i < PIECES_PER_COLOR; i++) {
+            int slot = first + i;
+            if ((pieceMask & (1 << slot)) != 0 && target(slot, steps) != NO_MOVE) {
+                mask |= 1 << i;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Returns the slots standing on a square.
+     *
+     * @param square Square index
+     * @return Bit mask of slots on the square, 0 for base, home or invalid squares
+     */
+    public int occupantMask(int square) {
+        return square >= 0 && square < NUM_SQUARES ? occupants[square] : 0;
+    }
+
+    /**
+     * Counts the pieces of a color standing on a square.
+     *
+     * @param color Color index
+     * @param square Square index
+     * @return Number of the color's pieces on the square
+     */
+    public int countAt(int color, int square) {
+        return Integer.bitCount(occupantMask(square) & colorMask(color));
+    }
+
+    /**
+     * Returns the pieces a piece of the given color would capture by landing
+     * on a square: every opponent piece there, unless the square is safe.
+     * This is the one capture rule of the game; moves, the node view and
+     * the players all resolve captures through it.
+     *
+     * @param color Color index of the moving piece
+     * @param square Destination square
+     * @return Bit mask of the slots that would be captured
+     */
+    public int captureMask(int color, int square) {
+        if (square < 0 || square >= NUM_SQUARES) {
+            return 0;
+        }
+        return captureMask(color, occupants[square], SAFE[square]);
+    }
+
+    /**
+     * Applies the capture rule to an arbitrary set of occupants: a piece
+     * captures every opponent piece on a square that is not safe.
+     *
+     * @param color Color index of the moving piece
+     * @param occupants Bit mask of the slots on the square
+     * @param safe Whether the square is a safe spot
+     * @return Bit mask of the slots that would be captured
+     */
+    public static int captureMask(int color, int occupants, boolean safe) {
+        return safe ? 0 : occupants & ~colorMask(color);
+    }
+
+    /**
+     * Applies a move, capturing any opponent pieces on the destination.
+     *
+     * @param slot Piece slot
+     * @param steps Number of steps to move
+     * @return Bit mask of slots captured by the move, or -1 if the move is illegal
+     */
+    public int move(int slot, int steps) {
+        int to = target(slot, steps);
+        if (to == NO_MOVE) {
+            return -1;
+        }
+        int captured = captureMask(colorOf(slot), to);
+        for (int rest = captured; rest != 0; rest &= rest - 1) {
+            sendToBase(Integer.numberOfTrailingZeros(rest));
+        }
+        place(slot, to);
+        if (to == HOME) {
+            homeMask |= 1 << slot;
+        }
+        return captured;
+    }
+
+    /**
+     * Applies a move like {@link #move} and records it on the undo stack,
+     * so it can be taken back with {@link #unmakeMove}. Illegal moves
+     * change nothing and are not recorded.
+     *
+     * @param slot Piece slot
+     * @param steps Number of steps to move
+     * @return Bit mask of slots captured by the move, or -1 if the move is illegal
+     */
+    public int makeMove(int slot, int steps) {
+        int from = squares[slot];
+        int captured = move(slot, steps);
+        if (captured < 0) {
+            return captured;
+        }
+        if (undoStack == null) {
+            undoStack = new int[UNDO_CAPACITY];
+        } else if (undoDepth == undoStack.length) {
+            undoStack = Arrays.copyOf(undoStack, undoDepth * 2);
+        }
+        undoStack[undoDepth++] = slot | (from + 1) << UNDO_FROM_SHIFT | captured << UNDO_CAPTURED_SHIFT;
+        return captured;
+    }
+
+    /**
+     * Takes back the last move made with {@link #makeMove}, restoring the
+     * mover's square and home flag and returning every captured piece to
+     * the square it was captured on.
+     *
+     * @throws IllegalStateException if there is no move to take back
+     */
+    public void unmakeMove() {
+        if (undoDepth == 0) {
+            throw new IllegalStateException("No move to take back");
+        }
+        int record = undoStack[--undoDepth];
+        int slot = record & 0xF;
+        int to = squares[slot];
+        homeMask &= ~(1 << slot);
+        place(slot, ((record >>> UNDO_FROM_SHIFT) & 0x7F) - 1);
+        for (int rest = record >>> UNDO_CAPTURED_SHIFT; rest != 0; rest &= rest - 1) {
+            place(Integer.numberOfTrailingZeros(rest), to);
+        }
+    }
+
+    /**
+     * Gets the number of made moves that can still be taken back.
+     *
+     * @return Depth of the undo stack
+     */
+    public int getUndoDepth() {
+        return undoDepth;
+    }
+
+    /**
+     * Returns a piece to its base, clearing its home flag.
+     *
+     * @param slot Piece slot
+     */
+    public void sendToBase(int slot) {
+        place(slot, BASE);
+        homeMask &= ~(1 << slot);
+    }
+
+    /**
+     * Moves a slot to a square, keeping the occupancy index in step.
+     */
+    private void place(int slot, int square) {
+        int from = squares[slot];
+        int color = colorOf(slot);
+        if (from >= 0 && from < NUM_SQUARES) {
+            occupants[from] &= ~(1 << slot);
+            if ((occupants[from] & colorMask(color)) == 0) {
+                boards[color] &= ~squareBit(color, from);
+            }
+        }
+        if (square >= 0 && square < NUM_SQUARES) {
+            occupants[square] |= 1 << slot;
+            boards[color] |= squareBit(color, square);
+        }
+        pieceKey += keyOf(color, square) - keyOf(color, from);
+        if (from == BASE) {
+            baseMask &= ~(1 << slot);
+        } else if (from < MAIN_TRACK_SIZE) {
+            addThreats(color, from, -1);
+        }
+        if (square == BASE) {
+            baseMask |= 1 << slot;
+        } else if (square < MAIN_TRACK_SIZE) {
+            addThreats(color, square, 1);
+        }
+        squares[slot] = (byte) square;
+        progress[slot] = (byte) MoveTable.progressOf(color, square);
+    }
+
+    /**
+     * Adds or removes the threats of a piece on a main track square to the
+     * squares it could reach with one roll.
+     */
+    private void addThreats(int color, int square, int sign) {
+        int base = color * MAIN_TRACK_SIZE;
+        int reach = THREAT_REACH[base + square];
+        for (int distance = 1; distance <= reach; distance++) {
+            int target = square + distance;
+            threats[base + target] += sign << ((distance - 1) * THREAT_BITS);
+            threatWeights[base + target] += sign * (MoveTable.MAX_ROLL + 1 - distance);
+        }
+    }
+
+    /**
+     * Counts the pieces of a color exactly the given number of steps
+     * behind a square along their path.
+     *
+     * @param color Color index of the threatening pieces
+     * @param square Square code
+     * @param distance Number of steps, 1 to 6
+     * @return Number of pieces; 0 for squares off the main track
+     */
+    public int threatCount(int color, int square, int distance) {
+        if (square < 0 || square >= MAIN_TRACK_SIZE || distance < 1 || distance > MoveTable.MAX_ROLL) {
+            return 0;
+        }
+        return threats[color * MAIN_TRACK_SIZE + square] >>> ((distance - 1) * THREAT_BITS) & 0xF;
+    }
+
+    /**
+     * Returns how strongly the pieces of a color threaten a square: each
+     * piece 1 to 6 steps behind it counts 7 minus its distance, so closer
+     * pieces weigh more.
+     *
+     * @param color Color index of the threatening pieces
+     * @param square Square code
+     * @return Weighted threat; 0 for squares off the main track
+     */
+    public int threatWeight(int color, int square) {
+        if (square < 0 || square >= MAIN_TRACK_SIZE) {
+            return 0;
+        }
+        return threatWeights[color * MAIN_TRACK_SIZE + square];
+    }
+
+    /**
+     * Returns the weighted threat every other color poses to a piece of
+     * the given color on a square, as {@link #threatWeight} summed over
+     * the opponents. An opponent piece waiting in base counts 1 on its
+     * start square, like a piece 6 steps behind, since it needs a 6 to
+     * enter there; see {@link #exitThreats}.
+     *
+     * @param color Color index of the threatened piece
+     * @param square Square code
+     * @return Weighted threat of the opponents; 0 for squares off the main track
+     */
+    public int threatTo(int color, int square) {
+        if (square < 0 || square >= MAIN_TRACK_SIZE) {
+            return 0;
+        }
+        int total = 0;
+        for (int other = 0; other < NUM_COLORS; other++) {
+            if (other != color) {
+                total += threatWeights[other * MAIN_TRACK_SIZE + square];
+                if (START_SQUARES[other] == square) {
+                    total += Integer.bitCount(baseMask & colorMask(other));
+                }
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Returns the bitboard of a color: bit s for each main track square s
+     * its pieces stand on, bit 52 + step for its home stretch squares.
+     *
+     * @param color Color index
+     * @return Bitboard of the color's pieces
+     */
+    public long getBoard(int color) {
+        return boards[color];
+    }
+
+    /**
+     * Returns the main track squares holding pieces of any other color.
+     *
+     * @param color Color index
+     * @return Bitboard of the opponents' main track squares
+     */
+    public long opponentBoard(int color) {
+        long board = 0;
+        for (int other = 0; other < NUM_COLORS; other++) {
+            if (other != color) {
+                board |= boards[other];
+            }
+        }
+        return board & MAIN_BOARD;
+    }
+
+    /**
+     * Returns every square a color's pieces could land on with a roll,
+     * home excluded: board pieces shift along the track, pieces at their
+     * home entry turn into the home stretch, moves past the end of the
+     * track are dropped, and a 6 brings pieces out of base.
+     *
+     * @param color Color index
+     * @param roll Number rolled, 1 to 6
+     * @return Bitboard of landing squares
+     */
+    public long landingBoard(int color, int roll) {
+        long board = boards[color];
+        long main = board & MAIN_BOARD;
+        long crossing = main & CROSSING_BOARDS[color * (MoveTable.MAX_ROLL + 1) + roll];
+        long landing = ((main & ~crossing) << roll) & MAIN_BOARD;
+        landing |= (crossing << (MAIN_TRACK_SIZE - 1 + roll - HOME_ENTRIES[color])) & LANDING_STRETCH_BOARD;
+        landing |= ((board & STRETCH_BOARD) << roll) & LANDING_STRETCH_BOARD;
+        if (roll == MoveTable.MAX_ROLL && (baseMask & colorMask(color)) != 0) {
+            landing |= 1L << START_SQUARES[color];
+        }
+        return landing;
+    }
+
+    /**
+     * Returns every square where a color could capture with a roll: its
+     * landing squares that hold opponents and are not safe.
+     *
+     * @param color Color index
+     * @param roll Number rolled, 1 to 6
+     * @return Bitboard of squares with capturable opponents
+     */
+    public long captureBoard(int color, int roll) {
+        return landingBoard(color, roll) & opponentBoard(color) & ~SAFE_BOARD;
+    }
+
+    /**
+     * Returns the main track squares from which opponents of a color could
+     * reach a square with one roll, each along its own path.
+     *
+     * @param color Color index of the threatened piece
+     * @param square Square code
+     * @return Bitboard of the attacking squares; 0 for squares off the main track
+     */
+    public long attackBoard(int color, int square) {
+        if (square < 0 || square >= MAIN_TRACK_SIZE) {
+            return 0;
+        }
+        long attackers = 0;
+        for (int other = 0; other < NUM_COLORS; other++) {
+            if (other != color) {
+                attackers |= boards[other] & HIT_BOARDS[other * MAIN_TRACK_SIZE + square];
+            }
+        }
+        return attackers;
+    }
+
+    /**
+     * Returns the bit of a square on a color's bitboard.
+     *
+     * @param color Color index
+     * @param square Square code
+     * @return The square's bit, or 0 for base, home and other colors' home stretches
+     */
+    public static long squareBit(int color, int square) {
+        if (square >= 0 && square < MAIN_TRACK_SIZE) {
+            return 1L << square;
+        }
+        int step = square - MAIN_TRACK_SIZE - color * HOME_STRETCH_SIZE;
+        return step >= 0 && step < HOME_STRETCH_SIZE ? 1L << (MAIN_TRACK_SIZE + step) : 0;
+    }
+
+    /**
+     * Counts the pieces of other colors standing on a square.
+     *
+     * @param color Color index
+     * @param square Square code
+     * @return Number of opponent pieces on the square
+     */
+    public int opponentCount(int color, int square) {
+        return Integer.bitCount(occupantMask(square) & ~colorMask(color));
+    }
+
+    /**
+     * Counts the opponent pieces waiting in base that would enter the
+     * board on a square with a 6.
+     *
+     * @param color Color index of the threatened piece
+     * @param square Square code
+     * @return Number of opponent pieces in base whose start square it is
+     */
+    public int exitThreats(int color, int square) {
+        int total = 0;
+        for (int other = 0; other < NUM_COLORS; other++) {
+            if (other != color && START_SQUARES[other] == square) {
+                total += Integer.bitCount(baseMask & colorMask(other));
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Returns the Zobrist key of the position with the current seat to move.
+     *
+     * @return 64-bit key of the position
+     */
+    public long getHash() {
+        return hashFor(turn);
+    }
+
+    /**
+     * Returns the Zobrist key of the position with the given seat to move.
+     * Searches use this to key positions without changing the turn.
+     *
+     * @param seat Index of the seat to move
+     * @return 64-bit key of the position
+     */
+    public long hashFor(int seat) {
+        return pieceKey ^ TURN_KEYS[seat];
+    }
+
+    /**
+     * Computes the key of the pieces from scratch, for checking the
+     * incrementally maintained one.
+     */
+    final long computePieceKey() {
+        long key = 0;
+        for (int rest = pieceMask; rest != 0; rest &= rest - 1) {
+            int slot = Integer.numberOfTrailingZeros(rest);
+            key += keyOf(colorOf(slot), squares[slot]);
+        }
+        return key;
+    }
+
+    /**
+     * Returns the Zobrist key of a piece of a color on a square.
+     */
+    private static long keyOf(int color, int square) {
+        return PIECE_KEYS[color * KEY_SQUARES + square + 1];
+    }
+
+    /**
+     * Returns the bit mask covering every slot of a color.
+     */
+    private static int colorMask(int color) {
+        return 0xF << (color * PIECES_PER_COLOR);
+    }
+
+    /**
+     * Checks if every piece of a color has reached home.
+     *
+     * @param color Color index
+     * @return true if the color has pieces and all of them are home
+     */
+    public boolean hasWon(int color) {
+        int colorPieces = pieceMask & colorMask(color);
+        return colorPieces != 0 && (homeMask & colorPieces) == colorPieces;
+    }
+
+    /**
+     * Gets the index of the seat whose turn it is.
+     *
+     * @return Current seat index
+     */
+    public int getTurn() {
+        return turn;
+    }
+
+    /**
+     * Passes the turn to the next seat.
+     *
+     * @param seats Number of seats in the game
+     * @return The new current seat index
+     */
+    public int advanceTurn(int seats) {
+        turn = (turn + 1) % seats;
+        return turn;
+    }
+
+    /**
+     * Checks if a square is a safe spot where pieces cannot be captured.
+     *
+     * @param square Square index
+     * @return true if the square is safe
+     */
+    public static boolean isSafe(int square) {
+        return square >= 0 && square < NUM_SQUARES && SAFE[square];
+    }
+
+    /**
+     * Checks if a square is part of a home stretch.
+     *
+     * @param square Square index
+     * @return true if the square is in a home stretch
+     */
+    public static boolean isHomeStretch(int square) {
+        return square >= MAIN_TRACK_SIZE && square < NUM_SQUARES;
+    }
+
+    /**
+     * Converts a square index to the position numbering used by {@link Node}.
+     * Main track squares keep their number; home stretch squares are numbered
+     * from 300 onwards by their entry square.
+     *
+     * @param square Square index
+     * @return Node position
+     */
+    public static int positionOf(int square) {
+        if (square < MAIN_TRACK_SIZE) {
+            return square;
+        }
+        int color = (square - MAIN_TRACK_SIZE) / HOME_STRETCH_SIZE;
+        int step = (square - MAIN_TRACK_SIZE) % HOME_STRETCH_SIZE;
+        return HOME_POSITION_OFFSET + HOME_ENTRIES[color] * HOME_STRETCH_SIZE + step;
+    }
+
+    /**
+     * Converts a {@link Node} position to a square index.
+     *
+     * @param position Node position
+     * @return Square index, or {@link #NO_MOVE} if the position is not on the board
+     */
+    public static int squareOf(int position) {
+        if (position >= 0 && position < MAIN_TRACK_SIZE) {
+            return position;
+        }
+        int offset = position - HOME_POSITION_OFFSET;
+        if (offset < 0 || offset >= MAIN_TRACK_SIZE * HOME_STRETCH_SIZE) {
+            return NO_MOVE;
+        }
+        int color = ENTRY_COLORS[offset / HOME_STRETCH_SIZE];
+        return color < 0 ? NO_MOVE : MAIN_TRACK_SIZE + color * HOME_STRETCH_SIZE + offset % HOME_STRETCH_SIZE;
+    }
+}
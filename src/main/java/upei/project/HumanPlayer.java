@@ -33,7 +33,7 @@ public class HumanPlayer extends Player {
      * @param board The game board panel
      * @param gameFrame The main game window for displaying dialogs
      */
-    public HumanPlayer(String name, Color color, BoardPanel board, JFrame gameFrame) {
+    public HumanPlayer(String name, Color color, Board board, JFrame gameFrame) {
         super(name, color);
         this.gameFrame = gameFrame;
         
@@ -20,4 +20,34 @@ public class InvalidMoveException extends Exception {
     public InvalidMoveException(String message) {
         super(message);
     }
+
+    /**
+     * Creates an InvalidMoveException for a move check result code.
+     *
+     * @param result Result code from {@link GameState#checkMove(int, int)}
+     */
+    public InvalidMoveException(int result) {
+        this(describe(result));
+    }
+
+    /**
+     * Describes why a move was rejected, for display to the user.
+     *
+     * @param result Result code from {@link GameState#checkMove(int, int)}
+     * @return Message explaining the result, or null if the move is legal
+     */
+    public static String describe(int result) {
+        switch (result) {
+            case GameState.MOVE_OK:
+                return null;
+            case GameState.MOVE_INVALID_STEPS:
+                return "Invalid number of steps";
+            case GameState.MOVE_ALREADY_HOME:
+                return "Piece has already reached home";
+            case GameState.MOVE_NEEDS_SIX:
+                return "Need a 6 to move out of base";
+            default:
+                return "Invalid move: would go beyond board";
+        }
+    }
 }
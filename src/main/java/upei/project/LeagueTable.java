@@ -0,0 +1,213 @@
+package upei.project;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Standings of a strategy league, filled while the games are played.
+ * Tracks per entrant:
+ * - Seats played
+ * - Wins
+ * - Total moves and captures of the won games
+ *
+ * Games from any number of threads can be recorded at once: every
+ * counter is updated atomically and nothing is locked, so finished games
+ * stream into the table without being collected first. The counters are
+ * plain sums, so the standings do not depend on the order the games
+ * finished in.
+ *
+ * @author UPEI Project Team
+ * @version 1.0
+ * @see Tournament
+ */
+public class LeagueTable {
+    /** Entrants in the order they were given */
+    private final List<String> entrants;
+
+    /** Index of each entrant in the counter arrays */
+    private final Map<String, Integer> indices;
+
+    /** Seats played per entrant */
+    private final AtomicLongArray played;
+
+    /** Wins per entrant */
+    private final AtomicLongArray wins;
+
+    /** Moves of the won games per entrant */
+    private final AtomicLongArray winMoves;
+
+    /** Captures made in the won games per entrant */
+    private final AtomicLongArray winCaptures;
+
+    /** Number of games recorded */
+    private final AtomicLong games = new AtomicLong();
+
+    /** Number of games that ended without a winner */
+    private final AtomicLong unfinished = new AtomicLong();
+
+    /**
+     * Standing of one entrant.
+     *
+     * @param strategy Strategy name
+     * @param played Seats played
+     * @param wins Games won
+     * @param winMoves Total moves of the won games
+     * @param winCaptures Total captures made in the won games
+     */
+    public record Standing(String strategy, long played, long wins, long winMoves, long winCaptures) {
+        /**
+         * Gets the share of the seats played that were won.
+         *
+         * @return Win rate between 0 and 1
+         */
+        public double winRate() {
+            return played > 0 ? (double) wins / played : 0;
+        }
+
+        /**
+         * Gets the average length of the won games.
+         *
+         * @return Average moves per win, or 0 without wins
+         */
+        public double averageMovesPerWin() {
+            return wins > 0 ? (double) winMoves / wins : 0;
+        }
+
+        /**
+         * Gets the average captures made in the won games.
+         *
+         * @return Average captures per win, or 0 without wins
+         */
+        public double averageCapturesPerWin() {
+            return wins > 0 ? (double) winCaptures / wins : 0;
+        }
+    }
+
+    /**
+     * Creates an empty table for the given entrants.
+     *
+     * @param entrants Strategy names
+     * @throws IllegalArgumentException if a name appears twice
+     */
+    public LeagueTable(List<String> entrants) {
+        this.entrants = List.copyOf(entrants);
+        this.indices = new HashMap<>();
+        for (int i = 0; i < this.entrants.size(); i++) {
+            if (indices.put(this.entrants.get(i), i) != null) {
+                throw new IllegalArgumentException("Duplicate entrant: " + this.entrants.get(i));
+            }
+        }
+        int size = this.entrants.size();
+        this.played = new AtomicLongArray(size);
+        this.wins = new AtomicLongArray(size);
+        this.winMoves = new AtomicLongArray(size);
+        this.winCaptures = new AtomicLongArray(size);
+    }
+
+    /**
+     * Records the outcome of one game. Safe to call from any thread.
+     *
+     * @param result The finished game
+     * @throws IllegalArgumentException if a seat was played by a strategy outside the league
+     */
+    public void record(SimulationExperiment.GameResult result) {
+        // Look every seat up first, so a rejected game changes no counter
+        List<String> strategies = result.strategies();
+        int[] seats = new int[strategies.size()];
+        for (int seat = 0; seat < seats.length; seat++) {
+            seats[seat] = indexOf(strategies.get(seat));
+        }
+        for (int index : seats) {
+            played.incrementAndGet(index);
+        }
+        if (result.hasWinner()) {
+            int winner = seats[result.winner()];
+            wins.incrementAndGet(winner);
+            winMoves.addAndGet(winner, result.moves());
+            winCaptures.addAndGet(winner, result.captures());
+        } else {
+            unfinished.incrementAndGet();
+        }
+        games.incrementAndGet();
+    }
+
+    /**
+     * Gets the index of an entrant in the counter arrays.
+     */
+    private int indexOf(String strategy) {
+        Integer index = indices.get(strategy);
+        if (index == null) {
+            throw new IllegalArgumentException("Not in the league: " + strategy);
+        }
+        return index;
+    }
+
+    /**
+     * Gets the number of games recorded.
+     *
+     * @return Number of games
+     */
+    public long getGames() {
+        return games.get();
+    }
+
+    /**
+     * Gets the number of games that ended without a winner.
+     *
+     * @return Number of unfinished games
+     */
+    public long getUnfinishedGames() {
+        return unfinished.get();
+    }
+
+    /**
+     * Gets the standing of one entrant.
+     *
+     * @param strategy Strategy name
+     * @return The entrant's standing
+     * @throws IllegalArgumentException if the strategy is not in the league
+     */
+    public Standing getStanding(String strategy) {
+        int i = indexOf(strategy);
+        return new Standing(strategy, played.get(i), wins.get(i), winMoves.get(i), winCaptures.get(i));
+    }
+
+    /**
+     * Gets the standings of every entrant, best win rate first. Entrants
+     * with the same win rate keep the order they were given in.
+     *
+     * @return Standings in ranking order
+     */
+    public List<Standing> getStandings() {
+        List<Standing> standings = new ArrayList<>(entrants.size());
+        for (String strategy : entrants) {
+            standings.add(getStanding(strategy));
+        }
+        standings.sort(Comparator.comparingDouble(Standing::winRate).reversed());
+        return standings;
+    }
+
+    /**
+     * Formats the standings as a text table, one line per entrant.
+     *
+     * @return The formatted table
+     */
+    public String format() {
+        StringBuilder table = new StringBuilder();
+        table.append(String.format("%-4s %-16s %8s %8s %7s %10s %10s%n",
+            "Rank", "Strategy", "Seats", "Wins", "Win %", "Moves/Win", "Capt/Win"));
+        int rank = 1;
+        for (Standing standing : getStandings()) {
+            table.append(String.format("%-4d %-16s %8d %8d %6.1f%% %10.1f %10.2f%n",
+                rank++, standing.strategy(), standing.played(), standing.wins(),
+                standing.winRate() * 100, standing.averageMovesPerWin(), standing.averageCapturesPerWin()));
+        }
+        table.append(String.format("%d games, %d without a winner%n", getGames(), getUnfinishedGames()));
+        return table.toString();
+    }
+}
@@ -5,7 +5,6 @@ import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
 import java.util.logging.Logger;
 import java.util.logging.Level;
 
@@ -49,8 +48,8 @@ public class LudoGame extends JFrame {
     /** Flag indicating if the game has ended */
     private boolean isGameOver = false;
     
-    /** Random number generator for dice rolls */
-    private final Random random = new Random();
+    /** Dice rolled by every player of this game */
+    private final transient DiceSource dice = DiceSource.unseeded();
 
     /**
      * Creates and initializes a new Ludo game.
@@ -129,7 +128,7 @@ public class LudoGame extends JFrame {
                 return; // Only allow human players to roll
             }
 
-            dieRoll = random.nextInt(6) + 1;
+            dieRoll = dice.roll();
             statusLabel.setText(players.get(currentPlayerIndex).getName() + " rolled a " + dieRoll);
 
             rollButton.setEnabled(false);
@@ -170,7 +169,7 @@ public class LudoGame extends JFrame {
 
             // If next player is AI, make AI move
             if (!players.get(currentPlayerIndex).isHuman()) {
-                dieRoll = random.nextInt(6) + 1;
+                dieRoll = dice.roll();
                 statusLabel.setText(players.get(currentPlayerIndex).getName() + " rolled a " + dieRoll);
                 
                 // Create and show an "OK" button dialog
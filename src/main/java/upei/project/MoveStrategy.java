@@ -18,4 +18,25 @@ public interface MoveStrategy {
      * @return A score indicating how desirable this move is (higher is better)
      */
     double evaluateMove(Piece piece, int steps, Player currentPlayer, List<Player> allPlayers);
+
+    /**
+     * Evaluates every candidate move of a player for one roll in a single
+     * call. Strategies override this to compute what the candidates share,
+     * such as the game state and the opponents' squares, once per turn.
+     * The default evaluates each candidate with {@link #evaluateMove}.
+     *
+     * @param currentPlayer The player making the move
+     * @param steps Number of steps to move
+     * @param candidates Bit mask of candidate moves; bit i is the i-th piece of the player
+     * @param allPlayers List of all players in the game
+     * @param scores Receives the score of candidate i at index i; other entries are left as they are
+     */
+    default void evaluateMoves(Player currentPlayer, int steps, int candidates, List<Player> allPlayers,
+                               double[] scores) {
+        List<Piece> pieces = currentPlayer.getPieces();
+        for (int rest = candidates; rest != 0; rest &= rest - 1) {
+            int i = Integer.numberOfTrailingZeros(rest);
+            scores[i] = evaluateMove(pieces.get(i), steps, currentPlayer, allPlayers);
+        }
+    }
 }
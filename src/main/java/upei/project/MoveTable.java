@@ -0,0 +1,266 @@
+package upei.project;
+
+/**
+ * Precomputed move transitions for every color, progress index and roll.
+ * The board topology is the same for every game, so the tables are built
+ * once when the class is loaded and shared by all {@link GameState}s.
+ * Simulating, validating and applying a move then costs a couple of array
+ * reads instead of a walk along the board.
+ *
+ * A piece's progress index counts squares along its own color's path:
+ * - 0: waiting in base
+ * - 1-51: main track, starting at the color's start square (51 is the home entry)
+ * - 52-56: the color's home stretch
+ * - 57: reached home
+ *
+ * Table entries hold the square reached, with {@link GameState#NO_MOVE}
+ * as the sentinel for rolls that overshoot or are otherwise invalid.
+ *
+ * @author UPEI Project Team
+ * @version 1.0
+ * @see GameState
+ */
+final class MoveTable {
+    /** Number of progress indices per color */
+    static final int PROGRESS_SIZE = 58;
+
+    /** Progress index of a piece in base */
+    static final int BASE_PROGRESS = 0;
+
+    /** Progress index of a piece that reached home */
+    static final int HOME_PROGRESS = PROGRESS_SIZE - 1;
+
+    /** Progress index of a color's home entry square */
+    static final int ENTRY_PROGRESS = GameState.MAIN_TRACK_SIZE - 1;
+
+    /** Progress index of the last square of a color's home stretch */
+    static final int LAST_STRETCH_PROGRESS = HOME_PROGRESS - 1;
+
+    /** Largest roll covered by the tables */
+    static final int MAX_ROLL = 6;
+
+    /** Number of square codes per color: BASE, every square and HOME */
+    private static final int SQUARE_CODES = GameState.NUM_SQUARES + 2;
+
+    /** Progress index of each square code per color, or -1 if off the color's path */
+    private static final byte[] PROGRESS = new byte[GameState.NUM_COLORS * SQUARE_CODES];
+
+    /** Square code of each progress index per color */
+    private static final byte[] SQUARES = new byte[GameState.NUM_COLORS * PROGRESS_SIZE];
+
+    /** Square reached by walking [color][progress][roll] without resolving home arrival */
+    private static final byte[] WALKS = new byte[GameState.NUM_COLORS * PROGRESS_SIZE * (MAX_ROLL + 1)];
+
+    /** Destination of a move [color][progress][roll] with home arrival resolved */
+    private static final byte[] TARGETS = new byte[WALKS.length];
+
+    static {
+        for (int color = 0; color < GameState.NUM_COLORS; color++) {
+            for (int code = 0; code < SQUARE_CODES; code++) {
+                PROGRESS[color * SQUARE_CODES + code] = (byte) computeProgress(color, code - 1);
+            }
+            for (int progress = 0; progress < PROGRESS_SIZE; progress++) {
+                int square = computeSquare(color, progress);
+                SQUARES[color * PROGRESS_SIZE + progress] = (byte) square;
+                for (int roll = 1; roll <= MAX_ROLL; roll++) {
+                    int index = (color * PROGRESS_SIZE + progress) * (MAX_ROLL + 1) + roll;
+                    WALKS[index] = (byte) walkPath(color, square, roll);
+                    TARGETS[index] = (byte) resolve(square, WALKS[index], roll);
+                }
+            }
+        }
+    }
+
+    private MoveTable() {
+    }
+
+    /**
+     * Returns the progress index of a square along a color's path.
+     *
+     * @param color Color index
+     * @param square Square code ({@link GameState#BASE}, a square or {@link GameState#HOME})
+     * @return Progress index, or -1 if the color can never stand on the square
+     */
+    static int progressOf(int color, int square) {
+        return PROGRESS[color * SQUARE_CODES + square + 1];
+    }
+
+    /**
+     * Returns the square code of a progress index along a color's path.
+     *
+     * @param color Color index
+     * @param progress Progress index
+     * @return Square code
+     */
+    static int squareAt(int color, int progress) {
+        return SQUARES[color * PROGRESS_SIZE + progress];
+    }
+
+    /**
+     * Returns the square a piece walks to, without resolving home arrival.
+     *
+     * @param color Color index of the piece
+     * @param square Square code the piece is on
+     * @param steps Number of steps
+     * @return Square reached, or {@link GameState#NO_MOVE}
+     */
+    static int walk(int color, int square, int steps) {
+        int index = indexOf(color, square, steps);
+        return index >= 0 ? WALKS[index] : walkPath(color, square, steps);
+    }
+
+    /**
+     * Returns the destination of a move with home arrival resolved.
+     *
+     * @param color Color index of the piece
+     * @param square Square code the piece is on
+     * @param steps Number of steps
+     * @return Destination square, {@link GameState#HOME} or {@link GameState#NO_MOVE}
+     */
+    static int target(int color, int square, int steps) {
+        int index = indexOf(color, square, steps);
+        return index >= 0 ? TARGETS[index] : resolve(square, walkPath(color, square, steps), steps);
+    }
+
+    /**
+     * Returns the square a piece walks to from a progress index, without
+     * resolving home arrival. Saves the square to progress lookup of
+     * {@link #walk} for callers that already know the progress.
+     *
+     * @param color Color index of the piece
+     * @param progress Progress index of the piece
+     * @param steps Number of steps
+     * @return Square reached, or {@link GameState#NO_MOVE}
+     */
+    static int walkFrom(int color, int progress, int steps) {
+        if (steps < 1 || steps > MAX_ROLL) {
+            return walkPath(color, squareAt(color, progress), steps);
+        }
+        return WALKS[(color * PROGRESS_SIZE + progress) * (MAX_ROLL + 1) + steps];
+    }
+
+    /**
+     * Returns the destination of a move from a progress index with home
+     * arrival resolved.
+     *
+     * @param color Color index of the piece
+     * @param progress Progress index of the piece
+     * @param steps Number of steps
+     * @return Destination square, {@link GameState#HOME} or {@link GameState#NO_MOVE}
+     */
+    static int targetFrom(int color, int progress, int steps) {
+        if (steps < 1 || steps > MAX_ROLL) {
+            int square = squareAt(color, progress);
+            return resolve(square, walkPath(color, square, steps), steps);
+        }
+        return TARGETS[(color * PROGRESS_SIZE + progress) * (MAX_ROLL + 1) + steps];
+    }
+
+    /**
+     * Returns the table index for a lookup, or -1 if it is not covered by the tables.
+     */
+    private static int indexOf(int color, int square, int steps) {
+        if (steps < 1 || steps > MAX_ROLL) {
+            return -1;
+        }
+        int progress = progressOf(color, square);
+        return progress < 0 ? -1 : (color * PROGRESS_SIZE + progress) * (MAX_ROLL + 1) + steps;
+    }
+
+    /**
+     * Resolves home arrival for a walk result. Reaching the last home stretch
+     * square, or overshooting it from inside the home stretch, takes the piece home.
+     */
+    private static int resolve(int from, int walked, int steps) {
+        if (walked == GameState.NO_MOVE) {
+            return GameState.isHomeStretch(from) && steps >= 1 ? GameState.HOME : GameState.NO_MOVE;
+        }
+        if (GameState.isHomeStretch(walked)
+                && (walked - GameState.MAIN_TRACK_SIZE) % GameState.HOME_STRETCH_SIZE == GameState.HOME_STRETCH_SIZE - 1) {
+            return GameState.HOME;
+        }
+        return walked;
+    }
+
+    /**
+     * Follows a color's path square by square. This is the reference rule the
+     * tables are built from: leaving base needs a 6, pieces turn into their
+     * home stretch at their home entry and may not wrap backwards around the
+     * main track.
+     */
+    private static int walkPath(int color, int square, int steps) {
+        if (steps < 1 || square == GameState.HOME || square == GameState.NO_MOVE) {
+            return GameState.NO_MOVE;
+        }
+        if (square == GameState.BASE) {
+            return steps == 6 ? GameState.START_SQUARES[color] : GameState.NO_MOVE;
+        }
+        int current = square;
+        for (int i = 0; i < steps; i++) {
+            int next = nextSquare(color, current);
+            if (next == GameState.NO_MOVE) {
+                return GameState.NO_MOVE;
+            }
+            // Pieces cannot wrap around from the end of the main track
+            if (current < GameState.MAIN_TRACK_SIZE && next < current) {
+                return GameState.NO_MOVE;
+            }
+            current = next;
+        }
+        return current;
+    }
+
+    /**
+     * Returns the next square on a color's path, or {@link GameState#NO_MOVE}
+     * at the end of the home stretch.
+     */
+    private static int nextSquare(int color, int square) {
+        if (square == GameState.HOME_ENTRIES[color]) {
+            return GameState.MAIN_TRACK_SIZE + color * GameState.HOME_STRETCH_SIZE;
+        }
+        if (square < GameState.MAIN_TRACK_SIZE) {
+            return (square + 1) % GameState.MAIN_TRACK_SIZE;
+        }
+        if ((square - GameState.MAIN_TRACK_SIZE) % GameState.HOME_STRETCH_SIZE == GameState.HOME_STRETCH_SIZE - 1) {
+            return GameState.NO_MOVE;
+        }
+        return square + 1;
+    }
+
+    /**
+     * Computes the progress index of a square along a color's path.
+     */
+    private static int computeProgress(int color, int square) {
+        if (square == GameState.BASE) {
+            return BASE_PROGRESS;
+        }
+        if (square == GameState.HOME) {
+            return HOME_PROGRESS;
+        }
+        if (square < GameState.MAIN_TRACK_SIZE) {
+            int progress = (square - GameState.START_SQUARES[color] + GameState.MAIN_TRACK_SIZE)
+                % GameState.MAIN_TRACK_SIZE + 1;
+            // The square behind the start lies past the home entry
+            return progress <= GameState.MAIN_TRACK_SIZE - 1 ? progress : -1;
+        }
+        int firstHomeSquare = GameState.MAIN_TRACK_SIZE + color * GameState.HOME_STRETCH_SIZE;
+        int step = square - firstHomeSquare;
+        return step >= 0 && step < GameState.HOME_STRETCH_SIZE ? GameState.MAIN_TRACK_SIZE + step : -1;
+    }
+
+    /**
+     * Computes the square code of a progress index along a color's path.
+     */
+    private static int computeSquare(int color, int progress) {
+        if (progress == BASE_PROGRESS) {
+            return GameState.BASE;
+        }
+        if (progress == HOME_PROGRESS) {
+            return GameState.HOME;
+        }
+        if (progress < GameState.MAIN_TRACK_SIZE) {
+            return (GameState.START_SQUARES[color] + progress - 1) % GameState.MAIN_TRACK_SIZE;
+        }
+        return GameState.MAIN_TRACK_SIZE + color * GameState.HOME_STRETCH_SIZE + progress - GameState.MAIN_TRACK_SIZE;
+    }
+}
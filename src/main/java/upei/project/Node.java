@@ -31,9 +31,6 @@ public class Node {
     private final List<Piece> pieces;
     private final boolean safe;
 
-    /** Positions where pieces enter their home paths */
-    private static final int[] HOME_ENTRIES = {50, 11, 24, 37};
-
     /**
      * Constructs a node with the given properties.
      *
@@ -66,13 +63,25 @@ public class Node {
      * @param color the color of the piece
      * @return the next node in the path
      */
-    public Node getNext(Color color) {
+    public Node getNext(PlayerColor color) {
         if (isHomeEntry(color)) {
             return homePathNext;
         }
         return next;
     }
 
+    /**
+     * Returns the next node in the path for the pieces drawn with the
+     * given AWT color.
+     *
+     * @param color the AWT color of the piece
+     * @return the next node in the path
+     * @throws IllegalArgumentException if the color is not a player color
+     */
+    public Node getNext(Color color) {
+        return getNext(PieceColors.playerColor(color));
+    }
+
     /**
      * Sets the next node in the main path.
      *
@@ -166,25 +175,57 @@ public class Node {
     /**
      * Adds a piece to the node and returns a list of captured pieces.
      * If the node is not a safe spot, pieces of different colors are captured and sent to their base.
+     * The capture follows {@link GameState#captureMask(int, int, boolean)} applied to this node's pieces.
      *
      * @param piece the piece to add
      * @return the list of captured pieces
      */
     public List<Piece> addPiece(Piece piece) {
         List<Piece> captured = new ArrayList<>();
-        if (!safe) {
-            pieces.stream()
-                .filter(p -> p.getColor() != piece.getColor())
-                .forEach(p -> {
+        GameState state = piece.getState();
+        int occupants = 0;
+        for (Piece p : pieces) {
+            if (p.getState() == state) {
+                occupants |= 1 << p.getSlot();
+            }
+        }
+        int capturable = GameState.captureMask(piece.getPlayerColor().index(), occupants, safe);
+        if (capturable != 0) {
+            for (Piece p : pieces) {
+                if (p.getState() == state && (capturable & (1 << p.getSlot())) != 0) {
                     captured.add(p);
-                    p.sendToBase();
-                });
+                }
+            }
+            captured.forEach(Piece::sendToBase);
             pieces.removeAll(captured);
         }
         pieces.add(piece);
         return captured;
     }
 
+    /**
+     * Records a piece arriving after the game state applied its move.
+     * The pieces the move captured have already been returned to base by
+     * the game state and are only dropped from this node's list.
+     *
+     * @param piece the piece that arrived
+     * @param captured bit mask of the slots captured by the move
+     */
+    void arrive(Piece piece, int captured) {
+        if (captured != 0) {
+            GameState state = piece.getState();
+            pieces.removeIf(p -> p.getState() == state && (captured & (1 << p.getSlot())) != 0);
+        }
+        pieces.add(piece);
+    }
+
+    /**
+     * Removes every piece from the node, for a board starting a new game.
+     */
+    void clearPieces() {
+        pieces.clear();
+    }
+
     /**
      * Removes a piece from the node.
      *
@@ -200,9 +241,20 @@ public class Node {
      * @param color the color of the piece
      * @return whether the node is a home entry
      */
+    public boolean isHomeEntry(PlayerColor color) {
+        return position == color.getHomeEntry();
+    }
+
+    /**
+     * Returns whether the node is a home entry for the pieces drawn with
+     * the given AWT color.
+     *
+     * @param color the AWT color of the piece
+     * @return whether the node is a home entry
+     * @throws IllegalArgumentException if the color is not a player color
+     */
     public boolean isHomeEntry(Color color) {
-        int colorIndex = getColorIndex(color);
-        return position == HOME_ENTRIES[colorIndex];
+        return isHomeEntry(PieceColors.playerColor(color));
     }
 
     /**
@@ -224,20 +276,6 @@ public class Node {
         return current == other ? distance : Integer.MAX_VALUE;
     }
 
-    /**
-     * Returns the index of the given color in the HOME_ENTRIES array.
-     *
-     * @param color the color of the piece
-     * @return the index
-     */
-    private int getColorIndex(Color color) {
-        if (color.equals(Color.BLUE)) return 0;
-        if (color.equals(Color.GREEN)) return 1;
-        if (color.equals(Color.YELLOW)) return 2;
-        if (color.equals(Color.RED)) return 3;
-        throw new IllegalArgumentException("Invalid color");
-    }
-
     @Override
     public boolean equals(Object obj) {
         if (this == obj) return true;
@@ -0,0 +1,250 @@
+package upei.project;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Paired comparison of two strategies using common random numbers.
+ * Both arms of the experiment play the same games: in sample i the tested
+ * seat is seat i modulo 4, the opponents fill the other seats in order,
+ * and both arms roll the dice {@link DiceSource#forGame(long, long)}
+ * derives from the seed and i. The only difference between the two games
+ * of a sample is the strategy in the tested seat, so most of the dice
+ * noise cancels out of their difference.
+ *
+ * With antithetic dice, every sample also plays both arms with the
+ * mirrored dice of {@link DiceSource#antithetic(DiceSource)} and scores
+ * the average of the two games.
+ *
+ * A game scores the place of the tested seat: 1 for first, 0 for last.
+ * The report gives the mean score of each arm, their paired difference
+ * and its standard error, next to the standard error the difference
+ * would have had if the two arms had rolled independent dice.
+ *
+ * All sums are kept as whole numbers of places, so the report does not
+ * depend on how the samples were split between the worker threads.
+ *
+ * @author UPEI Project Team
+ * @version 1.0
+ * @see DiceSource
+ * @see SequentialTest
+ */
+public class PairedComparison {
+    /** Number of seats at the board */
+    private static final int SEATS = 4;
+
+    /** Number of samples a worker claims at a time */
+    private static final int CHUNK_SIZE = 16;
+
+    /** Strategies of the two arms */
+    private final String[] arms;
+
+    /** Strategies of the other seats, in seat order */
+    private final List<String> opponents;
+
+    /**
+     * Outcome of a paired comparison.
+     *
+     * @param samples Number of samples played
+     * @param firstMean Mean score of the first arm
+     * @param secondMean Mean score of the second arm
+     * @param difference Mean score of the first arm minus the second
+     * @param standardError Standard error of the paired difference
+     * @param unpairedStandardError Standard error of the difference with independent dice per arm
+     */
+    public record Result(long samples, double firstMean, double secondMean, double difference,
+                         double standardError, double unpairedStandardError) {
+        /**
+         * Gets how many times fewer samples the paired comparison needs
+         * than arms with independent dice for the same standard error.
+         *
+         * @return Ratio of the unpaired to the paired variance
+         */
+        public double varianceReduction() {
+            return standardError > 0 ? Math.pow(unpairedStandardError / standardError, 2) : Double.POSITIVE_INFINITY;
+        }
+    }
+
+    /**
+     * Creates a comparison of two strategies against fixed opponents.
+     *
+     * @param first Strategy of the first arm
+     * @param second Strategy of the second arm
+     * @param opponents Strategies of the three other seats
+     * @throws IllegalArgumentException if there are not three opponents or a strategy is not registered
+     */
+    public PairedComparison(String first, String second, List<String> opponents) {
+        if (opponents.size() != SEATS - 1) {
+            throw new IllegalArgumentException("A comparison needs " + (SEATS - 1) + " opponents");
+        }
+        for (String strategy : List.of(first, second)) {
+            if (!StrategyRegistry.isRegistered(strategy)) {
+                throw new IllegalArgumentException("Unknown strategy: " + strategy);
+            }
+        }
+        for (String strategy : opponents) {
+            if (!StrategyRegistry.isRegistered(strategy)) {
+                throw new IllegalArgumentException("Unknown strategy: " + strategy);
+            }
+        }
+        this.arms = new String[]{first, second};
+        this.opponents = List.copyOf(opponents);
+    }
+
+    /**
+     * Builds the line-up of an arm with the tested seat at the given seat.
+     *
+     * @param arm Strategy in the tested seat
+     * @param seat Tested seat
+     * @return Line-up, one strategy per seat
+     */
+    List<String> lineup(String arm, int seat) {
+        String[] lineup = new String[SEATS];
+        for (int i = 0, opponent = 0; i < SEATS; i++) {
+            lineup[i] = i == seat ? arm : opponents.get(opponent++);
+        }
+        return List.of(lineup);
+    }
+
+    /**
+     * Plays every sample of the comparison.
+     *
+     * @param threads Number of worker threads
+     * @param samples Number of samples
+     * @param antithetic Whether every sample also plays the antithetic dice
+     * @param seed Seed of the dice
+     * @return The paired difference and its standard error
+     * @throws IllegalArgumentException if threads or samples is not positive
+     * @throws IllegalStateException if a game failed or the calling thread was interrupted
+     */
+    public Result run(int threads, long samples, boolean antithetic, long seed) {
+        if (threads < 1 || samples < 1) {
+            throw new IllegalArgumentException("Threads and samples must be positive");
+        }
+        AtomicLong nextSample = new AtomicLong();
+        long[] sums = new long[5];
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<long[]>> workers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                workers.add(pool.submit(() -> {
+                    GameFixture[] fixtures = {new GameFixture(), new GameFixture()};
+                    long[] local = new long[5];
+                    long first;
+                    while ((first = nextSample.getAndAdd(CHUNK_SIZE)) < samples) {
+                        long last = Math.min(first + CHUNK_SIZE, samples);
+                        for (long sample = first; sample < last; sample++) {
+                            playSample(fixtures, sample, antithetic, seed, local);
+                        }
+                    }
+                    return local;
+                }));
+            }
+            for (Future<long[]> worker : workers) {
+                long[] local = worker.get();
+                for (int i = 0; i < sums.length; i++) {
+                    sums[i] += local[i];
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Comparison was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Comparison worker failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+
+        // Each sample scores up to 3 places per game it plays
+        double scale = (antithetic ? 2 : 1) * (SEATS - 1);
+        double n = samples;
+        double firstMean = sums[0] / n;
+        double secondMean = sums[1] / n;
+        double firstVariance = variance(sums[0], sums[2], n);
+        double secondVariance = variance(sums[1], sums[3], n);
+        double differenceVariance = variance(sums[0] - sums[1], sums[4], n);
+        return new Result(samples, firstMean / scale, secondMean / scale, (firstMean - secondMean) / scale,
+            Math.sqrt(differenceVariance / n) / scale, Math.sqrt((firstVariance + secondVariance) / n) / scale);
+    }
+
+    /**
+     * Computes a sample variance from a sum and a sum of squares.
+     */
+    private static double variance(long sum, long sumOfSquares, double n) {
+        if (n < 2) {
+            return 0;
+        }
+        double mean = sum / n;
+        return Math.max(sumOfSquares / n - mean * mean, 0) * n / (n - 1);
+    }
+
+    /**
+     * Plays both arms of one sample and adds its scores to the sums:
+     * first arm, second arm, their squares and the squared difference.
+     */
+    private void playSample(GameFixture[] fixtures, long sample, boolean antithetic, long seed, long[] sums) {
+        int seat = (int) (sample % SEATS);
+        int[] scores = new int[arms.length];
+        for (int arm = 0; arm < arms.length; arm++) {
+            List<String> lineup = lineup(arms[arm], seat);
+            scores[arm] = score(SimulationExperiment.playGame(fixtures[arm], lineup,
+                DiceSource.forGame(seed, sample)), seat);
+            if (antithetic) {
+                scores[arm] += score(SimulationExperiment.playGame(fixtures[arm], lineup,
+                    DiceSource.antithetic(DiceSource.forGame(seed, sample))), seat);
+            }
+        }
+        int difference = scores[0] - scores[1];
+        sums[0] += scores[0];
+        sums[1] += scores[1];
+        sums[2] += scores[0] * scores[0];
+        sums[3] += scores[1] * scores[1];
+        sums[4] += difference * difference;
+    }
+
+    /**
+     * Scores the place of a seat: 3 for first down to 0 for last.
+     */
+    private static int score(SimulationExperiment.GameResult result, int seat) {
+        for (int place = 0; place < SEATS; place++) {
+            if (result.seatAt(place) == seat) {
+                return SEATS - 1 - place;
+            }
+        }
+        throw new IllegalStateException("Seat " + seat + " has no place");
+    }
+
+    /**
+     * Runs a comparison and prints the paired difference.
+     *
+     * @param args Optional first and second strategy, opponents separated
+     *             by commas, number of samples, "antithetic", number of
+     *             threads and seed, in that order
+     */
+    public static void main(String[] args) {
+        String first = args.length > 0 ? args[0] : "Aggressive";
+        String second = args.length > 1 ? args[1] : "Defensive";
+        List<String> opponents = args.length > 2 ? List.of(args[2].split(",")) : List.of("Balanced", "Balanced", "Balanced");
+        long samples = args.length > 3 ? Long.parseLong(args[3]) : 1000;
+        boolean antithetic = args.length > 4 && args[4].equals("antithetic");
+        int threads = args.length > 5 ? Integer.parseInt(args[5]) : Runtime.getRuntime().availableProcessors();
+        long seed = args.length > 6 ? Long.parseLong(args[6]) : System.nanoTime();
+
+        long start = System.nanoTime();
+        Result result = new PairedComparison(first, second, opponents).run(threads, samples, antithetic, seed);
+        long elapsed = System.nanoTime() - start;
+
+        System.out.printf("%s vs %s against %s, %d samples%s (seed %d)%n",
+            first, second, opponents, samples, antithetic ? " with antithetic dice" : "", seed);
+        System.out.printf("  %s: %.4f  %s: %.4f%n", first, result.firstMean(), second, result.secondMean());
+        System.out.printf("  Paired difference: %+.4f +/- %.4f (independent dice: +/- %.4f, %.1fx fewer games)%n",
+            result.difference(), result.standardError(), result.unpairedStandardError(), result.varianceReduction());
+        System.out.printf("Played in %.2f s%n", elapsed / 1e9);
+    }
+}
@@ -0,0 +1,175 @@
+package upei.project;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs simulated games on a fixed pool of worker threads.
+ * Every game of a run has an index; game i plays configuration
+ * i / trials with the dice {@link DiceSource#forGame(long, long)} derives
+ * from the run's seed and i, so the games played do not depend on the
+ * number of threads and any one of them can be replayed on its own.
+ * Replay is exact for strategies that pick their moves from the position
+ * and roll alone, as every standard strategy of the
+ * {@link StrategyRegistry} does; a strategy that searches against the
+ * clock or keeps state from game to game does not replay.
+ *
+ * Workers claim small chunks of game indices from a shared counter,
+ * which keeps every core busy even though game lengths vary, and
+ * record the games they play into their own {@link SimulationStats}.
+ * Each worker plays all of its games on one {@link GameFixture}, so
+ * boards and players are built once per thread rather than once per game.
+ * The per-worker accumulators are merged after all workers finish, so
+ * no statistics are shared between threads while games are running.
+ *
+ * @author UPEI Project Team
+ * @version 1.0
+ * @see SimulationExperiment
+ * @see SimulationStats
+ */
+public class ParallelSimulation {
+    /** Number of game indices a worker claims at a time */
+    private static final int CHUNK_SIZE = 16;
+
+    /** Number of worker threads */
+    private final int threads;
+
+    /**
+     * Result of a simulation run.
+     *
+     * @param stats Merged statistics of every game
+     * @param threads Number of worker threads used
+     * @param elapsedNanos Wall clock time of the run in nanoseconds
+     */
+    public record Report(SimulationStats stats, int threads, long elapsedNanos) {
+        /**
+         * Gets the throughput of the run.
+         *
+         * @return Games simulated per second
+         */
+        public double gamesPerSecond() {
+            return elapsedNanos > 0 ? stats.getGames() * 1e9 / elapsedNanos : 0;
+        }
+    }
+
+    /**
+     * Creates a runner using the given number of worker threads.
+     *
+     * @param threads Number of worker threads
+     * @throws IllegalArgumentException if threads is not positive
+     */
+    public ParallelSimulation(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Thread count must be positive: " + threads);
+        }
+        this.threads = threads;
+    }
+
+    /**
+     * Creates a runner with one worker thread per available processor.
+     */
+    public ParallelSimulation() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Gets the number of worker threads.
+     *
+     * @return Number of worker threads
+     */
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * Plays every trial of every configuration and merges the statistics.
+     *
+     * @param configurations Strategy lists, one strategy per seat
+     * @param trials Number of games per configuration
+     * @param seed Seed of the run
+     * @return The merged statistics and timing of the run
+     */
+    public Report run(List<List<String>> configurations, int trials, long seed) {
+        return run(configurations, trials, seed, null);
+    }
+
+    /**
+     * Plays every trial of every configuration like
+     * {@link #run(List, int, long)} and also passes the detailed record of
+     * each game to a sink. Each worker fills its own {@link GameRecord},
+     * so the sink is the only thing the workers share.
+     *
+     * @param configurations Strategy lists, one strategy per seat
+     * @param trials Number of games per configuration
+     * @param seed Seed of the run
+     * @param sink Receiver of the game records, or null for none; not closed by the run
+     * @return The merged statistics and timing of the run
+     */
+    public Report run(List<List<String>> configurations, int trials, long seed, ResultSink sink) {
+        int totalGames = configurations.size() * trials;
+        AtomicInteger nextGame = new AtomicInteger();
+        long start = System.nanoTime();
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<SimulationStats>> workers = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                workers.add(pool.submit(() -> {
+                    SimulationStats local = new SimulationStats();
+                    GameFixture fixture = new GameFixture();
+                    GameRecord record = sink != null ? new GameRecord() : null;
+                    int first;
+                    while ((first = nextGame.getAndAdd(CHUNK_SIZE)) < totalGames) {
+                        int last = Math.min(first + CHUNK_SIZE, totalGames);
+                        for (int game = first; game < last; game++) {
+                            List<String> strategies = configurations.get(game / trials);
+                            if (record != null) {
+                                record.start(seed, game);
+                            }
+                            local.record(SimulationExperiment.playGame(fixture, strategies,
+                                DiceSource.forGame(seed, game), record));
+                            if (record != null) {
+                                sink.write(record);
+                            }
+                        }
+                    }
+                    return local;
+                }));
+            }
+
+            SimulationStats merged = new SimulationStats();
+            for (Future<SimulationStats> worker : workers) {
+                merged.merge(worker.get());
+            }
+            return new Report(merged, threads, System.nanoTime() - start);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Simulation was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Simulation worker failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Replays a single game of a run on the calling thread. The game is
+     * played exactly as it was in {@link #run(List, int, long)} with the
+     * same configurations, trials and seed, whatever the thread count.
+     *
+     * @param configurations Strategy lists of the run
+     * @param trials Number of games per configuration in the run
+     * @param seed Seed of the run
+     * @param game Index of the game within the run
+     * @return The outcome of the game
+     */
+    public static SimulationExperiment.GameResult replay(List<List<String>> configurations, int trials,
+                                                         long seed, int game) {
+        return SimulationExperiment.playGame(configurations.get(game / trials), DiceSource.forGame(seed, game));
+    }
+}
@@ -1,46 +1,54 @@
 package upei.project;
 
-import java.awt.*;
-import java.util.List;
+import java.awt.Color;
 
 /**
  * Represents a game piece in the Ludo board game.
  * Each piece belongs to a player and is identified by its color.
  * Pieces can move around the board, capture other pieces, and try to reach home.
- * The piece keeps track of its current position, whether it's in base, on the board,
- * or has reached home.
+ * The piece's position is stored in a slot of the board's {@link GameState};
+ * this class is the object view of that slot used by players and the GUI.
  *
  * @author UPEI Project Team
  * @version 1.0
  */
 public class Piece {
-    /** Current node where the piece is located (null means in base) */
-    private Node currentNode;
-    
     /** Color of the piece, determines its path and ownership */
-    private final Color color;
-    
-    /** Flag indicating if the piece has reached home */
-    private boolean isHome;
-    
-    /** Total number of nodes in the main track */
-    private static final int BOARD_SIZE = 52;
+    private final PlayerColor playerColor;
     
     /** Reference to the game board for position calculations */
-    private BoardPanel board;
+    private final Board board;
+
+    /** Game state holding this piece's position */
+    private final GameState state;
+
+    /** Slot of this piece in the game state */
+    private final int slot;
 
     /**
      * Constructs a new Piece with specified color and board reference.
-     * Initially, the piece starts in its base (currentNode = null).
+     * Initially, the piece starts in its base.
      *
      * @param color The color of the piece (BLUE, GREEN, YELLOW, or RED)
-     * @param board Reference to the game board
+     * @param board Reference to the game board, or null for a detached piece
      */
-    public Piece(Color color, BoardPanel board) {
-        this.color = color;
+    public Piece(PlayerColor color, Board board) {
+        this.playerColor = color;
         this.board = board;
-        this.currentNode = null;
-        this.isHome = false;
+        this.state = board != null ? board.getState() : new GameState();
+        this.slot = state.addPiece(playerColor.index());
+    }
+
+    /**
+     * Constructs a new Piece drawn with the given AWT color, as the GUI
+     * creates them.
+     *
+     * @param color The AWT color of the piece (BLUE, GREEN, YELLOW, or RED)
+     * @param board Reference to the game board, or null for a detached piece
+     * @throws IllegalArgumentException if the color is not a player color
+     */
+    public Piece(Color color, Board board) {
+        this(PieceColors.playerColor(color), board);
     }
 
     /**
@@ -53,78 +61,47 @@ public class Piece {
      *         Otherwise, returns the number of steps needed to reach home
      */
     public int getDistanceFromHome() {
-        // If piece is marked as home or is at the end of home stretch, return -1
-        if (isHome) {
+        int progress = state.progressOf(slot);
+        if (progress == MoveTable.HOME_PROGRESS) {
             return -1;
         }
-        
-        // If piece is in base, return MAX_VALUE
-        if (currentNode == null) {
+        // Pieces in base, and detached pieces, are not on the board yet
+        if (progress == MoveTable.BASE_PROGRESS || board == null) {
             return Integer.MAX_VALUE;
         }
-        
-        // If piece is in home stretch, count remaining steps to home
-        if (currentNode.getPosition() >= 300) {
-            int steps = 0;
-            Node current = currentNode;
-            while (current.getNext(color) != null) {
-                steps++;
-                current = current.getNext(color);
-            }
-            return steps;
-        }
-        
-        // Otherwise calculate distance to home entry point
-        int homePosition;
-        if (color == Color.BLUE) homePosition = 50;
-        else if (color == Color.GREEN) homePosition = 11;
-        else if (color == Color.YELLOW) homePosition = 24;
-        else if (color == Color.RED) homePosition = 37;
-        else return Integer.MAX_VALUE;
-
-        int currentPos = currentNode.getPosition();
-        if (currentPos <= homePosition) {
-            return homePosition - currentPos;
-        } else {
-            return BOARD_SIZE - currentPos + homePosition;
-        }
+        // Home stretch pieces count the steps left in the stretch,
+        // main track pieces the steps to their home entry
+        return progress > MoveTable.ENTRY_PROGRESS
+            ? MoveTable.LAST_STRETCH_PROGRESS - progress
+            : MoveTable.ENTRY_PROGRESS - progress;
     }
 
     /**
-     * Validates if a proposed move is legal according to Ludo rules.
-     * Checks various conditions including:
+     * Checks if a proposed move is legal according to Ludo rules without
+     * throwing. Checks various conditions including:
      * - Valid number of steps
+     * - Pieces that already reached home stay there
      * - Requirements for moving out of base (needs a 6)
-     * - Prevention of moving backwards on main track
-     * - Valid movement within home stretch
+     * - Prevention of moving backwards or past the end of the path
+     *
+     * @param steps Number of steps to move
+     * @return {@link GameState#MOVE_OK} or the reason the move is illegal
+     */
+    public int checkMove(int steps) {
+        return state.checkMove(slot, steps);
+    }
+
+    /**
+     * Validates if a proposed move is legal according to Ludo rules.
+     * Adapts {@link #checkMove(int)} for callers that report errors to the user.
      *
      * @param steps Number of steps to move
      * @throws InvalidMoveException if the move violates any game rules
      */
     void validateMove(int steps) throws InvalidMoveException {
-        if (steps < 1) {
-            throw new InvalidMoveException("Invalid number of steps");
-        }
-
-        // If in base, can only move out with a 6
-        if (currentNode == null && steps != 6) {
-            throw new InvalidMoveException("Need a 6 to move out of base");
-        }
-
-        // Simulate the move to check if it's valid
-        Node targetNode = simulateMove(steps);
-        
-        // A null target is valid if we're in the home stretch
-        if (targetNode == null && (currentNode == null || currentNode.getPosition() < 300)) {
-            throw new InvalidMoveException("Invalid move: would go beyond board");
-        }
-
-        // Check if move would go backwards (only on main track)
-        if (targetNode != null && currentNode != null && 
-            targetNode.getPosition() < currentNode.getPosition() && 
-            !currentNode.isHomeEntry(color) && 
-            currentNode.getPosition() < 52) {
-            throw new InvalidMoveException("Cannot move backwards");
+        int result = checkMove(steps);
+        if (result != GameState.MOVE_OK) {
+            throw new InvalidMoveException(result);
         }
     }
 
@@ -141,54 +118,11 @@ public class Piece {
      * @return Node that would be reached, or null if move is invalid
      */
     public Node simulateMove(int steps) {
-        if (currentNode == null) {
-            if (steps == 6) {
-                // Get starting node based on color
-                int startPosition = 
-                    color == Color.BLUE ? 0 :
-                    color == Color.GREEN ? 13 :
-                    color == Color.YELLOW ? 26 :
-                    color == Color.RED ? 39 : -1;
-                
-                if (startPosition != -1) {
-                    return board.getNodeAtPosition(startPosition);
-                }
-                return null;
-            }
+        if (board == null) {
             return null;
         }
-
-        // Move forward the required steps - pieces can jump over others
-        Node current = currentNode;
-        for (int i = 0; i < steps; i++) {
-            Node next = current.getNext(color);
-            if (next == null) {
-                return null;
-            }
-            
-            // Handle board wraparound for main track
-            // If we're on main track (position < 52) and next node is a home stretch node (position >= 300)
-            // and we're not at our home entry point, wrap around to position 0
-            if (current.getPosition() < 52 && next.getPosition() >= 300 && !current.isHomeEntry(color)) {
-                next = board.getNodeAtPosition(0);
-            }
-            
-            // If we're at our home entry point, take the home path
-            if (current.isHomeEntry(color)) {
-                next = current.getNext(color);  // This will automatically use home path if appropriate
-                if (next == null) {
-                    return null;  // Can't move further
-                }
-            }
-            
-            // Prevent moving backwards on main track (not in home path)
-            if (current.getPosition() < 52 && next.getPosition() < current.getPosition() && !current.isHomeEntry(color)) {
-                return null;
-            }
-            
-            current = next;
-        }
-        return current;
+        int square = state.walk(slot, steps);
+        return square == GameState.NO_MOVE ? null : board.getNode(square);
     }
 
     /**
@@ -200,81 +134,26 @@ public class Piece {
      * - Reaching home
      *
      * @param steps Number of steps to move
+     * @return Bit mask of the game state slots captured by the move
      * @throws InvalidMoveException if the move is not valid
      */
-    public void move(int steps) throws InvalidMoveException {
-        validateMove(steps);
-        
-        // Remove from current node if on board
-        if (currentNode != null) {
-            currentNode.removePiece(this);
-        }
-
-        if (currentNode == null && steps == 6) {
-            // Moving out of base
-            int startPosition = 
-                color == Color.BLUE ? 0 :
-                color == Color.GREEN ? 13 :
-                color == Color.YELLOW ? 26 :
-                color == Color.RED ? 39 : -1;
-            
-            if (startPosition != -1) {
-                Node startNode = board.getNodeAtPosition(startPosition);
-                if (startNode != null) {
-                    // Handle any opponent pieces at the start position
-                    handleOpponentPieces(startNode);
-                    currentNode = startNode;
-                    currentNode.addPiece(this);
-                } else {
-                    throw new InvalidMoveException("Invalid start position");
-                }
-            }
-            return;
+    public int move(int steps) throws InvalidMoveException {
+        Node from = getCurrentNode();
+        int captured = state.move(slot, steps);
+        if (captured < 0) {
+            throw new InvalidMoveException(checkMove(steps));
         }
 
-        // Regular move
-        Node targetNode = simulateMove(steps);
-        if (targetNode == null) {
-            // If we're in the home stretch and can't move further, we've reached home
-            if (currentNode != null && currentNode.getPosition() >= 300) {
-                isHome = true;
-                currentNode = null;  // Remove from board
-            } else {
-                throw new InvalidMoveException("Invalid move: target position is null");
-            }
-            return;
+        // Keep the node view in step with the game state, which has
+        // already sent the captured opponent pieces back to base.
+        if (from != null) {
+            from.removePiece(this);
         }
-
-        // If we're at the last node in home stretch and have exact steps to reach home
-        if (targetNode.getPosition() >= 300 && targetNode.getNext(color) == null) {
-            isHome = true;
-            currentNode = null;  // Remove from board
-            return;
-        }
-
-        // Handle any opponent pieces at the target position
-        handleOpponentPieces(targetNode);
-        currentNode = targetNode;
-        currentNode.addPiece(this);
-    }
-
-    /**
-     * Handles interaction with opponent pieces at a target node.
-     * If the target is not a safe spot, all opponent pieces are sent back to their base.
-     *
-     * @param node The target node where opponent pieces might be present
-     */
-    private void handleOpponentPieces(Node node) {
-        if (!node.isSafeSpot()) {  // Only capture on non-safe spots
-            List<Piece> opponentPieces = node.getPieces().stream()
-                .filter(p -> p.getColor() != this.color)
-                .toList();
-            
-            // Send all opponent pieces back to base
-            for (Piece opponent : opponentPieces) {
-                opponent.sendToBase();
-            }
+        Node to = getCurrentNode();
+        if (to != null) {
+            to.arrive(this, captured);
         }
+        return captured;
     }
 
     /**
@@ -283,20 +162,29 @@ public class Piece {
      * Removes the piece from its current node and resets home status.
      */
     public void sendToBase() {
+        Node currentNode = getCurrentNode();
         if (currentNode != null) {
             currentNode.removePiece(this);
-            currentNode = null;
         }
-        isHome = false;
+        state.sendToBase(slot);
     }
 
     /**
-     * Gets the color of this piece.
+     * Gets the color this piece is drawn with.
      *
-     * @return Color of the piece (BLUE, GREEN, YELLOW, or RED)
+     * @return AWT color of the piece (BLUE, GREEN, YELLOW, or RED)
      */
     public Color getColor() {
-        return color;
+        return PieceColors.awtColor(playerColor);
+    }
+
+    /**
+     * Gets the engine color of this piece.
+     *
+     * @return The piece's engine color
+     */
+    public PlayerColor getPlayerColor() {
+        return playerColor;
     }
 
     /**
@@ -305,7 +193,25 @@ public class Piece {
      * @return Current node, or null if piece is in base or home
      */
     public Node getCurrentNode() {
-        return currentNode;
+        return board != null ? board.getNode(state.getSquare(slot)) : null;
+    }
+
+    /**
+     * Gets the game state holding this piece's position.
+     *
+     * @return The piece's game state
+     */
+    public GameState getState() {
+        return state;
+    }
+
+    /**
+     * Gets the slot of this piece in its game state.
+     *
+     * @return The piece's slot
+     */
+    public int getSlot() {
+        return slot;
     }
 
     /**
@@ -314,7 +220,7 @@ public class Piece {
      * @return true if piece is in base (not on board and not home), false otherwise
      */
     public boolean isAtHome() {
-        return currentNode == null && !isHome;
+        return state.isInBase(slot);
     }
 
     /**
@@ -323,7 +229,7 @@ public class Piece {
      * @return true if piece has reached home, false otherwise
      */
     public boolean hasReachedHome() {
-        return isHome;
+        return state.isHome(slot);
     }
 
     /**
@@ -337,27 +243,18 @@ public class Piece {
      *         Otherwise, returns the simulated distance to home
      */
     public int simulateDistanceFromHome(int steps) {
-        if (isHome) return -1;
-        
-        Node targetNode = simulateMove(steps);
-        if (targetNode == null) return getDistanceFromHome();
+        if (hasReachedHome()) return -1;
 
-        // Check if piece would reach home
-        int homePosition = 
-            color == Color.BLUE ? 50 :
-            color == Color.GREEN ? 11 :
-            color == Color.YELLOW ? 24 :
-            color == Color.RED ? 37 : -1;
+        int square = state.walk(slot, steps);
+        if (square == GameState.NO_MOVE || board == null) return getDistanceFromHome();
 
-        if (targetNode.getPosition() == homePosition) {
+        // Check if piece would reach its home entry
+        int progress = MoveTable.progressOf(playerColor.index(), square);
+        if (progress == MoveTable.ENTRY_PROGRESS) {
             return -1;
         }
-
-        // Calculate distance from simulated position
-        if (targetNode.getPosition() <= homePosition) {
-            return homePosition - targetNode.getPosition();
-        } else {
-            return BOARD_SIZE - targetNode.getPosition() + homePosition;
-        }
+        return progress > MoveTable.ENTRY_PROGRESS
+            ? MoveTable.LAST_STRETCH_PROGRESS - progress
+            : MoveTable.ENTRY_PROGRESS - progress;
     }
 }
@@ -0,0 +1,54 @@
+package upei.project;
+
+import java.awt.Color;
+
+/**
+ * Maps the engine's {@link PlayerColor}s to the AWT colors the view draws
+ * them with, and back. Only the GUI and the constructors that take an AWT
+ * color use this class, so headless simulations never load AWT.
+ *
+ * @author UPEI Project Team
+ * @version 1.0
+ * @see PlayerColor
+ * @see BoardPanel
+ */
+public final class PieceColors {
+    /** AWT color of each player color, indexed by {@link PlayerColor#index()} */
+    private static final Color[] AWT_COLORS = {Color.BLUE, Color.GREEN, Color.YELLOW, Color.RED};
+
+    private PieceColors() {
+    }
+
+    /**
+     * Gets the color a player color's pieces are drawn with.
+     *
+     * @param color The player color
+     * @return The AWT color
+     */
+    public static Color awtColor(PlayerColor color) {
+        return AWT_COLORS[color.index()];
+    }
+
+    /**
+     * Gets the player color drawn with the given AWT color. The constants
+     * of {@link Color} are matched by reference first, which is how the
+     * game creates its players; equal colors made elsewhere also match.
+     *
+     * @param color The AWT color
+     * @return The player color
+     * @throws IllegalArgumentException if the color is not a player color
+     */
+    public static PlayerColor playerColor(Color color) {
+        for (int index = 0; index < AWT_COLORS.length; index++) {
+            if (AWT_COLORS[index] == color) {
+                return PlayerColor.fromIndex(index);
+            }
+        }
+        for (int index = 0; index < AWT_COLORS.length; index++) {
+            if (AWT_COLORS[index].equals(color)) {
+                return PlayerColor.fromIndex(index);
+            }
+        }
+        throw new IllegalArgumentException("Invalid color");
+    }
+}
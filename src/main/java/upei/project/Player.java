@@ -22,11 +22,14 @@ import java.util.Optional;
  * @version 1.0
  */
 public abstract class Player {
+    /** Default validator, answered through the exception-free move check */
+    private static final MoveValidator DEFAULT_VALIDATOR = Piece::validateMove;
+
     /** Player's display name */
     protected String name;
     
     /** Player's color, determines their pieces and path */
-    protected Color color;
+    protected PlayerColor playerColor;
     
     /** List of pieces owned by this player */
     protected List<Piece> pieces;
@@ -40,6 +43,21 @@ public abstract class Player {
     /** Reference to all players in the game for interaction */
     private List<Player> allPlayers;
 
+    /** Piece list the cached slot mask was built from */
+    private List<Piece> slotPieces;
+
+    /** Size of the piece list when the slot mask was built */
+    private int slotPieceCount;
+
+    /** Game state holding every piece of the player, or null if they are spread over several */
+    private GameState slotState;
+
+    /** Slots of the player's pieces in {@link #slotState} */
+    private int slotMask;
+
+    /** Scores of the candidate moves, reused from turn to turn */
+    private double[] moveScores;
+
     /**
      * Constructs a player with basic attributes and default strategies.
      * Sets up the default move validator and strategy.
@@ -47,13 +65,25 @@ public abstract class Player {
      * @param name Player's display name
      * @param color Player's color (determines piece paths)
      */
-    public Player(String name, Color color) {
+    public Player(String name, PlayerColor color) {
         this.name = name;
-        this.color = color;
-        this.moveValidator = Piece::validateMove;
+        this.playerColor = color;
+        this.moveValidator = DEFAULT_VALIDATOR;
         this.moveStrategy = (piece, dieRoll, player, players) -> evaluateMove(piece, dieRoll);
     }
 
+    /**
+     * Constructs a player drawn with the given AWT color, as the GUI
+     * creates them.
+     *
+     * @param name Player's display name
+     * @param color Player's AWT color
+     * @throws IllegalArgumentException if the color is not a player color
+     */
+    public Player(String name, Color color) {
+        this(name, PieceColors.playerColor(color));
+    }
+
     /**
      * Constructs a player with pieces and initializes strategies.
      *
@@ -61,11 +91,23 @@ public abstract class Player {
      * @param color Player's color
      * @param pieces List of pieces owned by this player
      */
-    public Player(String name, Color color, List<Piece> pieces) {
+    public Player(String name, PlayerColor color, List<Piece> pieces) {
         this(name, color);
         this.pieces = pieces;
     }
 
+    /**
+     * Constructs a player with pieces, drawn with the given AWT color.
+     *
+     * @param name Player's display name
+     * @param color Player's AWT color
+     * @param pieces List of pieces owned by this player
+     * @throws IllegalArgumentException if the color is not a player color
+     */
+    public Player(String name, Color color, List<Piece> pieces) {
+        this(name, PieceColors.playerColor(color), pieces);
+    }
+
     /**
      * Default strategy for evaluating potential moves.
      * Prioritizes:
@@ -93,6 +135,16 @@ public abstract class Player {
         this.moveValidator = validator;
     }
 
+    /**
+     * Sets the strategy used to evaluate potential moves.
+     * Allows players to be driven by any {@link MoveStrategy}, such as a search.
+     *
+     * @param strategy The move evaluation strategy to use
+     */
+    public void setMoveStrategy(MoveStrategy strategy) {
+        this.moveStrategy = strategy;
+    }
+
     /**
      * Updates the reference to all players in the game.
      * Required for handling piece captures and player interaction.
@@ -122,15 +174,74 @@ public abstract class Player {
      */
     public abstract void makeMove(int dieRoll, List<Player> allPlayers);
 
+    /**
+     * Plays a turn like {@link #makeMove} and reports what happened as a
+     * packed {@link TurnOutcome}, so headless callers need not compare the
+     * board before and after the turn.
+     *
+     * This implementation records the squares of the player's pieces and
+     * the number of opponents in base, lets {@link #makeMove} play the
+     * turn and reports the first piece that changed square. Players that
+     * know which move they make override it to report the move directly.
+     *
+     * @param dieRoll The result of the die roll
+     * @param allPlayers List of all players for interaction
+     * @return The packed outcome, or {@link TurnOutcome#NONE} if no piece moved
+     */
+    public int playTurn(int dieRoll, List<Player> allPlayers) {
+        if (pieces == null || pieces.isEmpty()) {
+            makeMove(dieRoll, allPlayers);
+            return TurnOutcome.NONE;
+        }
+        GameState state = pieces.get(0).getState();
+        int count = Math.min(pieces.size(), GameState.PIECES_PER_COLOR);
+        long before = 0;
+        for (int i = 0; i < count; i++) {
+            before |= (long) (pieces.get(i).getState().getSquare(pieces.get(i).getSlot()) + 1) << (i * 8);
+        }
+        int opponentsInBase = opponentsInBase(state);
+
+        makeMove(dieRoll, allPlayers);
+
+        for (int i = 0; i < count; i++) {
+            Piece piece = pieces.get(i);
+            int from = (int) (before >>> (i * 8) & 0xFF) - 1;
+            int to = piece.getState().getSquare(piece.getSlot());
+            if (from != to) {
+                int captures = Math.max(0, opponentsInBase(state) - opponentsInBase);
+                return TurnOutcome.of(i, from, to, captures, dieRoll);
+            }
+        }
+        return TurnOutcome.NONE;
+    }
+
+    /**
+     * Counts the pieces of the other colors waiting in base.
+     */
+    private int opponentsInBase(GameState state) {
+        int myColor = getPlayerColor().index();
+        int total = 0;
+        for (int color = 0; color < GameState.NUM_COLORS; color++) {
+            if (color != myColor) {
+                total += state.baseCount(color);
+            }
+        }
+        return total;
+    }
+
     /**
      * Validates if a move is legal for a given piece and die roll.
-     * Uses the current move validation strategy.
+     * Uses the current move validation strategy. The default validator is
+     * answered with {@link Piece#checkMove(int)}, which neither allocates nor throws.
      *
      * @param piece The piece to move
      * @param dieRoll The number of spaces to move
      * @return true if the move is valid
      */
     protected boolean isValidMove(Piece piece, int dieRoll) {
+        if (moveValidator == DEFAULT_VALIDATOR) {
+            return piece.checkMove(dieRoll) == GameState.MOVE_OK;
+        }
         try {
             moveValidator.validate(piece, dieRoll);
             return true;
@@ -148,6 +259,9 @@ public abstract class Player {
      * @return Error message if move is invalid, null if valid
      */
     protected String getInvalidMoveReason(Piece piece, int dieRoll) {
+        if (moveValidator == DEFAULT_VALIDATOR) {
+            return InvalidMoveException.describe(piece.checkMove(dieRoll));
+        }
         try {
             moveValidator.validate(piece, dieRoll);
             return null;
@@ -166,12 +280,56 @@ public abstract class Player {
      */
     protected Optional<Piece> findBestPiece(int dieRoll, List<Player> allPlayers) {
         setAllPlayers(allPlayers);
-        return pieces.stream()
-            .filter(piece -> isValidMove(piece, dieRoll))
-            .max((p1, p2) -> Double.compare(
-                moveStrategy.evaluateMove(p1, dieRoll, this, allPlayers),
-                moveStrategy.evaluateMove(p2, dieRoll, this, allPlayers)
-            ));
+        int best = bestMoveIndex(dieRoll, allPlayers);
+        return best < 0 ? Optional.empty() : Optional.of(pieces.get(best));
+    }
+
+    /**
+     * Scores every legal move for a die roll in one batched call to the
+     * move strategy and returns the highest scoring one. Ties go to the
+     * piece that comes first.
+     *
+     * @param dieRoll The current die roll
+     * @param allPlayers List of all players for move evaluation
+     * @return Index of the best piece in {@link #getPieces()}, or -1 if no move is legal
+     */
+    protected int bestMoveIndex(int dieRoll, List<Player> allPlayers) {
+        int legalMoves = legalMoveMask(dieRoll);
+        if (legalMoves == 0) {
+            return -1;
+        }
+        if (moveScores == null || moveScores.length < pieces.size()) {
+            moveScores = new double[pieces.size()];
+        }
+        moveStrategy.evaluateMoves(this, dieRoll, legalMoves, allPlayers, moveScores);
+
+        int best = -1;
+        double bestScore = Double.NEGATIVE_INFINITY;
+        for (int rest = legalMoves; rest != 0; rest &= rest - 1) {
+            int i = Integer.numberOfTrailingZeros(rest);
+            if (best < 0 || Double.compare(moveScores[i], bestScore) > 0) {
+                bestScore = moveScores[i];
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Returns which of this player's pieces can legally move with a die roll.
+     * Bit i of the result is set if the i-th piece in {@link #getPieces()} can move.
+     *
+     * @param dieRoll The current die roll
+     * @return Bit mask of pieces with a legal move (4 bits for a regular player)
+     */
+    public int legalMoveMask(int dieRoll) {
+        int mask = 0;
+        for (int i = 0; i < pieces.size(); i++) {
+            if (isValidMove(pieces.get(i), dieRoll)) {
+                mask |= 1 << i;
+            }
+        }
+        return mask;
     }
 
     /**
@@ -182,15 +340,22 @@ public abstract class Player {
      * @param allPlayers List of all players to check for capturable pieces
      */
     protected void handleCapture(Node targetNode, List<Player> allPlayers) {
-        if (targetNode == null || targetNode.isSafe()) return;
-
-        // Find all pieces that can be captured at the target node
-        allPlayers.stream()
-            .filter(player -> player != this)
-            .forEach(player -> player.getPieces().stream()
-                .filter(piece -> !piece.isAtHome() && !piece.hasReachedHome() && 
-                               piece.getCurrentNode() == targetNode)
-                .forEach(Piece::sendToBase));
+        if (targetNode == null || targetNode.isSafe() || pieces.isEmpty()) return;
+
+        // Ask the occupancy index which pieces can be captured at the target node
+        GameState state = pieces.get(0).getState();
+        int captured = state.captureMask(getPlayerColor().index(),
+            GameState.squareOf(targetNode.getPosition()));
+        if (captured == 0) return;
+
+        for (Player player : allPlayers) {
+            if (player == this) continue;
+            for (Piece piece : player.getPieces()) {
+                if (piece.getState() == state && (captured & (1 << piece.getSlot())) != 0) {
+                    piece.sendToBase();
+                }
+            }
+        }
     }
 
     /**
@@ -200,7 +365,7 @@ public abstract class Player {
      * @return true if at least one valid move exists
      */
     public boolean hasValidMoves(int dieRoll) {
-        return !pieces.isEmpty() && pieces.stream().anyMatch(piece -> isValidMove(piece, dieRoll));
+        return legalMoveMask(dieRoll) != 0;
     }
 
     /**
@@ -213,12 +378,21 @@ public abstract class Player {
     }
 
     /**
-     * Gets the player's color.
+     * Gets the color the player's pieces are drawn with.
      *
-     * @return Player's color
+     * @return Player's AWT color
      */
     public Color getColor() {
-        return color;
+        return PieceColors.awtColor(playerColor);
+    }
+
+    /**
+     * Gets the engine color of the player.
+     *
+     * @return Player's engine color
+     */
+    public PlayerColor getPlayerColor() {
+        return playerColor;
     }
 
     /**
@@ -245,7 +419,77 @@ public abstract class Player {
      * @return true if all pieces have reached home
      */
     public boolean hasWon() {
-        return !pieces.isEmpty() && pieces.stream().allMatch(Piece::hasReachedHome);
+        return !pieces.isEmpty() && getPiecesReachedHome() == pieces.size();
+    }
+
+    /**
+     * Gets the number of the player's pieces waiting in base. Read from
+     * the base flags the game state keeps up to date on every move and
+     * capture, so no piece is inspected.
+     *
+     * @return Number of pieces in base
+     */
+    public int getPiecesInBase() {
+        if (refreshSlots()) {
+            return Integer.bitCount(slotState.getBaseMask() & slotMask);
+        }
+        int count = 0;
+        for (Piece piece : pieces) {
+            if (piece.isAtHome()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Gets the number of the player's pieces that have reached home.
+     *
+     * @return Number of pieces home
+     */
+    public int getPiecesReachedHome() {
+        if (refreshSlots()) {
+            return Integer.bitCount(slotState.getHomeMask() & slotMask);
+        }
+        int count = 0;
+        for (Piece piece : pieces) {
+            if (piece.hasReachedHome()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Gets the number of the player's pieces on the board, neither in
+     * base nor home.
+     *
+     * @return Number of pieces on the board
+     */
+    public int getPiecesOnBoard() {
+        return pieces.size() - getPiecesInBase() - getPiecesReachedHome();
+    }
+
+    /**
+     * Rebuilds the slot mask if the piece list was replaced or resized.
+     *
+     * @return true if every piece shares one game state and the mask applies
+     */
+    private boolean refreshSlots() {
+        if (pieces != slotPieces || pieces.size() != slotPieceCount) {
+            slotPieces = pieces;
+            slotPieceCount = pieces.size();
+            slotState = pieces.isEmpty() ? null : pieces.get(0).getState();
+            slotMask = 0;
+            for (Piece piece : pieces) {
+                if (piece.getState() != slotState) {
+                    slotState = null;
+                    break;
+                }
+                slotMask |= 1 << piece.getSlot();
+            }
+        }
+        return slotState != null;
     }
 
     /**
@@ -334,20 +578,9 @@ public abstract class Player {
                 return MoveResult.failure("Invalid move: target position is null");
             }
 
-            // Check if there are pieces that can be captured at the target node
-            boolean canCapture = !targetNode.isSafe() && allPlayers.stream()
-                .filter(p -> p != this)
-                .flatMap(p -> p.getPieces().stream())
-                .anyMatch(p -> !p.isAtHome() && !p.hasReachedHome() && 
-                             p.getCurrentNode() == targetNode);
-
-            piece.move(dieRoll);
-            
-            if (canCapture) {
-                handleCapture(piece.getCurrentNode(), allPlayers);
-            }
-            
-            return MoveResult.success(canCapture);
+            // The game state resolves any capture at the target node
+            boolean captured = piece.move(dieRoll) != 0;
+            return MoveResult.success(captured);
         } catch (InvalidMoveException e) {
             return MoveResult.failure(e.getMessage());
         }
@@ -371,8 +604,8 @@ public abstract class Player {
      * @return GameStats containing current piece distribution
      */
     public GameStats getStats() {
-        int piecesAtHome = (int) pieces.stream().filter(Piece::isAtHome).count();
-        int piecesReachedHome = (int) pieces.stream().filter(Piece::hasReachedHome).count();
+        int piecesAtHome = getPiecesInBase();
+        int piecesReachedHome = getPiecesReachedHome();
         int piecesOnBoard = pieces.size() - piecesAtHome - piecesReachedHome;
         
         return new GameStats(piecesAtHome, piecesReachedHome, piecesOnBoard);
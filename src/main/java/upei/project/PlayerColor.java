@@ -0,0 +1,77 @@
+package upei.project;
+
+/**
+ * The four player colors of the game and the board squares that belong to
+ * each of them. The ordinal of a color is its engine index, so tables in
+ * {@link GameState} and the strategies are indexed by {@link #index()}
+ * instead of branching on the color a player is drawn with.
+ *
+ * The enum holds no AWT types; {@link PieceColors} maps it to the colors
+ * the view draws the pieces with.
+ *
+ * @author UPEI Project Team
+ * @version 1.0
+ * @see PieceColors
+ */
+public enum PlayerColor {
+    BLUE(0, 50),
+    GREEN(13, 11),
+    YELLOW(26, 24),
+    RED(39, 37);
+
+    /** Colors in index order */
+    private static final PlayerColor[] VALUES = values();
+
+    /** Main track square where the color's pieces enter the board */
+    private final int startSquare;
+
+    /** Main track square where the color's pieces turn into their home stretch */
+    private final int homeEntry;
+
+    PlayerColor(int startSquare, int homeEntry) {
+        this.startSquare = startSquare;
+        this.homeEntry = homeEntry;
+    }
+
+    /**
+     * Gets the engine index of this color.
+     *
+     * @return The index (BLUE 0, GREEN 1, YELLOW 2, RED 3)
+     */
+    public int index() {
+        return ordinal();
+    }
+
+    /**
+     * Gets the main track square where this color's pieces enter the board.
+     *
+     * @return The start square
+     */
+    public int getStartSquare() {
+        return startSquare;
+    }
+
+    /**
+     * Gets the main track square where this color's pieces leave the main
+     * track for their home stretch.
+     *
+     * @return The home entry square
+     */
+    public int getHomeEntry() {
+        return homeEntry;
+    }
+
+    /**
+     * Gets the color with the given engine index.
+     *
+     * @param index The index, 0 to 3
+     * @return The color
+     * @throws IllegalArgumentException if the index is out of range
+     */
+    public static PlayerColor fromIndex(int index) {
+        if (index < 0 || index >= VALUES.length) {
+            throw new IllegalArgumentException("Invalid color index: " + index);
+        }
+        return VALUES[index];
+    }
+}
@@ -0,0 +1,139 @@
+package upei.project;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Streams the records of a binary results file written by
+ * {@link ResultFileSink}. The file is read through one fixed buffer and
+ * every record is decoded into the same {@link GameRecord}, so files of
+ * any size can be read with constant memory.
+ *
+ * A file may hold the output of several sinks appended one after the
+ * other; strategy ids are restarted at each sink's first name entry.
+ *
+ * @author UPEI Project Team
+ * @version 1.0
+ * @see ResultFileSink
+ */
+public final class ResultFileReader {
+    /** Size of the read buffer */
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private ResultFileReader() {
+    }
+
+    /**
+     * Reads every record of a binary results file.
+     *
+     * @param file File to read
+     * @param consumer Receiver of each record; the record is reused for the next one
+     * @return Number of records read
+     * @throws IOException if the file cannot be read or is not a results file
+     */
+    public static long read(Path file, Consumer<GameRecord> consumer) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            buffer.flip();
+            if (!fill(channel, buffer, 5)) {
+                throw new IOException("Not a results file: " + file);
+            }
+            if (buffer.getInt() != ResultFileSink.MAGIC) {
+                throw new IOException("Not a results file: " + file);
+            }
+            int version = buffer.get();
+            if (version != ResultFileSink.VERSION) {
+                throw new IOException("Unsupported results file version: " + version);
+            }
+
+            List<String> names = new ArrayList<>();
+            GameRecord record = new GameRecord();
+            String[] lineup = new String[GameRecord.SEATS];
+            long count = 0;
+            while (fill(channel, buffer, 1)) {
+                byte tag = buffer.get();
+                if (tag == ResultFileSink.NAME_ENTRY) {
+                    require(channel, buffer, 4);
+                    int id = buffer.getShort();
+                    int length = buffer.getShort();
+                    require(channel, buffer, length);
+                    byte[] bytes = new byte[length];
+                    buffer.get(bytes);
+                    // A new sink's ids start again from zero
+                    if (id == 0) {
+                        names.clear();
+                    }
+                    names.add(new String(bytes, StandardCharsets.UTF_8));
+                } else if (tag == ResultFileSink.GAME_ENTRY) {
+                    require(channel, buffer, ResultFileSink.GAME_SIZE);
+                    long campaignSeed = buffer.getLong();
+                    record.start(campaignSeed, buffer.getLong());
+                    for (int seat = 0; seat < GameRecord.SEATS; seat++) {
+                        lineup[seat] = names.get(buffer.getShort());
+                    }
+                    int placings = buffer.get() & 0xFF;
+                    record.finish(List.of(lineup), placings, buffer.getInt());
+                    for (int seat = 0; seat < GameRecord.SEATS; seat++) {
+                        record.setCaptures(seat, buffer.getShort());
+                    }
+                    for (int seat = 0; seat < GameRecord.SEATS; seat++) {
+                        for (int piece = 0; piece < GameState.PIECES_PER_COLOR; piece++) {
+                            record.setFinishTurn(seat, piece, buffer.getShort());
+                        }
+                    }
+                    consumer.accept(record);
+                    count++;
+                } else {
+                    throw new IOException("Corrupt results file: unknown entry " + tag);
+                }
+            }
+            return count;
+        }
+    }
+
+    /**
+     * Reads more of the file until the buffer holds at least the given
+     * number of bytes.
+     *
+     * @return False if the file ended with the buffer empty
+     * @throws EOFException if the file ended inside an entry
+     */
+    private static boolean fill(FileChannel channel, ByteBuffer buffer, int bytes) throws IOException {
+        if (buffer.remaining() >= bytes) {
+            return true;
+        }
+        buffer.compact();
+        try {
+            while (buffer.position() < bytes) {
+                if (channel.read(buffer) < 0) {
+                    if (buffer.position() == 0) {
+                        return false;
+                    }
+                    throw new EOFException("Results file ends inside an entry");
+                }
+            }
+        } finally {
+            buffer.flip();
+        }
+        return true;
+    }
+
+    /**
+     * Reads more of the file until the buffer holds the rest of an entry.
+     *
+     * @throws EOFException if the file ended inside the entry
+     */
+    private static void require(FileChannel channel, ByteBuffer buffer, int bytes) throws IOException {
+        if (!fill(channel, buffer, bytes)) {
+            throw new EOFException("Results file ends inside an entry");
+        }
+    }
+}
@@ -0,0 +1,388 @@
+package upei.project;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Appends game records to a file, in a compact binary format or as CSV.
+ *
+ * Worker threads only encode their record into an in-memory buffer. Full
+ * buffers are handed to a writer thread, which appends them to the file
+ * through a {@link FileChannel}, so workers never wait for the disk while
+ * it keeps up. The sink owns a fixed number of buffers; if the disk falls
+ * behind by all of them, workers wait for a buffer to be written, which
+ * keeps memory bounded on any campaign size.
+ *
+ * Records are appended to what the file already holds. The binary format
+ * starts with a header, followed by entries of two kinds:
+ * - Strategy name: tag 1, id (short), UTF-8 length (short) and bytes.
+ *   Written before the first record of this sink using the name.
+ * - Game: tag 2, campaign seed (long), game index (long), the strategy id
+ *   of each seat (4 shorts), finishing order (byte), turns (int), the
+ *   captures of each seat (4 shorts) and the finish turn of each piece in
+ *   seat order (16 shorts, -1 if not home).
+ *
+ * {@link ResultFileReader} streams the binary format back. The CSV format
+ * has a header line and one line per game with the same fields.
+ *
+ * @author UPEI Project Team
+ * @version 1.0
+ * @see ResultSink
+ * @see ResultFileReader
+ */
+public class ResultFileSink implements ResultSink {
+    /** Format of a results file */
+    public enum Format {
+        /** Compact binary entries */
+        BINARY,
+        /** One comma-separated line per game */
+        CSV
+    }
+
+    /** File signature of the binary format, "LREC" */
+    static final int MAGIC = 0x4C524543;
+
+    /** Version of the binary format */
+    static final int VERSION = 1;
+
+    /** Tag of a strategy name entry */
+    static final byte NAME_ENTRY = 1;
+
+    /** Tag of a game entry */
+    static final byte GAME_ENTRY = 2;
+
+    /** Size of a game entry after its tag */
+    static final int GAME_SIZE = 8 + 8 + 2 * GameRecord.SEATS + 1 + 4
+        + 2 * GameRecord.SEATS + 2 * GameRecord.SEATS * GameState.PIECES_PER_COLOR;
+
+    /** Size of each buffer */
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    /** Number of buffers owned by the sink */
+    private static final int BUFFERS = 4;
+
+    /** Buffer with no content that tells the writer thread to stop */
+    private static final ByteBuffer END = ByteBuffer.allocate(0);
+
+    /** Format of the file */
+    private final Format format;
+
+    /** Channel appending to the file */
+    private final FileChannel channel;
+
+    /** Buffers ready to be filled */
+    private final BlockingQueue<ByteBuffer> free = new ArrayBlockingQueue<>(BUFFERS);
+
+    /** Filled buffers waiting for the writer thread */
+    private final BlockingQueue<ByteBuffer> full = new ArrayBlockingQueue<>(BUFFERS + 1);
+
+    /** Thread writing full buffers to the file */
+    private final Thread writer;
+
+    /** Ids of the strategy names written so far */
+    private final Map<String, Integer> names = new HashMap<>();
+
+    /** Buffer being filled by the workers */
+    private ByteBuffer current;
+
+    /** First failure of the writer thread */
+    private volatile IOException failure;
+
+    /** Whether the sink has been closed */
+    private boolean closed;
+
+    /**
+     * Opens a file for appending records, creating it if needed. A header
+     * is written if the file is empty; otherwise the file must already be
+     * in the given format.
+     *
+     * @param file File to append to
+     * @param format Format of the file
+     * @throws IOException if the file cannot be opened, or holds data in another format or version
+     */
+    public ResultFileSink(Path file, Format format) throws IOException {
+        this.format = format;
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+            StandardOpenOption.APPEND);
+        if (channel.size() > 0) {
+            try {
+                checkHeader(file, format);
+            } catch (IOException e) {
+                channel.close();
+                throw e;
+            }
+        }
+        for (int i = 0; i < BUFFERS; i++) {
+            free.add(ByteBuffer.allocateDirect(BUFFER_SIZE));
+        }
+        this.current = free.poll();
+        if (channel.size() == 0) {
+            if (format == Format.BINARY) {
+                current.putInt(MAGIC).put((byte) VERSION);
+            } else {
+                StringBuilder header = new StringBuilder("campaign_seed,game_index");
+                for (int seat = 0; seat < GameRecord.SEATS; seat++) {
+                    header.append(",strategy").append(seat);
+                }
+                for (int place = 0; place < GameRecord.SEATS; place++) {
+                    header.append(",place").append(place);
+                }
+                header.append(",turns");
+                for (int seat = 0; seat < GameRecord.SEATS; seat++) {
+                    header.append(",captures").append(seat);
+                }
+                for (int seat = 0; seat < GameRecord.SEATS; seat++) {
+                    for (int piece = 0; piece < GameState.PIECES_PER_COLOR; piece++) {
+                        header.append(",finish").append(seat).append('_').append(piece);
+                    }
+                }
+                current.put(header.append('\n').toString().getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        this.writer = new Thread(this::writeBuffers, "result-sink-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Checks that a file which already holds data can be appended to in
+     * the given format: a binary file must start with the signature and
+     * version written by this class, and a CSV file must not start with
+     * the binary signature.
+     *
+     * @throws IOException if the file holds data in another format or version
+     */
+    private static void checkHeader(Path file, Format format) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(5);
+        try (FileChannel reader = FileChannel.open(file, StandardOpenOption.READ)) {
+            // Read until the header is complete or the file ends
+            int read = 0;
+            while (header.hasRemaining() && read >= 0) {
+                read = reader.read(header);
+            }
+        }
+        header.flip();
+        boolean binary = header.remaining() >= 4 && header.getInt(0) == MAGIC;
+        if (format == Format.CSV) {
+            if (binary) {
+                throw new IOException("Cannot append CSV to a binary results file: " + file);
+            }
+            return;
+        }
+        if (!binary || header.remaining() < 5) {
+            throw new IOException("Not a results file: " + file);
+        }
+        int version = header.get(4);
+        if (version != VERSION) {
+            throw new IOException("Unsupported results file version: " + version);
+        }
+    }
+
+    /**
+     * Opens a file for appending records in the binary format.
+     *
+     * @param file File to append to
+     * @return The sink
+     * @throws IOException if the file cannot be opened
+     */
+    public static ResultFileSink binary(Path file) throws IOException {
+        return new ResultFileSink(file, Format.BINARY);
+    }
+
+    /**
+     * Opens a file for appending records as CSV.
+     *
+     * @param file File to append to
+     * @return The sink
+     * @throws IOException if the file cannot be opened
+     */
+    public static ResultFileSink csv(Path file) throws IOException {
+        return new ResultFileSink(file, Format.CSV);
+    }
+
+    /**
+     * Encodes a record into the current buffer.
+     *
+     * @param record Record of the game
+     * @throws UncheckedIOException if the writer thread failed to write earlier records
+     * @throws IllegalStateException if the sink is closed or the calling thread was interrupted
+     */
+    @Override
+    public synchronized void write(GameRecord record) {
+        if (closed) {
+            throw new IllegalStateException("Result sink is closed");
+        }
+        checkFailure();
+        if (format == Format.BINARY) {
+            writeBinary(record);
+        } else {
+            byte[] line = csvLine(record).getBytes(StandardCharsets.UTF_8);
+            reserve(line.length);
+            current.put(line);
+        }
+    }
+
+    /**
+     * Encodes a record as a game entry, preceded by the entries of the
+     * strategy names not written yet.
+     */
+    private void writeBinary(GameRecord record) {
+        short[] ids = new short[GameRecord.SEATS];
+        for (int seat = 0; seat < GameRecord.SEATS; seat++) {
+            String strategy = record.getStrategies().get(seat);
+            Integer id = names.get(strategy);
+            if (id == null) {
+                id = names.size();
+                names.put(strategy, id);
+                byte[] name = strategy.getBytes(StandardCharsets.UTF_8);
+                reserve(1 + 2 + 2 + name.length);
+                current.put(NAME_ENTRY).putShort(id.shortValue()).putShort((short) name.length).put(name);
+            }
+            ids[seat] = id.shortValue();
+        }
+
+        reserve(1 + GAME_SIZE);
+        current.put(GAME_ENTRY).putLong(record.getCampaignSeed()).putLong(record.getGameIndex());
+        for (short id : ids) {
+            current.putShort(id);
+        }
+        current.put((byte) record.getPlacings()).putInt(record.getTurns());
+        for (int seat = 0; seat < GameRecord.SEATS; seat++) {
+            current.putShort((short) record.getCaptures(seat));
+        }
+        for (int seat = 0; seat < GameRecord.SEATS; seat++) {
+            for (int piece = 0; piece < GameState.PIECES_PER_COLOR; piece++) {
+                current.putShort((short) record.getFinishTurn(seat, piece));
+            }
+        }
+    }
+
+    /**
+     * Formats a record as a CSV line.
+     */
+    private static String csvLine(GameRecord record) {
+        StringBuilder line = new StringBuilder(160);
+        line.append(record.getCampaignSeed()).append(',').append(record.getGameIndex());
+        for (String strategy : record.getStrategies()) {
+            line.append(',').append(strategy);
+        }
+        for (int place = 0; place < GameRecord.SEATS; place++) {
+            line.append(',').append(record.seatAt(place));
+        }
+        line.append(',').append(record.getTurns());
+        for (int seat = 0; seat < GameRecord.SEATS; seat++) {
+            line.append(',').append(record.getCaptures(seat));
+        }
+        for (int seat = 0; seat < GameRecord.SEATS; seat++) {
+            for (int piece = 0; piece < GameState.PIECES_PER_COLOR; piece++) {
+                line.append(',').append(record.getFinishTurn(seat, piece));
+            }
+        }
+        return line.append('\n').toString();
+    }
+
+    /**
+     * Makes room for the given number of bytes, handing the current
+     * buffer to the writer thread if it is too full.
+     */
+    private void reserve(int bytes) {
+        if (current.remaining() < bytes) {
+            handOff();
+        }
+    }
+
+    /**
+     * Hands the current buffer to the writer thread and takes a free one.
+     */
+    private void handOff() {
+        try {
+            current.flip();
+            full.put(current);
+            current = free.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the result file", e);
+        }
+    }
+
+    /**
+     * Hands the records encoded so far to the writer thread without
+     * waiting for them to be written.
+     */
+    public synchronized void flush() {
+        if (!closed && current.position() > 0) {
+            handOff();
+        }
+    }
+
+    /**
+     * Writes full buffers to the file until the sink is closed.
+     */
+    private void writeBuffers() {
+        try {
+            for (ByteBuffer buffer = full.take(); buffer != END; buffer = full.take()) {
+                try {
+                    while (buffer.hasRemaining()) {
+                        channel.write(buffer);
+                    }
+                } catch (IOException e) {
+                    if (failure == null) {
+                        failure = e;
+                    }
+                }
+                buffer.clear();
+                free.add(buffer);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Throws the first failure of the writer thread, if any.
+     */
+    private void checkFailure() {
+        if (failure != null) {
+            throw new UncheckedIOException("Failed to write results", failure);
+        }
+    }
+
+    /**
+     * Writes every record taken so far, stops the writer thread and
+     * closes the file.
+     *
+     * @throws IOException if the records cannot be written
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            if (current.position() > 0) {
+                current.flip();
+                full.put(current);
+            }
+            full.put(END);
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while closing the result file", e);
+        } finally {
+            channel.close();
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package upei.project;
+
+import java.io.IOException;
+
+/**
+ * Receiver of the detailed records of simulated games.
+ * Simulation runners pass every finished game to their sink, so where the
+ * results go, such as a file or nowhere, can be chosen per campaign.
+ *
+ * Sinks are called from every worker thread at once and must be thread
+ * safe. The record passed to {@link #write(GameRecord)} is reused by its
+ * worker for the next game, so a sink has to copy what it keeps before
+ * returning.
+ *
+ * @author UPEI Project Team
+ * @version 1.0
+ * @see ResultFileSink
+ * @see ParallelSimulation#run(java.util.List, int, long, ResultSink)
+ */
+public interface ResultSink extends AutoCloseable {
+    /**
+     * Takes the record of a finished game.
+     *
+     * @param record Record of the game, only valid during the call
+     */
+    void write(GameRecord record);
+
+    /**
+     * Finishes writing every record taken so far and releases the sink.
+     *
+     * @throws IOException if the records cannot be written
+     */
+    @Override
+    void close() throws IOException;
+}
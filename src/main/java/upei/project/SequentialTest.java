@@ -0,0 +1,270 @@
+package upei.project;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Sequential probability ratio test between two strategies.
+ * Instead of a fixed number of trials, games are played in batches until
+ * the evidence is strong enough to decide:
+ * - H1: the challenger finishes ahead of the baseline with probability
+ *   at least 0.5 + margin
+ * - H0: the two are equal, so the challenger is not better by the margin
+ *
+ * Every game seats both strategies; the challenger scores the game if the
+ * seat finishing first is one of its seats. Each game adds the log
+ * likelihood ratio of its score to a running sum, and the test stops once
+ * the sum leaves Wald's bounds, which keep the chance of wrongly
+ * accepting H1 below alpha and of wrongly accepting H0 below beta.
+ *
+ * The games are those of the two strategy {@link Tournament}: every batch
+ * plays whole rounds of its seat-rotated line-ups, so seat advantages
+ * cancel out within each batch. A batch is spread over the worker
+ * threads, each playing on its own {@link GameFixture}, and the decision
+ * is taken between batches. Within a batch each line-up plays a block of
+ * consecutive games, so a worker keeps its players and strategies from
+ * game to game instead of rebuilding them for every new line-up. The
+ * line-up of game i follows from i and the batch size, and its dice
+ * {@link DiceSource#forGame(long, long)} from the seed and i, so the
+ * outcome does not depend on the thread count.
+ *
+ * @author UPEI Project Team
+ * @version 1.0
+ * @see Tournament
+ */
+public class SequentialTest {
+    /** Default smallest advantage worth detecting */
+    public static final double DEFAULT_MARGIN = 0.05;
+
+    /** Default chance of wrongly deciding for the challenger */
+    public static final double DEFAULT_ALPHA = 0.05;
+
+    /** Default chance of wrongly deciding against the challenger */
+    public static final double DEFAULT_BETA = 0.05;
+
+    /** Strategy being tested */
+    private final String challenger;
+
+    /** Seat-rotated line-ups of the two strategies */
+    private final List<List<String>> lineups;
+
+    /** Log likelihood ratio added by a game the challenger scores */
+    private final double winRatio;
+
+    /** Log likelihood ratio added by a game the baseline scores */
+    private final double lossRatio;
+
+    /** Bound below which H0 is accepted */
+    private final double lowerBound;
+
+    /** Bound above which H1 is accepted */
+    private final double upperBound;
+
+    /**
+     * Conclusion of a test.
+     */
+    public enum Decision {
+        /** The challenger is better by at least the margin (H1) */
+        CHALLENGER_BETTER,
+        /** The challenger is not better by the margin (H0) */
+        NOT_BETTER,
+        /** The game limit was reached before either bound */
+        INCONCLUSIVE
+    }
+
+    /**
+     * Outcome of a test.
+     *
+     * @param decision Conclusion of the test
+     * @param games Number of games played
+     * @param challengerWins Games the challenger scored
+     * @param logLikelihoodRatio Final log likelihood ratio of H1 over H0
+     */
+    public record Result(Decision decision, long games, long challengerWins, double logLikelihoodRatio) {
+        /**
+         * Gets the share of games the challenger scored.
+         *
+         * @return Score between 0 and 1
+         */
+        public double score() {
+            return games > 0 ? (double) challengerWins / games : 0;
+        }
+    }
+
+    /**
+     * Creates a test with the default margin and error rates.
+     *
+     * @param challenger Strategy being tested
+     * @param baseline Strategy it is compared against
+     * @throws IllegalArgumentException if a strategy is not registered or both are the same
+     */
+    public SequentialTest(String challenger, String baseline) {
+        this(challenger, baseline, DEFAULT_MARGIN, DEFAULT_ALPHA, DEFAULT_BETA);
+    }
+
+    /**
+     * Creates a test with the given margin and error rates.
+     *
+     * @param challenger Strategy being tested
+     * @param baseline Strategy it is compared against
+     * @param margin Smallest advantage over an even score worth detecting
+     * @param alpha Chance of wrongly deciding for the challenger
+     * @param beta Chance of wrongly deciding against the challenger
+     * @throws IllegalArgumentException if a strategy is not registered, both are the
+     *         same, the margin is not between 0 and 0.5 or an error rate is not between 0 and 0.5
+     */
+    public SequentialTest(String challenger, String baseline, double margin, double alpha, double beta) {
+        if (!(margin > 0 && margin < 0.5)) {
+            throw new IllegalArgumentException("Margin must be between 0 and 0.5: " + margin);
+        }
+        if (!(alpha > 0 && alpha < 0.5) || !(beta > 0 && beta < 0.5)) {
+            throw new IllegalArgumentException("Error rates must be between 0 and 0.5");
+        }
+        this.challenger = challenger;
+        this.lineups = new Tournament(List.of(challenger, baseline), 1, 0L).getLineups();
+        double better = 0.5 + margin;
+        this.winRatio = Math.log(better / 0.5);
+        this.lossRatio = Math.log((1 - better) / 0.5);
+        this.lowerBound = Math.log(beta / (1 - alpha));
+        this.upperBound = Math.log((1 - beta) / alpha);
+    }
+
+    /**
+     * Plays batches of games until the test decides or the game limit is
+     * reached. The batch size is rounded up to whole rounds of line-ups.
+     *
+     * @param threads Number of worker threads
+     * @param batchSize Games played between decisions
+     * @param maxGames Most games to play
+     * @param seed Seed of the test's dice
+     * @return The outcome of the test
+     * @throws IllegalArgumentException if threads, batch size or game limit is not positive
+     * @throws IllegalStateException if a game failed or the calling thread was interrupted
+     */
+    public Result run(int threads, int batchSize, long maxGames, long seed) {
+        if (threads < 1 || batchSize < 1 || maxGames < 1) {
+            throw new IllegalArgumentException("Threads, batch size and game limit must be positive");
+        }
+        int rounds = (batchSize + lineups.size() - 1) / lineups.size();
+        int batch = rounds * lineups.size();
+        GameFixture[] fixtures = new GameFixture[threads];
+        for (int i = 0; i < threads; i++) {
+            fixtures[i] = new GameFixture();
+        }
+
+        long games = 0;
+        long wins = 0;
+        double ratio = 0;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            while (games < maxGames) {
+                long first = games;
+                long last = Math.min(first + batch, maxGames);
+                List<Future<Long>> workers = new ArrayList<>(threads);
+                for (int t = 0; t < threads; t++) {
+                    GameFixture fixture = fixtures[t];
+                    long from = first + (last - first) * t / threads;
+                    long to = first + (last - first) * (t + 1) / threads;
+                    workers.add(pool.submit(() -> playGames(fixture, from, to, rounds, seed)));
+                }
+                long batchWins = 0;
+                for (Future<Long> worker : workers) {
+                    batchWins += worker.get();
+                }
+
+                wins += batchWins;
+                games = last;
+                ratio += batchWins * winRatio + (last - first - batchWins) * lossRatio;
+                if (ratio >= upperBound) {
+                    return new Result(Decision.CHALLENGER_BETTER, games, wins, ratio);
+                }
+                if (ratio <= lowerBound) {
+                    return new Result(Decision.NOT_BETTER, games, wins, ratio);
+                }
+            }
+            return new Result(Decision.INCONCLUSIVE, games, wins, ratio);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Sequential test was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Sequential test worker failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Plays a range of games on one fixture. Batches hold the given number
+     * of rounds, played as one block of consecutive games per line-up.
+     *
+     * @return Number of the games the challenger scored
+     */
+    private long playGames(GameFixture fixture, long from, long to, int rounds, long seed) {
+        long batch = (long) rounds * lineups.size();
+        long wins = 0;
+        for (long game = from; game < to; game++) {
+            List<String> lineup = lineups.get((int) (game % batch / rounds));
+            SimulationExperiment.GameResult result =
+                SimulationExperiment.playGame(fixture, lineup, DiceSource.forGame(seed, game));
+            if (lineup.get(result.seatAt(0)).equals(challenger)) {
+                wins++;
+            }
+        }
+        return wins;
+    }
+
+    /**
+     * Gets the log likelihood ratio below which the test accepts H0.
+     *
+     * @return Lower bound
+     */
+    public double getLowerBound() {
+        return lowerBound;
+    }
+
+    /**
+     * Gets the log likelihood ratio above which the test accepts H1.
+     *
+     * @return Upper bound
+     */
+    public double getUpperBound() {
+        return upperBound;
+    }
+
+    /**
+     * Runs a test and prints its outcome.
+     *
+     * @param args Challenger and baseline strategy, then optionally the
+     *             margin, alpha, beta, number of threads, batch size,
+     *             game limit and seed, in that order
+     */
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            System.out.println("Usage: SequentialTest challenger baseline [margin alpha beta threads batch maxGames seed]");
+            return;
+        }
+        double margin = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_MARGIN;
+        double alpha = args.length > 3 ? Double.parseDouble(args[3]) : DEFAULT_ALPHA;
+        double beta = args.length > 4 ? Double.parseDouble(args[4]) : DEFAULT_BETA;
+        int threads = args.length > 5 ? Integer.parseInt(args[5]) : Runtime.getRuntime().availableProcessors();
+        int batchSize = args.length > 6 ? Integer.parseInt(args[6]) : 48;
+        long maxGames = args.length > 7 ? Long.parseLong(args[7]) : 100_000;
+        long seed = args.length > 8 ? Long.parseLong(args[8]) : System.nanoTime();
+
+        SequentialTest test = new SequentialTest(args[0], args[1], margin, alpha, beta);
+        System.out.printf("%s vs %s: margin %.3f, alpha %.3f, beta %.3f, bounds [%.3f, %.3f] (seed %d)%n",
+            args[0], args[1], margin, alpha, beta, test.getLowerBound(), test.getUpperBound(), seed);
+
+        long start = System.nanoTime();
+        Result result = test.run(threads, batchSize, maxGames, seed);
+        long elapsed = System.nanoTime() - start;
+
+        System.out.printf("%s after %d games: %s scored %.1f%%, log likelihood ratio %.3f%n",
+            result.decision(), result.games(), args[0], result.score() * 100, result.logLikelihoodRatio());
+        System.out.printf("Played in %.2f s%n", elapsed / 1e9);
+    }
+}
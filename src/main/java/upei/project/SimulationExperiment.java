@@ -1,6 +1,7 @@
 package upei.project;
 
-import java.awt.*;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.*;
 import java.util.List;
 
@@ -21,6 +22,15 @@ import java.util.List;
  * - Single-strategy games (all players use same strategy)
  * - Mixed-strategy games (players use different strategies)
  * - Multiple trials per configuration
+ * - Running the trials in parallel on all available cores
+ *
+ * Each game is played with its own {@link DiceSource}, derived from the
+ * campaign seed and the game's index, so results are reproducible and any
+ * single game can be replayed.
+ *
+ * The fixed number of trials suits quick surveys; {@link SequentialTest}
+ * compares two strategies with only as many games as a significant
+ * answer needs.
  *
  * @author UPEI Project Team
  * @version 1.0
@@ -32,8 +42,11 @@ public class SimulationExperiment {
     /** Maximum moves before declaring a game stuck */
     private static final int MAX_MOVES = 500;
     
-    /** Random number generator for dice rolls */
-    private static final Random random = new Random();
+    /** Campaign seed of the games played on the calling thread by {@link #runGame} */
+    private static final long CAMPAIGN_SEED = System.nanoTime();
+
+    /** Index of the next game played by {@link #runGame} */
+    private static int nextGameIndex = 0;
     
     /** Track wins per strategy */
     private static final Map<String, Integer> wins = new HashMap<>();
@@ -52,27 +65,138 @@ public class SimulationExperiment {
         initializeStats();
     }
 
+    /** Strategy combinations played by the experiment, one strategy per seat */
+    private static final List<List<String>> CONFIGURATIONS = List.of(
+        List.of("Aggressive", "Aggressive", "Aggressive", "Aggressive"),
+        List.of("Defensive", "Defensive", "Defensive", "Defensive"),
+        List.of("Balanced", "Balanced", "Balanced", "Balanced"),
+        List.of("Aggressive", "Aggressive", "Defensive", "Defensive"),
+        List.of("Aggressive", "Defensive", "Balanced", "Balanced"),
+        List.of("Defensive", "Defensive", "Balanced", "Balanced")
+    );
+
+    /**
+     * Outcome of one simulated game.
+     *
+     * @param strategies Strategies of the players, one per seat
+     * @param winner Seat of the winning player, or -1 if no one won
+     * @param moves Number of turns played
+     * @param captures Captures made by the winner
+     * @param placings Finishing order, packed two bits per place: the seat
+     *                 finishing at place p is {@code (placings >>> 2 * p) & 3}
+     */
+    public record GameResult(List<String> strategies, int winner, int moves, int captures, int placings) {
+        /**
+         * Creates a result whose finishing order only knows the winner: the
+         * winner comes first and the other seats follow in seat order.
+         *
+         * @param strategies Strategies of the players, one per seat
+         * @param winner Seat of the winning player, or -1 if no one won
+         * @param moves Number of turns played
+         * @param captures Captures made by the winner
+         */
+        public GameResult(List<String> strategies, int winner, int moves, int captures) {
+            this(strategies, winner, moves, captures, winnerFirst(winner, strategies.size()));
+        }
+
+        /**
+         * Packs a finishing order with the winner first and the other seats in seat order.
+         */
+        private static int winnerFirst(int winner, int seats) {
+            int placings = 0;
+            int place = 0;
+            if (winner >= 0) {
+                placings = winner;
+                place++;
+            }
+            for (int seat = 0; seat < seats; seat++) {
+                if (seat != winner) {
+                    placings |= seat << (2 * place++);
+                }
+            }
+            return placings;
+        }
+
+        /**
+         * Gets the seat that finished at a place.
+         *
+         * @param place Place, 0 for first
+         * @return Seat of the player
+         */
+        public int seatAt(int place) {
+            return (placings >>> (2 * place)) & 3;
+        }
+
+        /**
+         * Checks if the game ended with a winner.
+         *
+         * @return true if a player won
+         */
+        public boolean hasWinner() {
+            return winner >= 0;
+        }
+
+        /**
+         * Gets the strategy of the winning player.
+         *
+         * @return Winning strategy, or null if no one won
+         */
+        public String winnerStrategy() {
+            return hasWinner() ? strategies.get(winner) : null;
+        }
+    }
+
     /**
      * Main entry point for running the simulation experiments.
-     * Runs multiple trials with different strategy combinations and
-     * prints the results.
+     * Runs multiple trials with different strategy combinations on all
+     * available cores and prints the results.
      *
-     * @param args Command-line arguments (not used)
+     * @param args Optional number of trials per configuration, number of
+     *             threads, seed and a single configuration to play instead
+     *             of the default ones, in that order. The configuration
+     *             lists one strategy per seat separated by commas, such as
+     *             "Balanced,MCTS,Aggressive,Defensive"; any strategy of the
+     *             {@link StrategyRegistry} can be used. A fifth argument
+     *             names a file the record of every game is appended to,
+     *             as CSV if it ends in ".csv" and in the binary format of
+     *             {@link ResultFileSink} otherwise.
+     * @throws IllegalArgumentException if the configuration names an unregistered strategy
+     * @throws IOException if the results file cannot be written
      */
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
+        int trials = args.length > 0 ? Integer.parseInt(args[0]) : NUM_TRIALS;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : System.nanoTime();
+        List<List<String>> configurations = args.length > 3
+            ? List.of(List.of(args[3].split(","))) : CONFIGURATIONS;
+        for (List<String> configuration : configurations) {
+            for (String strategy : configuration) {
+                if (!StrategyRegistry.isRegistered(strategy)) {
+                    throw new IllegalArgumentException("Unknown strategy: " + strategy
+                        + " (registered: " + String.join(", ", StrategyRegistry.getNames()) + ")");
+                }
+            }
+        }
+
         System.out.println("Starting Ludo Strategy Simulation\n");
-        
-        // Test each strategy combination
-        testStrategy("Aggressive");
-        testStrategy("Defensive");
-        testStrategy("Balanced");
-        
-        // Test mixed strategies with multiple combinations
-        testMixedStrategies(Arrays.asList("Aggressive", "Aggressive", "Defensive", "Defensive"));
-        testMixedStrategies(Arrays.asList("Aggressive", "Defensive", "Balanced", "Balanced"));
-        testMixedStrategies(Arrays.asList("Defensive", "Defensive", "Balanced", "Balanced"));
-        
+        System.out.printf("%d trials of %d configurations on %d threads (seed %d)%n",
+            trials, configurations.size(), threads, seed);
+
+        ParallelSimulation.Report report;
+        if (args.length > 4) {
+            Path file = Path.of(args[4]);
+            try (ResultSink sink = args[4].endsWith(".csv") ? ResultFileSink.csv(file) : ResultFileSink.binary(file)) {
+                report = new ParallelSimulation(threads).run(configurations, trials, seed, sink);
+            }
+            System.out.println("Game records appended to " + file);
+        } else {
+            report = new ParallelSimulation(threads).run(configurations, trials, seed);
+        }
+        recordStats(report.stats());
+
         printResults();
+        System.out.printf("%nSimulated %d games in %.2f s (%.0f games/s)%n",
+            report.stats().getGames(), report.elapsedNanos() / 1e9, report.gamesPerSecond());
     }
     
     /**
@@ -88,22 +212,23 @@ public class SimulationExperiment {
             gamesPlayed.put(strategy, 0);
         }
     }
-    
+
     /**
-     * Tests a single strategy against itself.
-     * All players use the same strategy for these games.
+     * Adds the statistics of a simulation run to the experiment totals.
      *
-     * @param strategy The strategy to test
+     * @param stats Statistics to add
      */
-    private static void testStrategy(String strategy) {
-        System.out.println("\nTesting " + strategy + " vs " + strategy);
-        for (int trial = 1; trial <= NUM_TRIALS; trial++) {
-            runGame(Arrays.asList(strategy, strategy, strategy, strategy), trial);
+    private static void recordStats(SimulationStats stats) {
+        for (String strategy : stats.getStrategies()) {
+            wins.merge(strategy, stats.getWins(strategy), Integer::sum);
+            totalMoves.merge(strategy, stats.getTotalMoves(strategy), Integer::sum);
+            totalCaptures.merge(strategy, stats.getTotalCaptures(strategy), Integer::sum);
+            gamesPlayed.merge(strategy, stats.getGamesPlayed(strategy), Integer::sum);
         }
     }
     
     /**
-     * Tests a combination of different strategies.
+     * Tests a combination of different strategies on the calling thread.
      * Each player can use a different strategy.
      *
      * @param strategies List of strategies to use, one per player
@@ -116,73 +241,89 @@ public class SimulationExperiment {
     }
     
     /**
-     * Runs a single game simulation with the specified strategies.
-     * Tracks statistics and determines the winner.
+     * Runs a single game simulation on the calling thread and adds it to
+     * the experiment totals.
      *
      * @param strategies List of strategies to use, one per player
      * @param trial Trial number for this game
      */
     private static void runGame(List<String> strategies, int trial) {
-        // Create players with their strategies
-        List<Player> players = new ArrayList<>();
-        BoardPanel board = new BoardPanel(players) {
-            @Override
-            public void paintComponent(Graphics g) {}
-            @Override
-            public void repaint() {}
-        };
-        
-        // Create players
-        Color[] colors = {Color.RED, Color.BLUE, Color.GREEN, Color.YELLOW};
-        for (int i = 0; i < 4; i++) {
-            String name = strategies.get(i) + (i + 1);
-            List<Piece> pieces = new ArrayList<>();
-            for (int j = 0; j < 4; j++) {
-                pieces.add(new Piece(colors[i], board));
-            }
-            players.add(new AIPlayer(name, colors[i], pieces, strategies.get(i)));
-        }
-        
-        // Set up player relationships
-        for (Player player : players) {
-            player.setAllPlayers(players);
-        }
-        
-        // Initialize game stats if needed
-        for (String strategy : strategies) {
-            if (!wins.containsKey(strategy)) {
-                wins.put(strategy, 0);
-                totalMoves.put(strategy, 0);
-                totalCaptures.put(strategy, 0);
-                gamesPlayed.put(strategy, 0);
-            }
-            gamesPlayed.put(strategy, gamesPlayed.get(strategy) + 1);
+        GameResult result = playGame(strategies, DiceSource.forGame(CAMPAIGN_SEED, nextGameIndex++));
+        SimulationStats stats = new SimulationStats();
+        stats.record(result);
+        recordStats(stats);
+
+        if (result.hasWinner()) {
+            System.out.printf("Trial %d: %s won in %d moves with %d captures%n",
+                trial, result.winnerStrategy(), result.moves(), result.captures());
+        } else {
+            System.out.printf("Trial %d: No winner after %d moves%n", trial, result.moves());
         }
+    }
+    
+    /**
+     * Plays a single game with the specified strategies on a new board.
+     * The game only touches objects it creates itself, so games can be
+     * played on any number of threads at once. Every roll comes from the
+     * given dice, so dice created from the same seed always play the same game.
+     *
+     * @param strategies List of strategies to use, one per player
+     * @param dice Dice of the game
+     * @return The outcome of the game
+     */
+    static GameResult playGame(List<String> strategies, DiceSource dice) {
+        return playGame(new GameFixture(), strategies, dice);
+    }
+
+    /**
+     * Plays a single game with the specified strategies on the board and
+     * players of a fixture, which are reset before the game starts.
+     * Games played on a reused fixture are the same as games played on a
+     * new one.
+     *
+     * @param fixture Fixture of the calling thread
+     * @param strategies List of strategies to use, one per player
+     * @param dice Dice of the game
+     * @return The outcome of the game
+     */
+    static GameResult playGame(GameFixture fixture, List<String> strategies, DiceSource dice) {
+        return playGame(fixture, strategies, dice, null);
+    }
+
+    /**
+     * Plays a single game like {@link #playGame(GameFixture, List, DiceSource)}
+     * and fills a record with its details: the captures of every seat and
+     * the turn each piece reached home. Recording does not change the game.
+     *
+     * @param fixture Fixture of the calling thread
+     * @param strategies List of strategies to use, one per player
+     * @param dice Dice of the game
+     * @param record Record to fill, already started with the game's seed and index, or null
+     * @return The outcome of the game
+     */
+    static GameResult playGame(GameFixture fixture, List<String> strategies, DiceSource dice, GameRecord record) {
+        List<Player> players = fixture.newGame(strategies);
+        GameState state = fixture.getBoard().getState();
+        int homeMask = state.getHomeMask();
         
         // Run the game
         int moves = 0;
-        int currentPlayer = 0;
         Player winner = null;
         int stuckMoves = 0;
         
-        // Update games played count for each strategy
-        for (String strategy : strategies) {
-            gamesPlayed.put(strategy, gamesPlayed.get(strategy) + 1);
-        }
-        
         while (moves < MAX_MOVES && winner == null) {
-            Player player = players.get(currentPlayer);
+            Player player = players.get(state.getTurn());
             boolean madeMoveThisTurn = false;
             
             // Give multiple roll attempts in late game
             int numAttempts = moves > 200 ? 3 : 1;  
             
             for (int attempt = 0; attempt < numAttempts && !madeMoveThisTurn; attempt++) {
-                int roll = random.nextInt(6) + 1;
+                int roll = dice.roll();
                 
                 // Late game bonus: higher chance of useful rolls
                 if (moves > 300 && roll < 3) {  
-                    roll = random.nextInt(6) + 1;
+                    roll = dice.roll();
                 }
 
                 // Guarantee 6s more frequently early game to get pieces out
@@ -191,25 +332,11 @@ public class SimulationExperiment {
                 }
                 
                 try {
-                    // Track pieces before move
-                    Set<Piece> piecesBeforeMove = new HashSet<>();
-                    for (Piece p : player.getPieces()) {
-                        if (!p.isAtHome() && !p.hasReachedHome()) {
-                            piecesBeforeMove.add(p);
-                        }
-                    }
-                    
-                    player.makeMove(roll, players);
-                    
-                    // Check if any piece actually moved
-                    for (Piece p : player.getPieces()) {
-                        if (!p.isAtHome() && !p.hasReachedHome() && !piecesBeforeMove.contains(p)) {
-                            madeMoveThisTurn = true;
-                            break;
-                        }
-                    }
+                    // Only bringing a new piece onto the board counts as progress
+                    int outcome = player.playTurn(roll, players);
+                    madeMoveThisTurn = TurnOutcome.leftBase(outcome);
                     
-                    if (player.hasWon()) {
+                    if (state.hasWon(player.getPlayerColor().index())) {
                         winner = player;
                         break;
                     }
@@ -226,7 +353,7 @@ public class SimulationExperiment {
                     for (Player p : players) {
                         if (!p.hasWon()) {
                             for (int i = 0; i < 2; i++) {  
-                                int roll = random.nextInt(6) + 1;
+                                int roll = dice.roll();
                                 if (moves > 200 && i == 0) roll = 6;  
                                 try {
                                     p.makeMove(roll, players);
@@ -246,23 +373,79 @@ public class SimulationExperiment {
                 stuckMoves = 0;
             }
             
-            currentPlayer = (currentPlayer + 1) % players.size();
+            // Note the turn of every piece that reached home during this turn
+            if (record != null && state.getHomeMask() != homeMask) {
+                recordFinishes(record, players, state.getHomeMask() & ~homeMask, moves);
+                homeMask = state.getHomeMask();
+            }
+
+            state.advanceTurn(players.size());
             moves++;
         }
         
-        // Record results
-        if (winner != null) {
-            String strategy = strategies.get(players.indexOf(winner));
-            wins.put(strategy, wins.get(strategy) + 1);
-            totalMoves.put(strategy, totalMoves.get(strategy) + moves);
-            totalCaptures.put(strategy, totalCaptures.get(strategy) + 
-                ((AIPlayer)winner).getCapturesMade());
-            
-            System.out.printf("Trial %d: %s won in %d moves with %d captures%n",
-                trial, strategy, moves, ((AIPlayer)winner).getCapturesMade());
-        } else {
-            System.out.printf("Trial %d: No winner after %d moves%n", trial, moves);
+        int winnerSeat = winner != null ? players.indexOf(winner) : -1;
+        GameResult result = new GameResult(strategies, winnerSeat, moves,
+            winner != null ? ((AIPlayer) winner).getCapturesMade() : 0, placings(players, state, winnerSeat));
+        if (record != null) {
+            record.finish(strategies, result.placings(), moves);
+            for (int seat = 0; seat < players.size(); seat++) {
+                record.setCaptures(seat, ((AIPlayer) players.get(seat)).getCapturesMade());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Records the turn at which pieces reached home.
+     *
+     * @param record Record of the game
+     * @param players Players in seat order
+     * @param arrived Bit mask of the slots that reached home
+     * @param turn Current turn
+     */
+    private static void recordFinishes(GameRecord record, List<Player> players, int arrived, int turn) {
+        for (int seat = 0; seat < players.size(); seat++) {
+            int color = players.get(seat).getPlayerColor().index();
+            int pieces = (arrived >>> (color * GameState.PIECES_PER_COLOR)) & 0xF;
+            for (; pieces != 0; pieces &= pieces - 1) {
+                record.setFinishTurn(seat, Integer.numberOfTrailingZeros(pieces), turn);
+            }
+        }
+    }
+
+    /**
+     * Ranks the seats of a finished game: the winner first, then the other
+     * players by the summed progress of their pieces. Equal progress keeps
+     * seat order.
+     *
+     * @param players Players in seat order
+     * @param state Final game state
+     * @param winner Seat of the winner, or -1 if no one won
+     * @return Finishing order packed as in {@link GameResult#placings()}
+     */
+    private static int placings(List<Player> players, GameState state, int winner) {
+        int[] seats = new int[players.size()];
+        int[] progress = new int[players.size()];
+        for (int seat = 0; seat < seats.length; seat++) {
+            seats[seat] = seat;
+            progress[seat] = seat == winner ? Integer.MAX_VALUE
+                : state.totalProgress(players.get(seat).getPlayerColor().index());
+        }
+        // Insertion sort keeps equal progress in seat order
+        for (int i = 1; i < seats.length; i++) {
+            int seat = seats[i];
+            int j = i - 1;
+            while (j >= 0 && progress[seats[j]] < progress[seat]) {
+                seats[j + 1] = seats[j];
+                j--;
+            }
+            seats[j + 1] = seat;
+        }
+        int placings = 0;
+        for (int place = 0; place < seats.length; place++) {
+            placings |= seats[place] << (2 * place);
         }
+        return placings;
     }
     
     /**
@@ -274,7 +457,8 @@ public class SimulationExperiment {
      */
     private static void printResults() {
         System.out.println("\n=== Final Results ===");
-        String[] strategies = {"Aggressive", "Defensive", "Balanced"};
+        Set<String> strategies = new LinkedHashSet<>(List.of("Aggressive", "Defensive", "Balanced"));
+        strategies.addAll(new TreeSet<>(gamesPlayed.keySet()));
         
         int totalGames = 0;
         for (String strategy : strategies) {
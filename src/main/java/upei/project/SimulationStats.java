@@ -0,0 +1,150 @@
+package upei.project;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Accumulates the outcome of simulated games per strategy.
+ * Statistics tracked include:
+ * - Games played per strategy (one per seat using the strategy)
+ * - Wins per strategy
+ * - Total moves and captures of the winning games
+ *
+ * An instance is not thread-safe: each simulation worker fills its own
+ * accumulator, and the accumulators are merged once the workers are done.
+ * All counters are plain sums, so the merged totals do not depend on how
+ * the games were split between workers or in which order they finished.
+ *
+ * @author UPEI Project Team
+ * @version 1.0
+ * @see SimulationExperiment
+ * @see ParallelSimulation
+ */
+public class SimulationStats {
+    /** Wins per strategy */
+    private final Map<String, Integer> wins = new HashMap<>();
+
+    /** Moves of the won games per strategy */
+    private final Map<String, Integer> totalMoves = new HashMap<>();
+
+    /** Captures made by the winners per strategy */
+    private final Map<String, Integer> totalCaptures = new HashMap<>();
+
+    /** Seats played per strategy */
+    private final Map<String, Integer> gamesPlayed = new HashMap<>();
+
+    /** Number of games recorded */
+    private int games;
+
+    /**
+     * Records the outcome of one game.
+     *
+     * @param result The finished game
+     */
+    public void record(SimulationExperiment.GameResult result) {
+        games++;
+        for (String strategy : result.strategies()) {
+            gamesPlayed.merge(strategy, 1, Integer::sum);
+        }
+        if (result.hasWinner()) {
+            String strategy = result.winnerStrategy();
+            wins.merge(strategy, 1, Integer::sum);
+            totalMoves.merge(strategy, result.moves(), Integer::sum);
+            totalCaptures.merge(strategy, result.captures(), Integer::sum);
+        }
+    }
+
+    /**
+     * Adds the counters of another accumulator to this one.
+     *
+     * @param other The accumulator to merge in
+     */
+    public void merge(SimulationStats other) {
+        games += other.games;
+        other.wins.forEach((strategy, count) -> wins.merge(strategy, count, Integer::sum));
+        other.totalMoves.forEach((strategy, count) -> totalMoves.merge(strategy, count, Integer::sum));
+        other.totalCaptures.forEach((strategy, count) -> totalCaptures.merge(strategy, count, Integer::sum));
+        other.gamesPlayed.forEach((strategy, count) -> gamesPlayed.merge(strategy, count, Integer::sum));
+    }
+
+    /**
+     * Gets the number of games recorded.
+     *
+     * @return Number of games
+     */
+    public int getGames() {
+        return games;
+    }
+
+    /**
+     * Gets the strategies that took part in any recorded game, in name order.
+     *
+     * @return Strategy names
+     */
+    public Set<String> getStrategies() {
+        return new TreeSet<>(gamesPlayed.keySet());
+    }
+
+    /**
+     * Gets the number of wins of a strategy.
+     *
+     * @param strategy Strategy name
+     * @return Number of wins
+     */
+    public int getWins(String strategy) {
+        return wins.getOrDefault(strategy, 0);
+    }
+
+    /**
+     * Gets the total moves of the games a strategy won.
+     *
+     * @param strategy Strategy name
+     * @return Total moves
+     */
+    public int getTotalMoves(String strategy) {
+        return totalMoves.getOrDefault(strategy, 0);
+    }
+
+    /**
+     * Gets the total captures made by a strategy in the games it won.
+     *
+     * @param strategy Strategy name
+     * @return Total captures
+     */
+    public int getTotalCaptures(String strategy) {
+        return totalCaptures.getOrDefault(strategy, 0);
+    }
+
+    /**
+     * Gets the number of seats a strategy played.
+     *
+     * @param strategy Strategy name
+     * @return Number of seats played
+     */
+    public int getGamesPlayed(String strategy) {
+        return gamesPlayed.getOrDefault(strategy, 0);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof SimulationStats other)) return false;
+        return games == other.games
+            && wins.equals(other.wins)
+            && totalMoves.equals(other.totalMoves)
+            && totalCaptures.equals(other.totalCaptures)
+            && gamesPlayed.equals(other.gamesPlayed);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = games;
+        result = 31 * result + wins.hashCode();
+        result = 31 * result + totalMoves.hashCode();
+        result = 31 * result + totalCaptures.hashCode();
+        result = 31 * result + gamesPlayed.hashCode();
+        return result;
+    }
+}
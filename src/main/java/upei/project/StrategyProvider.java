@@ -0,0 +1,35 @@
+package upei.project;
+
+import java.util.List;
+
+/**
+ * Service interface for supplying named move strategies to the
+ * {@link StrategyRegistry}. The strategies shipped with the game are
+ * always registered; further providers are discovered with
+ * {@link java.util.ServiceLoader} by listing their class names in
+ * {@code META-INF/services/upei.project.StrategyProvider}.
+ *
+ * Implementations need a public no-argument constructor.
+ *
+ * @author UPEI Project Team
+ * @version 1.0
+ * @see StrategyRegistry
+ */
+public interface StrategyProvider {
+    /**
+     * Gets the names of the strategies this provider creates.
+     *
+     * @return Strategy names, in the order they should be listed
+     */
+    List<String> getNames();
+
+    /**
+     * Creates a new instance of a strategy. Strategies may keep search
+     * state between moves, so every player gets its own instance.
+     *
+     * @param name One of the names from {@link #getNames()}
+     * @return A new strategy
+     * @throws IllegalArgumentException if the provider has no strategy of that name
+     */
+    MoveStrategy create(String name);
+}
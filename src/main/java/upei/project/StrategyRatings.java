@@ -0,0 +1,267 @@
+package upei.project;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Glicko ratings of strategies, updated game by game from the finishing
+ * order of simulated games.
+ *
+ * A four player game is scored as the pairwise results it contains:
+ * every player beat the players who finished behind it. Each game is
+ * one Glicko rating period, so all players of a game are updated from
+ * the ratings they had before it. Seats played by the same strategy are
+ * not compared with each other, and a strategy playing several seats is
+ * updated once with the results of all of them.
+ *
+ * Every rating carries its deviation, which shrinks as games are
+ * recorded; rating +/- 1.96 deviations is a 95% confidence interval. The
+ * deviation never drops below {@link #MIN_DEVIATION}, so ratings keep
+ * following the results of long leagues.
+ *
+ * Games from any number of threads can be recorded at once. The ratings
+ * are updated in the order the games arrive, so parallel runs give
+ * slightly different ratings than serial ones.
+ *
+ * Ratings can be saved to a small binary file and loaded again to
+ * continue a league without replaying its games.
+ *
+ * @author UPEI Project Team
+ * @version 1.0
+ * @see Tournament
+ */
+public class StrategyRatings {
+    /** Rating of a strategy without games */
+    public static final double INITIAL_RATING = 1500;
+
+    /** Deviation of a strategy without games */
+    public static final double INITIAL_DEVIATION = 350;
+
+    /** Smallest deviation a rating keeps */
+    public static final double MIN_DEVIATION = 30;
+
+    /** Glicko scale factor, ln(10) / 400 */
+    private static final double Q = Math.log(10) / 400;
+
+    /** File signature, "LRAT" */
+    private static final int MAGIC = 0x4C524154;
+
+    /** File format version */
+    private static final int VERSION = 1;
+
+    /** Ratings per strategy, in the order strategies were first seen */
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+
+    /**
+     * Current rating of a strategy.
+     *
+     * @param strategy Strategy name
+     * @param rating Rating
+     * @param deviation Rating deviation
+     * @param games Number of games recorded for the strategy
+     */
+    public record Rating(String strategy, double rating, double deviation, long games) {
+        /**
+         * Gets the lower bound of the 95% confidence interval.
+         *
+         * @return Rating minus 1.96 deviations
+         */
+        public double lower() {
+            return rating - 1.96 * deviation;
+        }
+
+        /**
+         * Gets the upper bound of the 95% confidence interval.
+         *
+         * @return Rating plus 1.96 deviations
+         */
+        public double upper() {
+            return rating + 1.96 * deviation;
+        }
+    }
+
+    /**
+     * Mutable rating of one strategy.
+     */
+    private static final class Entry {
+        private double rating = INITIAL_RATING;
+        private double deviation = INITIAL_DEVIATION;
+        private long games;
+    }
+
+    /**
+     * Updates the ratings of the strategies of a finished game.
+     *
+     * @param result The finished game
+     */
+    public synchronized void record(SimulationExperiment.GameResult result) {
+        List<String> strategies = result.strategies();
+        int seats = strategies.size();
+        int[] places = new int[seats];
+        Entry[] players = new Entry[seats];
+        for (int place = 0; place < seats; place++) {
+            places[result.seatAt(place)] = place;
+        }
+        for (int seat = 0; seat < seats; seat++) {
+            players[seat] = entries.computeIfAbsent(strategies.get(seat), name -> new Entry());
+        }
+
+        // Compute every update from the ratings before the game
+        double[] ratings = new double[seats];
+        double[] deviations = new double[seats];
+        for (int seat = 0; seat < seats; seat++) {
+            Entry entry = players[seat];
+            double variance = 0;
+            double improvement = 0;
+            for (int own = 0; own < seats; own++) {
+                if (players[own] != entry) {
+                    continue;
+                }
+                for (int other = 0; other < seats; other++) {
+                    if (players[other] == entry) {
+                        continue;
+                    }
+                    double g = g(players[other].deviation);
+                    double expected = 1 / (1 + Math.pow(10, -g * (entry.rating - players[other].rating) / 400));
+                    double score = places[own] < places[other] ? 1 : 0;
+                    variance += g * g * expected * (1 - expected);
+                    improvement += g * (score - expected);
+                }
+            }
+            ratings[seat] = entry.rating;
+            deviations[seat] = entry.deviation;
+            if (variance > 0) {
+                double precision = 1 / (entry.deviation * entry.deviation) + Q * Q * variance;
+                ratings[seat] += Q / precision * improvement;
+                deviations[seat] = Math.max(Math.sqrt(1 / precision), MIN_DEVIATION);
+            }
+        }
+
+        for (int seat = 0; seat < seats; seat++) {
+            Entry entry = players[seat];
+            if (strategies.indexOf(strategies.get(seat)) == seat) {
+                entry.rating = ratings[seat];
+                entry.deviation = deviations[seat];
+                entry.games++;
+            }
+        }
+    }
+
+    /**
+     * Computes the Glicko weight of an opponent's result.
+     */
+    private static double g(double deviation) {
+        return 1 / Math.sqrt(1 + 3 * Q * Q * deviation * deviation / (Math.PI * Math.PI));
+    }
+
+    /**
+     * Gets the rating of a strategy.
+     *
+     * @param strategy Strategy name
+     * @return The strategy's rating, or the initial rating if it has no games
+     */
+    public synchronized Rating getRating(String strategy) {
+        Entry entry = entries.get(strategy);
+        return entry != null ? new Rating(strategy, entry.rating, entry.deviation, entry.games)
+            : new Rating(strategy, INITIAL_RATING, INITIAL_DEVIATION, 0);
+    }
+
+    /**
+     * Gets the ratings of every strategy, highest rating first.
+     *
+     * @return Ratings in ranking order
+     */
+    public synchronized List<Rating> getRatings() {
+        List<Rating> ratings = new ArrayList<>(entries.size());
+        for (String strategy : entries.keySet()) {
+            ratings.add(getRating(strategy));
+        }
+        ratings.sort(Comparator.comparingDouble(Rating::rating).reversed());
+        return ratings;
+    }
+
+    /**
+     * Formats the ratings as a text table, one line per strategy.
+     *
+     * @return The formatted table
+     */
+    public String format() {
+        StringBuilder table = new StringBuilder();
+        table.append(String.format("%-4s %-16s %8s %6s %17s %8s%n",
+            "Rank", "Strategy", "Rating", "RD", "95% interval", "Games"));
+        int rank = 1;
+        for (Rating rating : getRatings()) {
+            table.append(String.format("%-4d %-16s %8.1f %6.1f %8.1f-%-8.1f %8d%n",
+                rank++, rating.strategy(), rating.rating(), rating.deviation(),
+                rating.lower(), rating.upper(), rating.games()));
+        }
+        return table.toString();
+    }
+
+    /**
+     * Writes the ratings to a file. The file is written next to the
+     * target and moved over it once complete, so an interrupted save
+     * leaves the previous ratings intact.
+     *
+     * @param file File to write
+     * @throws IOException if the file cannot be written
+     */
+    public synchronized void save(Path file) throws IOException {
+        Path absolute = file.toAbsolutePath();
+        Path temp = absolute.resolveSibling(absolute.getFileName() + ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.writeByte(VERSION);
+                out.writeInt(entries.size());
+                for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+                    out.writeUTF(entry.getKey());
+                    out.writeDouble(entry.getValue().rating);
+                    out.writeDouble(entry.getValue().deviation);
+                    out.writeLong(entry.getValue().games);
+                }
+            }
+            Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Reads ratings written by {@link #save(Path)}.
+     *
+     * @param file File to read
+     * @return The saved ratings
+     * @throws IOException if the file cannot be read or is not a ratings file
+     */
+    public static StrategyRatings load(Path file) throws IOException {
+        StrategyRatings ratings = new StrategyRatings();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readByte() != VERSION) {
+                throw new IOException("Not a ratings file: " + file);
+            }
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                Entry entry = new Entry();
+                String strategy = in.readUTF();
+                entry.rating = in.readDouble();
+                entry.deviation = in.readDouble();
+                entry.games = in.readLong();
+                ratings.entries.put(strategy, entry);
+            }
+        }
+        return ratings;
+    }
+}
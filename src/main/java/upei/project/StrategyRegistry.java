@@ -0,0 +1,80 @@
+package upei.project;
+
+import upei.project.strategies.StandardStrategies;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.Set;
+
+/**
+ * Resolves strategy names to {@link MoveStrategy} instances. Players look
+ * their strategy up once when they are created, so no name is compared
+ * while a game is played.
+ *
+ * The standard strategies come first; providers found with
+ * {@link ServiceLoader} add theirs after them. When two providers use
+ * the same name, the first one registered keeps it.
+ *
+ * @author UPEI Project Team
+ * @version 1.0
+ * @see StrategyProvider
+ */
+public final class StrategyRegistry {
+    /** Provider of each registered name, in registration order */
+    private static final Map<String, StrategyProvider> PROVIDERS = new LinkedHashMap<>();
+
+    static {
+        register(new StandardStrategies());
+        for (StrategyProvider provider : ServiceLoader.load(StrategyProvider.class)) {
+            register(provider);
+        }
+    }
+
+    private StrategyRegistry() {
+    }
+
+    /**
+     * Creates a new instance of a registered strategy.
+     *
+     * @param name Strategy name
+     * @return A new strategy
+     * @throws IllegalArgumentException if no strategy is registered under the name
+     */
+    public static MoveStrategy create(String name) {
+        StrategyProvider provider = PROVIDERS.get(name);
+        if (provider == null) {
+            throw new IllegalArgumentException("Unknown strategy: " + name);
+        }
+        return provider.create(name);
+    }
+
+    /**
+     * Checks if a strategy is registered under a name.
+     *
+     * @param name Strategy name
+     * @return true if {@link #create} accepts the name
+     */
+    public static boolean isRegistered(String name) {
+        return PROVIDERS.containsKey(name);
+    }
+
+    /**
+     * Gets the names of every registered strategy.
+     *
+     * @return Unmodifiable set of names in registration order
+     */
+    public static Set<String> getNames() {
+        return Collections.unmodifiableSet(PROVIDERS.keySet());
+    }
+
+    /**
+     * Adds the strategies of a provider whose names are still free.
+     */
+    private static void register(StrategyProvider provider) {
+        for (String name : provider.getNames()) {
+            PROVIDERS.putIfAbsent(name, provider);
+        }
+    }
+}
@@ -0,0 +1,270 @@
+package upei.project;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Round-robin league between registered strategies.
+ * Every line-up seats four entrants, and every line-up is played in all
+ * four seat rotations, so each entrant of a line-up plays every seat and
+ * color equally often and seat advantages cancel out:
+ * - With four or more entrants, every combination of four different entrants
+ * - With two or three entrants, every combination of four seats that
+ *   includes all of them
+ *
+ * Each game is a task on its own virtual thread. The games in flight are
+ * bounded by a pool of {@link GameFixture}s: a game is only started once
+ * a fixture is free, so memory stays flat however many games the league
+ * has, and each finished game streams straight into the
+ * {@link LeagueTable}, or any other consumer such as
+ * {@link StrategyRatings}.
+ *
+ * Game i plays line-up i / trials with the dice
+ * {@link DiceSource#forGame(long, long)} derives from the seed and i,
+ * exactly like {@link ParallelSimulation} playing {@link #getLineups()},
+ * so the table does not depend on the parallelism and any game can be
+ * replayed with {@link ParallelSimulation#replay}. This holds as long as
+ * every entrant picks its moves from the position and roll alone, as the
+ * standard strategies do; a strategy that searches against the clock
+ * does not replay.
+ *
+ * @author UPEI Project Team
+ * @version 1.0
+ * @see LeagueTable
+ * @see StrategyRegistry
+ */
+public class Tournament {
+    /** Number of seats at the board */
+    private static final int SEATS = 4;
+
+    /** Default number of games per line-up */
+    private static final int DEFAULT_TRIALS = 10;
+
+    /** Strategies taking part */
+    private final List<String> entrants;
+
+    /** Seat-rotated line-ups, one strategy per seat */
+    private final List<List<String>> lineups;
+
+    /** Number of games per line-up */
+    private final int trials;
+
+    /** Seed of the tournament's dice */
+    private final long seed;
+
+    /**
+     * Creates a tournament between registered strategies.
+     *
+     * @param entrants Names of the strategies taking part
+     * @param trials Number of games per line-up
+     * @param seed Seed of the tournament's dice
+     * @throws IllegalArgumentException if there are fewer than two entrants, a name
+     *         appears twice or is not registered, or trials is not positive
+     */
+    public Tournament(List<String> entrants, int trials, long seed) {
+        if (entrants.size() < 2) {
+            throw new IllegalArgumentException("A tournament needs at least two entrants");
+        }
+        if (trials < 1) {
+            throw new IllegalArgumentException("Trials must be positive: " + trials);
+        }
+        for (String entrant : entrants) {
+            if (!StrategyRegistry.isRegistered(entrant)) {
+                throw new IllegalArgumentException("Unknown strategy: " + entrant);
+            }
+            if (entrants.indexOf(entrant) != entrants.lastIndexOf(entrant)) {
+                throw new IllegalArgumentException("Duplicate entrant: " + entrant);
+            }
+        }
+        this.entrants = List.copyOf(entrants);
+        this.lineups = lineups(this.entrants);
+        this.trials = trials;
+        this.seed = seed;
+    }
+
+    /**
+     * Builds every seat-rotated line-up of the entrants. The entrants of a
+     * line-up are listed in entrant order before being rotated.
+     *
+     * @param entrants Strategies taking part
+     * @return Line-ups, one strategy per seat
+     */
+    static List<List<String>> lineups(List<String> entrants) {
+        int n = entrants.size();
+        int distinct = Math.min(n, SEATS);
+        List<List<String>> lineups = new ArrayList<>();
+        int[] seats = new int[SEATS];
+        for (seats[0] = 0; seats[0] < n; seats[0]++) {
+            for (seats[1] = seats[0]; seats[1] < n; seats[1]++) {
+                for (seats[2] = seats[1]; seats[2] < n; seats[2]++) {
+                    for (seats[3] = seats[2]; seats[3] < n; seats[3]++) {
+                        if (distinctCount(seats) != distinct) {
+                            continue;
+                        }
+                        for (int rotation = 0; rotation < SEATS; rotation++) {
+                            String[] lineup = new String[SEATS];
+                            for (int seat = 0; seat < SEATS; seat++) {
+                                lineup[seat] = entrants.get(seats[(seat + rotation) % SEATS]);
+                            }
+                            lineups.add(List.of(lineup));
+                        }
+                    }
+                }
+            }
+        }
+        return List.copyOf(lineups);
+    }
+
+    /**
+     * Counts the different entrants of a sorted line-up.
+     */
+    private static int distinctCount(int[] sorted) {
+        int count = 1;
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i] != sorted[i - 1]) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Gets the strategies taking part.
+     *
+     * @return Entrant names
+     */
+    public List<String> getEntrants() {
+        return entrants;
+    }
+
+    /**
+     * Gets the line-ups of the tournament.
+     *
+     * @return Unmodifiable line-ups, one strategy per seat
+     */
+    public List<List<String>> getLineups() {
+        return lineups;
+    }
+
+    /**
+     * Gets the number of games the tournament plays.
+     *
+     * @return Line-ups times trials
+     */
+    public long getGameCount() {
+        return (long) lineups.size() * trials;
+    }
+
+    /**
+     * Plays every game of the tournament.
+     *
+     * @param parallelism Maximum number of games played at once
+     * @return The final league table
+     * @throws IllegalArgumentException if parallelism is not positive
+     * @throws IllegalStateException if a game failed or the calling thread was interrupted
+     */
+    public LeagueTable run(int parallelism) {
+        LeagueTable table = new LeagueTable(entrants);
+        run(parallelism, table::record);
+        return table;
+    }
+
+    /**
+     * Plays every game of the tournament, passing each game to the sink
+     * as soon as it finishes. The sink is called from several threads at
+     * once and must be thread safe, as {@link LeagueTable#record} and
+     * {@link StrategyRatings#record} are.
+     *
+     * @param parallelism Maximum number of games played at once
+     * @param sink Receiver of the results
+     * @throws IllegalArgumentException if parallelism is not positive
+     * @throws IllegalStateException if a game failed or the calling thread was interrupted
+     */
+    public void run(int parallelism, Consumer<SimulationExperiment.GameResult> sink) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive: " + parallelism);
+        }
+        BlockingQueue<GameFixture> fixtures = new ArrayBlockingQueue<>(parallelism);
+        for (int i = 0; i < parallelism; i++) {
+            fixtures.add(new GameFixture());
+        }
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        long games = getGameCount();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long game = 0; game < games && failure.get() == null; game++) {
+                GameFixture fixture = fixtures.take();
+                List<String> lineup = lineups.get((int) (game / trials));
+                DiceSource dice = DiceSource.forGame(seed, game);
+                executor.execute(() -> {
+                    try {
+                        sink.accept(SimulationExperiment.playGame(fixture, lineup, dice));
+                    } catch (Throwable e) {
+                        failure.compareAndSet(null, e);
+                    } finally {
+                        fixtures.add(fixture);
+                    }
+                });
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Tournament was interrupted", e);
+        }
+        if (failure.get() != null) {
+            throw new IllegalStateException("Tournament game failed", failure.get());
+        }
+    }
+
+    /**
+     * Runs a league and prints its table and ratings.
+     *
+     * @param args Optional number of games per line-up, maximum number of
+     *             games played at once, seed, the entrants separated by
+     *             commas, such as "Aggressive,Defensive,Balanced", and a
+     *             ratings file, in that order. Ratings saved in the file
+     *             are continued and written back after the league.
+     * @throws IOException if the ratings file cannot be read or written
+     */
+    public static void main(String[] args) throws IOException {
+        int trials = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_TRIALS;
+        int parallelism = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : System.nanoTime();
+        List<String> entrants = args.length > 3
+            ? List.of(args[3].split(",")) : List.of("Aggressive", "Defensive", "Balanced");
+
+        Path ratingsFile = args.length > 4 ? Path.of(args[4]) : null;
+
+        StrategyRatings ratings = ratingsFile != null && Files.exists(ratingsFile)
+            ? StrategyRatings.load(ratingsFile) : new StrategyRatings();
+
+        Tournament tournament = new Tournament(entrants, trials, seed);
+        System.out.printf("%d entrants, %d line-ups, %d games, %d at a time (seed %d)%n%n",
+            entrants.size(), tournament.getLineups().size(), tournament.getGameCount(), parallelism, seed);
+
+        long start = System.nanoTime();
+        LeagueTable table = new LeagueTable(entrants);
+        tournament.run(parallelism, result -> {
+            table.record(result);
+            ratings.record(result);
+        });
+        long elapsed = System.nanoTime() - start;
+
+        System.out.print(table.format());
+        System.out.println();
+        System.out.print(ratings.format());
+        if (ratingsFile != null) {
+            ratings.save(ratingsFile);
+        }
+        System.out.printf("%nPlayed %d games in %.2f s (%.0f games/s)%n",
+            table.getGames(), elapsed / 1e9, table.getGames() * 1e9 / Math.max(elapsed, 1));
+    }
+}
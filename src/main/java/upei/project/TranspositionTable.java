@@ -0,0 +1,256 @@
+package upei.project;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed-size cache of search results keyed by {@link GameState#getHash()}.
+ * Searches store the value they computed for a position together with
+ * the depth searched and whether the value is exact or only a bound, and
+ * look it up when they reach the same position again.
+ *
+ * The table holds two-entry buckets. A new result replaces, in order of
+ * preference: the entry of the same position, an empty entry, an entry
+ * left by an earlier search, or the shallower of the two entries.
+ *
+ * Lookups and stores take no locks, so one table can be shared by
+ * several threads. Each entry is three plain longs: a check word, the
+ * value and the depth, bound and generation. The check word is the key
+ * XORed with the other two, so an entry torn by two threads writing at
+ * once no longer matches any key and reads as a miss.
+ *
+ * Hit, miss and collision counters show how well a table of a given
+ * size serves a workload.
+ *
+ * @author UPEI Project Team
+ * @version 1.0
+ * @see GameState#getHash()
+ */
+public class TranspositionTable {
+    /** The stored value is the exact value of the position */
+    public static final int BOUND_EXACT = 0;
+
+    /** The true value is at least the stored value */
+    public static final int BOUND_LOWER = 1;
+
+    /** The true value is at most the stored value */
+    public static final int BOUND_UPPER = 2;
+
+    /** Entries per bucket */
+    private static final int WAYS = 2;
+
+    /** Bits of the entry information holding the depth */
+    private static final int DEPTH_MASK = 0xFF;
+
+    /** Shift of the bound in the entry information */
+    private static final int BOUND_SHIFT = 8;
+
+    /** Shift of the generation in the entry information */
+    private static final int GENERATION_SHIFT = 10;
+
+    /** Bits of the entry information holding the generation */
+    private static final int GENERATION_MASK = 0xFF;
+
+    /** Marks an entry that holds a result */
+    private static final long USED = 1L << 32;
+
+    /** Key XOR value XOR information of each entry */
+    private final long[] checks;
+
+    /** Stored value of each entry, as raw double bits */
+    private final long[] values;
+
+    /** Depth, bound, generation and used flag of each entry */
+    private final long[] infos;
+
+    /** Mask selecting a bucket from a key */
+    private final int bucketMask;
+
+    /** Generation of the current search */
+    private volatile int generation;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder collisions = new LongAdder();
+
+    /**
+     * Creates a table with room for at least the given number of entries.
+     * The capacity is rounded up to a power of two.
+     *
+     * @param entries Minimum number of entries
+     * @throws IllegalArgumentException if entries is not positive or too large
+     */
+    public TranspositionTable(int entries) {
+        if (entries < 1 || entries > 1 << 28) {
+            throw new IllegalArgumentException("Entries must be between 1 and 2^28: " + entries);
+        }
+        int buckets = Integer.highestOneBit(Math.max(1, (entries + WAYS - 1) / WAYS) * 2 - 1);
+        this.bucketMask = buckets - 1;
+        this.checks = new long[buckets * WAYS];
+        this.values = new long[buckets * WAYS];
+        this.infos = new long[buckets * WAYS];
+    }
+
+    /**
+     * Looks up a position and returns its value if it answers the query:
+     * searched at least as deep, and exact or a bound outside the window.
+     *
+     * @param key Key of the position
+     * @param depth Depth the caller is going to search
+     * @param alpha Lower end of the caller's window
+     * @param beta Upper end of the caller's window
+     * @return The stored value, or NaN if the table cannot answer the query
+     */
+    public double probe(long key, int depth, double alpha, double beta) {
+        int first = bucketOf(key);
+        boolean occupied = false;
+        for (int i = first; i < first + WAYS; i++) {
+            long info = infos[i];
+            long value = values[i];
+            if ((info & USED) == 0) {
+                continue;
+            }
+            if ((checks[i] ^ value ^ info) != key) {
+                occupied = true;
+                continue;
+            }
+            double stored = Double.longBitsToDouble(value);
+            int bound = (int) (info >>> BOUND_SHIFT) & 0x3;
+            if ((info & DEPTH_MASK) >= depth && (bound == BOUND_EXACT
+                || bound == BOUND_LOWER && stored >= beta
+                || bound == BOUND_UPPER && stored <= alpha)) {
+                hits.increment();
+                return stored;
+            }
+            misses.increment();
+            return Double.NaN;
+        }
+        misses.increment();
+        if (occupied) {
+            collisions.increment();
+        }
+        return Double.NaN;
+    }
+
+    /**
+     * Stores the result of searching a position.
+     *
+     * @param key Key of the position
+     * @param depth Depth that was searched, 0 to 255
+     * @param bound {@link #BOUND_EXACT}, {@link #BOUND_LOWER} or {@link #BOUND_UPPER}
+     * @param value Value found by the search
+     */
+    public void store(long key, int depth, int bound, double value) {
+        int first = bucketOf(key);
+        int current = generation;
+        int victim = first;
+        int victimScore = Integer.MAX_VALUE;
+        for (int i = first; i < first + WAYS; i++) {
+            long info = infos[i];
+            if ((info & USED) == 0) {
+                victim = i;
+                break;
+            }
+            if ((checks[i] ^ values[i] ^ info) == key) {
+                if ((info & DEPTH_MASK) > depth && bound != BOUND_EXACT
+                    && (int) (info >>> GENERATION_SHIFT & GENERATION_MASK) == current) {
+                    return;
+                }
+                victim = i;
+                break;
+            }
+            // Entries of earlier searches go first, then the shallowest
+            boolean stale = (int) (info >>> GENERATION_SHIFT & GENERATION_MASK) != current;
+            int score = (stale ? 0 : DEPTH_MASK + 1) + (int) (info & DEPTH_MASK);
+            if (score < victimScore) {
+                victimScore = score;
+                victim = i;
+            }
+        }
+
+        long info = USED | (long) current << GENERATION_SHIFT | (long) bound << BOUND_SHIFT
+            | Math.min(depth, DEPTH_MASK);
+        long bits = Double.doubleToRawLongBits(value);
+        infos[victim] = info;
+        values[victim] = bits;
+        checks[victim] = key ^ bits ^ info;
+    }
+
+    /**
+     * Starts a new search generation. Entries of earlier generations stay
+     * usable but are the first to be replaced.
+     */
+    public void newGeneration() {
+        generation = (generation + 1) & GENERATION_MASK;
+    }
+
+    /**
+     * Empties the table and resets its counters.
+     */
+    public void clear() {
+        Arrays.fill(infos, 0);
+        Arrays.fill(values, 0);
+        Arrays.fill(checks, 0);
+        hits.reset();
+        misses.reset();
+        collisions.reset();
+    }
+
+    /**
+     * Gets the number of entries the table can hold.
+     *
+     * @return Capacity in entries
+     */
+    public int getCapacity() {
+        return checks.length;
+    }
+
+    /**
+     * Gets the number of lookups the table answered.
+     *
+     * @return Number of hits
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Gets the number of lookups the table could not answer, either
+     * because the position was missing or its entry was too shallow or
+     * an unusable bound.
+     *
+     * @return Number of misses
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Gets the number of missed lookups whose bucket was filled by other
+     * positions. A high share suggests the table is too small.
+     *
+     * @return Number of collisions
+     */
+    public long getCollisions() {
+        return collisions.sum();
+    }
+
+    /**
+     * Gets the share of lookups the table answered.
+     *
+     * @return Hits divided by lookups, or 0 before the first lookup
+     */
+    public double getHitRate() {
+        long hit = hits.sum();
+        long lookups = hit + misses.sum();
+        return lookups > 0 ? (double) hit / lookups : 0;
+    }
+
+    /**
+     * Selects the first entry of a key's bucket, folding the key's high
+     * bits into the index.
+     */
+    private int bucketOf(long key) {
+        return (int) ((key >>> 32 ^ key) & bucketMask) * WAYS;
+    }
+}
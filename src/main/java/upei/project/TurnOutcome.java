@@ -0,0 +1,142 @@
+package upei.project;
+
+/**
+ * Packs what happened in one turn of a player into a single int, so the
+ * simulation can learn whether and how a player moved without building
+ * result objects or comparing snapshots of the board.
+ *
+ * An outcome holds the index of the moved piece in its player's piece
+ * list, the squares it moved from and to, the number of opponent pieces
+ * it captured and whether the turn earned another roll. {@link #NONE}
+ * means the player did not move.
+ *
+ * @author UPEI Project Team
+ * @version 1.0
+ * @see Player#playTurn(int, java.util.List)
+ */
+public final class TurnOutcome {
+    /** Outcome of a turn in which no piece moved */
+    public static final int NONE = 0;
+
+    /** Set in every outcome of a turn in which a piece moved */
+    private static final int MOVED = 1;
+
+    /** Shift of the piece index */
+    private static final int PIECE_SHIFT = 1;
+
+    /** Shift of the square the piece left, stored plus one */
+    private static final int FROM_SHIFT = 3;
+
+    /** Shift of the square the piece reached, stored plus one */
+    private static final int TO_SHIFT = 10;
+
+    /** Bits of a stored square */
+    private static final int SQUARE_MASK = 0x7F;
+
+    /** Shift of the number of captured pieces */
+    private static final int CAPTURES_SHIFT = 17;
+
+    /** Set when the roll or a capture earns another roll */
+    private static final int EXTRA_TURN = 1 << 22;
+
+    private TurnOutcome() {
+    }
+
+    /**
+     * Packs the outcome of a move.
+     *
+     * @param pieceIndex Index of the moved piece in its player's piece list, 0 to 3
+     * @param from Square the piece left, {@link GameState#BASE} if it came out of base
+     * @param to Square the piece reached, {@link GameState#HOME} if it went home
+     * @param captures Number of opponent pieces sent back to base
+     * @param dieRoll The roll that was moved
+     * @return The packed outcome
+     */
+    public static int of(int pieceIndex, int from, int to, int captures, int dieRoll) {
+        int outcome = MOVED | pieceIndex << PIECE_SHIFT
+            | (from + 1) << FROM_SHIFT | (to + 1) << TO_SHIFT | captures << CAPTURES_SHIFT;
+        return dieRoll == 6 || captures > 0 ? outcome | EXTRA_TURN : outcome;
+    }
+
+    /**
+     * Checks if a piece moved.
+     *
+     * @param outcome Packed outcome
+     * @return true unless the outcome is {@link #NONE}
+     */
+    public static boolean moved(int outcome) {
+        return (outcome & MOVED) != 0;
+    }
+
+    /**
+     * Gets the index of the moved piece in its player's piece list.
+     *
+     * @param outcome Packed outcome of a move
+     * @return Piece index
+     */
+    public static int pieceIndex(int outcome) {
+        return outcome >>> PIECE_SHIFT & 0x3;
+    }
+
+    /**
+     * Gets the square the moved piece left.
+     *
+     * @param outcome Packed outcome of a move
+     * @return Square, or {@link GameState#BASE}
+     */
+    public static int from(int outcome) {
+        return (outcome >>> FROM_SHIFT & SQUARE_MASK) - 1;
+    }
+
+    /**
+     * Gets the square the moved piece reached.
+     *
+     * @param outcome Packed outcome of a move
+     * @return Square, or {@link GameState#HOME}
+     */
+    public static int to(int outcome) {
+        return (outcome >>> TO_SHIFT & SQUARE_MASK) - 1;
+    }
+
+    /**
+     * Gets the number of opponent pieces the move sent back to base.
+     *
+     * @param outcome Packed outcome
+     * @return Number of captured pieces
+     */
+    public static int captures(int outcome) {
+        return outcome >>> CAPTURES_SHIFT & 0x1F;
+    }
+
+    /**
+     * Checks if the move brought a piece out of base.
+     *
+     * @param outcome Packed outcome
+     * @return true if a piece left its base
+     */
+    public static boolean leftBase(int outcome) {
+        return moved(outcome) && from(outcome) == GameState.BASE;
+    }
+
+    /**
+     * Checks if the move took a piece home.
+     *
+     * @param outcome Packed outcome
+     * @return true if a piece reached home
+     */
+    public static boolean reachedHome(int outcome) {
+        return moved(outcome) && to(outcome) == GameState.HOME;
+    }
+
+    /**
+     * Checks if the turn earned another roll under the standard rules: a
+     * six was rolled or a piece was captured. The game and the simulation
+     * pass the turn on regardless, so this only feeds statistics.
+     *
+     * @param outcome Packed outcome
+     * @return true if the move earned an extra turn
+     */
+    public static boolean isExtraTurn(int outcome) {
+        return (outcome & EXTRA_TURN) != 0;
+    }
+}
@@ -1,7 +1,7 @@
 package upei.project.strategies;
 
+import upei.project.GameState;
 import upei.project.MoveStrategy;
-import upei.project.Node;
 import upei.project.Piece;
 import upei.project.Player;
 import java.util.List;
@@ -46,31 +46,75 @@ public class DefensiveStrategy implements MoveStrategy {
     @Override
     public double evaluateMove(Piece piece, int dieRoll, Player currentPlayer, List<Player> allPlayers) {
         if (piece.hasReachedHome()) return -1.0;
-        
+
+        GameState state = piece.getState();
+        int color = GameState.colorOf(piece.getSlot());
+        return score(piece, state, color, dieRoll, state.opponentBoard(color));
+    }
+
+    /**
+     * {@inheritDoc}
+     * The opponents' squares are read once per turn.
+     */
+    @Override
+    public void evaluateMoves(Player currentPlayer, int dieRoll, int candidates, List<Player> allPlayers,
+                              double[] scores) {
+        List<Piece> pieces = currentPlayer.getPieces();
+        GameState state = null;
+        long opponents = 0;
+        for (int rest = candidates; rest != 0; rest &= rest - 1) {
+            int i = Integer.numberOfTrailingZeros(rest);
+            Piece piece = pieces.get(i);
+            if (piece.hasReachedHome()) {
+                scores[i] = -1.0;
+                continue;
+            }
+            int color = GameState.colorOf(piece.getSlot());
+            if (piece.getState() != state) {
+                state = piece.getState();
+                opponents = state.opponentBoard(color);
+            }
+            scores[i] = score(piece, state, color, dieRoll, opponents);
+        }
+    }
+
+    /**
+     * Scores moving a piece that has not reached home.
+     *
+     * @param piece The piece to be moved
+     * @param state Game state holding the piece
+     * @param color Color index of the piece
+     * @param dieRoll The number rolled on the die
+     * @param opponents Squares holding opponents, from {@link GameState#opponentBoard(int)}
+     * @return Score for the move, higher is better
+     */
+    private static double score(Piece piece, GameState state, int color, int dieRoll, long opponents) {
+        int slot = piece.getSlot();
+
         // Base score from distance to home
         double score = piece.getDistanceFromHome();
-        
+
         // Lower priority for getting pieces out of home
-        if (piece.isAtHome() && dieRoll == 6) {
+        if (dieRoll == 6 && state.isInBase(slot)) {
             score += 50.0;
         }
-        
+
         // Evaluate target position
-        var targetNode = piece.simulateMove(dieRoll);
-        if (targetNode != null) {
+        int target = state.walk(slot, dieRoll);
+        if (target != GameState.NO_MOVE) {
+            long targetBit = GameState.squareBit(color, target);
+
             // High priority for safe spots
-            if (targetNode.isSafe()) {
+            if ((GameState.SAFE_BOARD & targetBit) != 0) {
                 score += 200.0;
             }
-            
+
             // Lower bonus for captures compared to aggressive
-            for (Piece otherPiece : targetNode.getPieces()) {
-                if (otherPiece.getColor() != piece.getColor()) {
-                    score += 50.0;
-                }
+            if ((opponents & targetBit) != 0) {
+                score += 50.0 * state.opponentCount(color, target);
             }
         }
-        
+
         return score;
     }
 }
@@ -0,0 +1,530 @@
+package upei.project.strategies;
+
+import upei.project.GameState;
+import upei.project.MoveStrategy;
+import upei.project.Piece;
+import upei.project.Player;
+import upei.project.TranspositionTable;
+import java.util.List;
+
+/**
+ * Implements a search based strategy for AI players in the Ludo game.
+ * Instead of scoring a move on its own, this strategy looks ahead with a
+ * depth-limited expectimax search over the {@link GameState}:
+ * - Decision nodes: the player to move picks the best move for itself,
+ *   every opponent is assumed to pick the move that is worst for us
+ * - Chance nodes: each of the six die outcomes is weighted by 1/6
+ * - Leaves: our pieces' progress minus the opponents' average progress
+ *
+ * Chance nodes are pruned with Star1 (alpha-beta windows derived from the
+ * bounds of the evaluation) and Star2 (probing one move per roll first to
+ * tighten the bounds of every outcome). The search deepens iteratively
+ * until the maximum depth or the per-move time budget is reached.
+ *
+ * Chance nodes are cached in a {@link TranspositionTable} under the
+ * position's Zobrist key, so positions reached by several move orders, by
+ * the other moves of the same turn or by the next iteration are not
+ * searched again.
+ *
+ * The search works on a single copy of the game state, trying each move
+ * with {@link GameState#makeMove} and taking it back with
+ * {@link GameState#unmakeMove}, so a search allocates nothing. An instance keeps that stack between calls
+ * and must not be shared between players or threads.
+ *
+ * With the clock, the depth reached and so the move picked depend on the
+ * machine's load and on what the table kept from earlier searches. With
+ * {@link #NO_TIME_LIMIT} every search runs to the maximum depth and the
+ * table is cleared at each new decision, so the move picked depends only
+ * on the position and roll. The strategy registered as "Expectimax" is
+ * built that way by {@link #forSimulation()}, so simulated games with
+ * Expectimax seats replay exactly.
+ *
+ * @author UPEI Project Team
+ * @version 1.0
+ * @see MoveStrategy
+ * @see GameState
+ */
+public class ExpectimaxStrategy implements MoveStrategy {
+    /** Default number of decisions searched ahead, including the evaluated move */
+    public static final int DEFAULT_DEPTH = 3;
+
+    /** Default time budget for choosing one move, in milliseconds */
+    public static final long DEFAULT_BUDGET_MILLIS = 20;
+
+    /** Time budget of a search that always runs to its maximum depth */
+    public static final long NO_TIME_LIMIT = Long.MAX_VALUE;
+
+    /** Default number of entries of the transposition table */
+    public static final int DEFAULT_TABLE_ENTRIES = 1 << 14;
+
+    /** Score of a won game; larger than any evaluation of a running game */
+    private static final double WIN_SCORE = 1000.0;
+
+    /** Extra score for each piece that reached home */
+    private static final double HOME_BONUS = 15.0;
+
+    /** Extra score for each piece that left base, since leaving base needs a 6 */
+    private static final double OUT_OF_BASE_BONUS = 40.0;
+
+    /** Weight of the squared progress, which favours bringing leading pieces home */
+    private static final double LEAD_WEIGHT = 0.5;
+
+    /** Number of die outcomes */
+    private static final int ROLLS = 6;
+
+    /** Probability of each die outcome */
+    private static final double ROLL_PROBABILITY = 1.0 / ROLLS;
+
+    /** Progress index of a piece that reached home */
+    private static final int HOME_PROGRESS = 57;
+
+    /** The clock is read once every this many chance nodes (minus one) */
+    private static final int CLOCK_CHECK_MASK = 255;
+
+    /** Maximum number of decisions searched ahead */
+    private final int maxDepth;
+
+    /** Time budget for choosing one move, in nanoseconds, or {@link Long#MAX_VALUE} for none */
+    private final long budgetNanos;
+
+    /** Cache of searched chance nodes, or null to search without one */
+    private final TranspositionTable table;
+
+    /** Position being searched; moves are made and taken back on it */
+    private final GameState position = new GameState();
+
+    /** Ordered legal slots per remaining depth and roll */
+    private final int[][][] moveOrder;
+
+    /** Number of legal moves per remaining depth and roll */
+    private final int[][] moveCount;
+
+    /** Lower bound of each roll's outcome per remaining depth */
+    private final double[][] lowerBounds;
+
+    /** Upper bound of each roll's outcome per remaining depth */
+    private final double[][] upperBounds;
+
+    /** Scratch space for move ordering scores */
+    private final int[] orderScores = new int[GameState.PIECES_PER_COLOR];
+
+    /** Color index of each seat, in turn order */
+    private int[] seatColors = new int[0];
+
+    /** Seat of the player the search is run for */
+    private int me;
+
+    /** Mixed into table keys so values for different colors never mix */
+    private long searcherKey;
+
+    /** Time after which the current search is abandoned */
+    private long deadline;
+
+    /** Whether the current iteration may be abandoned */
+    private boolean abortable;
+
+    /** Whether the current iteration ran out of time */
+    private boolean aborted;
+
+    /** Number of chance nodes visited over the strategy's lifetime */
+    private long nodes;
+
+    /** Zobrist key of the position of the last decision without a time limit */
+    private long decisionKey;
+
+    /** Roll of the last decision without a time limit, or 0 if none */
+    private int decisionRoll;
+
+    /**
+     * Creates a strategy with the default depth and time budget. Meant for
+     * interactive play; see {@link #forSimulation()} for games that must replay.
+     */
+    public ExpectimaxStrategy() {
+        this(DEFAULT_DEPTH, DEFAULT_BUDGET_MILLIS);
+    }
+
+    /**
+     * Creates a strategy searching up to the given depth with its own
+     * transposition table of the default size.
+     *
+     * @param maxDepth Number of decisions searched ahead, including the evaluated move
+     * @param budgetMillis Time budget for choosing one move, in milliseconds, or {@link #NO_TIME_LIMIT}
+     * @throws IllegalArgumentException if the depth or budget is not positive
+     */
+    public ExpectimaxStrategy(int maxDepth, long budgetMillis) {
+        this(maxDepth, budgetMillis, new TranspositionTable(DEFAULT_TABLE_ENTRIES));
+    }
+
+    /**
+     * Creates a strategy searching up to the given depth with the given
+     * transposition table. A table may be shared between strategies and
+     * threads, as long as they use the same evaluation.
+     *
+     * @param maxDepth Number of decisions searched ahead, including the evaluated move
+     * @param budgetMillis Time budget for choosing one move, in milliseconds, or {@link #NO_TIME_LIMIT}
+     * @param table Cache of searched positions, or null to search without one
+     * @throws IllegalArgumentException if the depth or budget is not positive
+     */
+    public ExpectimaxStrategy(int maxDepth, long budgetMillis, TranspositionTable table) {
+        if (maxDepth < 1 || budgetMillis < 1) {
+            throw new IllegalArgumentException("Depth and time budget must be positive");
+        }
+        this.maxDepth = maxDepth;
+        this.table = table;
+        this.budgetNanos = budgetMillis == NO_TIME_LIMIT ? Long.MAX_VALUE : budgetMillis * 1_000_000L;
+        this.moveOrder = new int[maxDepth][ROLLS + 1][GameState.PIECES_PER_COLOR];
+        this.moveCount = new int[maxDepth][ROLLS + 1];
+        this.lowerBounds = new double[maxDepth][ROLLS + 1];
+        this.upperBounds = new double[maxDepth][ROLLS + 1];
+    }
+
+    /**
+     * Creates the reproducible strategy used in simulations: the default
+     * depth, its own table and no time limit.
+     *
+     * @return A strategy whose moves depend only on the position and roll
+     */
+    public static ExpectimaxStrategy forSimulation() {
+        return new ExpectimaxStrategy(DEFAULT_DEPTH, NO_TIME_LIMIT);
+    }
+
+    /**
+     * Evaluates a move by searching the game that follows it.
+     * The move budget is shared evenly between the player's legal moves.
+     *
+     * @param piece The piece to be moved
+     * @param dieRoll The number rolled on the die
+     * @param currentPlayer The player making the move
+     * @param allPlayers List of all players in the game, in turn order
+     * @return Expected score of the move; below any legal move if the move is invalid
+     */
+    @Override
+    public double evaluateMove(Piece piece, int dieRoll, Player currentPlayer, List<Player> allPlayers) {
+        GameState root = piece.getState();
+        int slot = piece.getSlot();
+        if (root.checkMove(slot, dieRoll) != GameState.MOVE_OK) {
+            return -2 * WIN_SCORE;
+        }
+        seatColors = SeatOrder.colorsOf(root, allPlayers, seatColors);
+        me = SeatOrder.seatOf(seatColors, GameState.colorOf(slot));
+        searcherKey = (seatColors[me] + 1) * 0x9E3779B97F4A7C15L;
+        boolean timed = budgetNanos != Long.MAX_VALUE;
+        if (table != null) {
+            // Without a clock, only this decision's searches may be reused
+            if (!timed && (root.getHash() != decisionKey || dieRoll != decisionRoll)) {
+                table.clear();
+                decisionKey = root.getHash();
+                decisionRoll = dieRoll;
+            }
+            table.newGeneration();
+        }
+
+        if (timed) {
+            int legalMoves = Math.max(1, Integer.bitCount(currentPlayer.legalMoveMask(dieRoll)));
+            deadline = System.nanoTime() + budgetNanos / legalMoves;
+        }
+
+        position.copyFrom(root);
+        double value = 0;
+        for (int depth = 1; depth <= maxDepth; depth++) {
+            abortable = timed && depth > 1;
+            aborted = false;
+            double result = searchMove(slot, dieRoll, depth);
+            if (aborted) {
+                break;
+            }
+            value = result;
+        }
+        return value;
+    }
+
+    /**
+     * Gets the transposition table of this strategy.
+     *
+     * @return The table, or null if the strategy searches without one
+     */
+    public TranspositionTable getTable() {
+        return table;
+    }
+
+    /**
+     * Gets the number of chance nodes this strategy has searched.
+     *
+     * @return Number of chance nodes visited
+     */
+    public long getNodesSearched() {
+        return nodes;
+    }
+
+    /**
+     * Searches the game after one move of ours to the given depth.
+     */
+    private double searchMove(int slot, int roll, int depth) {
+        position.makeMove(slot, roll);
+        double value = position.hasWon(seatColors[me]) ? WIN_SCORE
+            : chance(depth - 1, nextSeat(me), -WIN_SCORE, WIN_SCORE);
+        position.unmakeMove();
+        return value;
+    }
+
+    /**
+     * Chance node: the expected value over the six rolls of the seat to
+     * move, answered from the transposition table when it can be.
+     */
+    private double chance(int depth, int seat, double alpha, double beta) {
+        if (depth == 0) {
+            return evaluate(position);
+        }
+        nodes++;
+        if (abortable && (nodes & CLOCK_CHECK_MASK) == 0 && System.nanoTime() > deadline) {
+            aborted = true;
+        }
+        if (aborted) {
+            return 0;
+        }
+        if (table == null) {
+            return expand(depth, seat, alpha, beta);
+        }
+
+        long key = position.hashFor(seat) ^ searcherKey;
+        double cached = table.probe(key, depth, alpha, beta);
+        if (!Double.isNaN(cached)) {
+            return cached;
+        }
+        double value = expand(depth, seat, alpha, beta);
+        if (!aborted) {
+            int bound = value >= beta ? TranspositionTable.BOUND_LOWER
+                : value <= alpha ? TranspositionTable.BOUND_UPPER : TranspositionTable.BOUND_EXACT;
+            table.store(key, depth, bound, value);
+        }
+        return value;
+    }
+
+    /**
+     * Searches a chance node. Star2 first probes one move per roll, which
+     * bounds every outcome from one side; Star1 then searches the outcomes
+     * with windows narrowed by what the remaining outcomes can still
+     * contribute.
+     */
+    private double expand(int depth, int seat, double alpha, double beta) {
+        boolean maximizing = seat == me;
+        double[] lower = lowerBounds[depth];
+        double[] upper = upperBounds[depth];
+        double lowerSum = 0;
+        double upperSum = 0;
+
+        // Star2 probing: the first ordered move bounds each outcome
+        for (int roll = 1; roll <= ROLLS; roll++) {
+            double probe = probe(depth, seat, roll);
+            if (aborted) {
+                return 0;
+            }
+            boolean exact = moveCount[depth][roll] <= 1;
+            lower[roll] = exact || maximizing ? probe : -WIN_SCORE;
+            upper[roll] = exact || !maximizing ? probe : WIN_SCORE;
+            lowerSum += lower[roll];
+            upperSum += upper[roll];
+        }
+        if (ROLL_PROBABILITY * lowerSum >= beta) {
+            return ROLL_PROBABILITY * lowerSum;
+        }
+        if (ROLL_PROBABILITY * upperSum <= alpha) {
+            return ROLL_PROBABILITY * upperSum;
+        }
+
+        // Star1: search each outcome inside the window that can still matter
+        double sum = 0;
+        for (int roll = 1; roll <= ROLLS; roll++) {
+            double restLower = lowerSum - lower[roll];
+            double restUpper = upperSum - upper[roll];
+            double failLow = alpha / ROLL_PROBABILITY - sum - restUpper;
+            double failHigh = beta / ROLL_PROBABILITY - sum - restLower;
+            if (lower[roll] >= failHigh) {
+                return ROLL_PROBABILITY * (sum + lower[roll] + restLower);
+            }
+            if (upper[roll] <= failLow) {
+                return ROLL_PROBABILITY * (sum + upper[roll] + restUpper);
+            }
+
+            double value = lower[roll] == upper[roll] ? lower[roll]
+                : decide(depth, seat, roll, Math.max(failLow, lower[roll]), Math.min(failHigh, upper[roll]),
+                    maximizing ? lower[roll] : upper[roll]);
+            if (aborted) {
+                return 0;
+            }
+            if (value >= failHigh) {
+                return ROLL_PROBABILITY * (sum + value + restLower);
+            }
+            if (value <= failLow) {
+                return ROLL_PROBABILITY * (sum + value + restUpper);
+            }
+            sum += value;
+            lowerSum -= lower[roll];
+            upperSum -= upper[roll];
+        }
+        return ROLL_PROBABILITY * sum;
+    }
+
+    /**
+     * Orders the moves of a roll and searches the first one, or the pass if
+     * the seat cannot move, with a full window.
+     */
+    private double probe(int depth, int seat, int roll) {
+        int color = seatColors[seat];
+        int count = orderMoves(depth, color, roll);
+        if (count == 0) {
+            return chance(depth - 1, nextSeat(seat), -WIN_SCORE, WIN_SCORE);
+        }
+        return searchChild(depth, seat, moveOrder[depth][roll][0], roll, -WIN_SCORE, WIN_SCORE);
+    }
+
+    /**
+     * Decision node: the seat picks its best move for the roll. The first
+     * ordered move was already searched by the probe and is passed in.
+     */
+    private double decide(int depth, int seat, int roll, double alpha, double beta, double first) {
+        int[] order = moveOrder[depth][roll];
+        int count = moveCount[depth][roll];
+        double best = first;
+        if (seat == me) {
+            if (best >= beta) {
+                return best;
+            }
+            alpha = Math.max(alpha, best);
+            for (int i = 1; i < count; i++) {
+                double value = searchChild(depth, seat, order[i], roll, alpha, beta);
+                if (aborted) {
+                    return 0;
+                }
+                if (value > best) {
+                    best = value;
+                    if (best >= beta) {
+                        return best;
+                    }
+                    alpha = Math.max(alpha, best);
+                }
+            }
+        } else {
+            if (best <= alpha) {
+                return best;
+            }
+            beta = Math.min(beta, best);
+            for (int i = 1; i < count; i++) {
+                double value = searchChild(depth, seat, order[i], roll, alpha, beta);
+                if (aborted) {
+                    return 0;
+                }
+                if (value < best) {
+                    best = value;
+                    if (best <= alpha) {
+                        return best;
+                    }
+                    beta = Math.min(beta, best);
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Makes one move, searches the result and takes the move back.
+     */
+    private double searchChild(int depth, int seat, int slot, int roll, double alpha, double beta) {
+        position.makeMove(slot, roll);
+        double value;
+        if (position.hasWon(seatColors[seat])) {
+            value = seat == me ? WIN_SCORE : -WIN_SCORE;
+        } else {
+            value = chance(depth - 1, nextSeat(seat), alpha, beta);
+        }
+        position.unmakeMove();
+        return value;
+    }
+
+    /**
+     * Collects the legal moves of a color for a roll, most promising first:
+     * captures, then reaching home, then the largest advance.
+     *
+     * @return Number of legal moves
+     */
+    private int orderMoves(int depth, int color, int roll) {
+        GameState state = position;
+        int[] order = moveOrder[depth][roll];
+        int legal = state.legalMoveMask(color, roll);
+        int count = 0;
+        for (int rest = legal; rest != 0; rest &= rest - 1) {
+            int slot = color * GameState.PIECES_PER_COLOR + Integer.numberOfTrailingZeros(rest);
+            int target = state.target(slot, roll);
+            int score = state.progressOf(slot) == 0 ? 60 : roll;
+            if (target == GameState.HOME) {
+                score += 100;
+            } else if (state.captureMask(color, target) != 0) {
+                score += 200;
+            }
+
+            // Insertion sort, at most four moves
+            int i = count++;
+            while (i > 0 && orderScores[i - 1] < score) {
+                orderScores[i] = orderScores[i - 1];
+                order[i] = order[i - 1];
+                i--;
+            }
+            orderScores[i] = score;
+            order[i] = slot;
+        }
+        moveCount[depth][roll] = count;
+        return count;
+    }
+
+    /**
+     * Scores a position for the searching player: our progress minus the
+     * average progress of the opponents. Subclasses may replace the
+     * evaluation; its values must stay strictly between -1000 and 1000,
+     * the scores of a lost and a won game.
+     *
+     * @param state The position to score
+     * @return Score of the position, higher is better for the searching player
+     */
+    protected double evaluate(GameState state) {
+        double mine = 0;
+        double others = 0;
+        for (int seat = 0; seat < seatColors.length; seat++) {
+            double score = colorScore(state, seatColors[seat]);
+            if (seat == me) {
+                mine = score;
+            } else {
+                others += score;
+            }
+        }
+        return seatColors.length > 1 ? mine - others / (seatColors.length - 1) : mine;
+    }
+
+    /**
+     * Scores the pieces of a color: their progress, a bonus for every piece
+     * out of base and home, and a squared term favouring leading pieces.
+     * At most 4 * (57 + 40 + 28.5 + 15) points.
+     */
+    private static double colorScore(GameState state, int color) {
+        double score = 0;
+        int first = color * GameState.PIECES_PER_COLOR;
+        for (int slot = first; slot < first + GameState.PIECES_PER_COLOR; slot++) {
+            if ((state.getPieceMask() & (1 << slot)) != 0) {
+                int progress = state.progressOf(slot);
+                if (progress > 0) {
+                    score += progress + OUT_OF_BASE_BONUS + LEAD_WEIGHT * progress * progress / HOME_PROGRESS;
+                }
+                if (progress == HOME_PROGRESS) {
+                    score += HOME_BONUS;
+                }
+            }
+        }
+        return score;
+    }
+
+    /**
+     * Returns the seat that moves after the given one.
+     */
+    private int nextSeat(int seat) {
+        return (seat + 1) % seatColors.length;
+    }
+}
@@ -0,0 +1,113 @@
+package upei.project.strategies;
+
+import upei.project.GameState;
+import upei.project.MoveStrategy;
+import upei.project.Node;
+import upei.project.Piece;
+import upei.project.Player;
+import java.util.List;
+
+/**
+ * Implements the hand-tuned scoring that {@link upei.project.AIPlayer}
+ * used before players were driven by registered strategies.
+ * The strategy weighs:
+ * - Getting pieces out of base with a 6, and keeping two pieces out
+ * - Advancing pieces, with a bonus close to home and for finishing
+ * - Landing on safe spots
+ * - Captures, worth double once enough of the player's pieces are home
+ * - The threat the opponents pose to the target square, read from the
+ *   threat map of the {@link GameState}
+ *
+ * @author UPEI Project Team
+ * @version 1.0
+ * @see MoveStrategy
+ * @see GameState#threatTo(int, int)
+ */
+public class HeuristicStrategy implements MoveStrategy {
+    /** Default number of pieces home before captures score double */
+    public static final int DEFAULT_CAPTURE_BONUS_THRESHOLD = 1;
+
+    /** Pieces home before captures score double */
+    private final int captureBonusThreshold;
+
+    /**
+     * Creates a strategy doubling captures once one piece is home.
+     */
+    public HeuristicStrategy() {
+        this(DEFAULT_CAPTURE_BONUS_THRESHOLD);
+    }
+
+    /**
+     * Creates a strategy doubling captures once the given number of
+     * pieces is home.
+     *
+     * @param captureBonusThreshold Pieces home before captures score double
+     */
+    public HeuristicStrategy(int captureBonusThreshold) {
+        this.captureBonusThreshold = captureBonusThreshold;
+    }
+
+    /**
+     * Evaluates the potential move of a piece.
+     *
+     * @param piece The piece to be moved
+     * @param dieRoll The number rolled on the die
+     * @param currentPlayer The player making the move
+     * @param allPlayers List of all players in the game
+     * @return Score for the move, higher is better, -1 for invalid moves
+     */
+    @Override
+    public double evaluateMove(Piece piece, int dieRoll, Player currentPlayer, List<Player> allPlayers) {
+        // Base case: always try to get pieces out with a 6
+        if (piece.isAtHome() && dieRoll == 6) return 2000;
+
+        if (piece.hasReachedHome()) return -1;
+
+        Node targetNode = piece.simulateMove(dieRoll);
+        if (targetNode == null) return -1;
+
+        int score = 0;
+
+        // Apply the capture multiplier once enough pieces are home
+        int strategyMultiplier = currentPlayer.getPiecesReachedHome() >= captureBonusThreshold ? 2 : 1;
+
+        // Count pieces out of home
+        int piecesOut = currentPlayer.getPiecesOnBoard();
+
+        // Strongly encourage getting pieces out early game
+        if (piecesOut < 2 && !piece.isAtHome()) {
+            score += 500;
+        }
+
+        // Prioritize moves that get closer to home
+        int distanceFromHome = piece.getDistanceFromHome();
+        score += (52 - distanceFromHome) * 20;
+
+        // Extra points for getting very close to home
+        if (distanceFromHome < 10) {
+            score += 200;
+        }
+
+        // Bonus for landing on safe spots
+        if (targetNode.isSafeSpot()) {
+            score += 100;
+        }
+
+        // Scoring for captures
+        GameState state = piece.getState();
+        int myColor = piece.getPlayerColor().index();
+        int targetSquare = GameState.squareOf(targetNode.getPosition());
+        int capturable = state.captureMask(myColor, targetSquare);
+        score += Integer.bitCount(capturable) * 200 * strategyMultiplier;
+
+        // Reduced penalty for moving into danger, read from the threat map
+        score -= state.threatTo(myColor, targetSquare) * 10;
+
+        // Extra bonus for moves that would win the game
+        if (distanceFromHome <= dieRoll) {
+            score += 1000;
+        }
+
+        return score;
+    }
+}
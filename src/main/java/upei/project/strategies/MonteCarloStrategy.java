@@ -0,0 +1,511 @@
+package upei.project.strategies;
+
+import upei.project.DiceSource;
+import upei.project.GameState;
+import upei.project.MoveStrategy;
+import upei.project.Piece;
+import upei.project.Player;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Implements a Monte Carlo Tree Search strategy for AI players in the Ludo game.
+ * Each decision grows a UCT search tree over the {@link GameState}:
+ * - Decision nodes: each seat picks its move by the UCT rule, maximising
+ *   its own average reward
+ * - Chance nodes: the roll of the next seat is drawn at random, and each
+ *   of the six outcomes keeps its own list of moves
+ * - Rollouts: from a new node the game is played on with a light policy
+ *   (capture, then reach home, then a random move) for a fixed number of
+ *   turns, then every seat is rewarded by its progress against the others
+ *
+ * Rollouts run on several threads that share one tree. Visit counts and
+ * reward sums are atomic counters and new nodes are published with a
+ * compare-and-set, so the tree needs no locks. A visit is counted when a
+ * thread descends through a node, before its reward is known; this acts as
+ * a virtual loss that steers the other threads towards different moves.
+ *
+ * The tree is searched once per turn: the first move evaluated for a roll
+ * runs the search, the player's other moves for the same position and roll
+ * are read from the finished tree. A move's score is its share of the root
+ * visits, so the player picks the most visited move. An instance must not
+ * be shared between players.
+ *
+ * Each search draws its random numbers from the strategy's seed mixed
+ * with the searched position and roll, so a single threaded search with
+ * a rollout limit and {@link #NO_TIME_LIMIT} picks the same move for the
+ * same position every time, whatever was searched before. The strategy
+ * registered as "MCTS" is built that way by {@link #forSimulation()}, so
+ * simulated games with MCTS seats replay exactly and simulation workers
+ * do not each start a search on every core. Searches on several threads
+ * or against the clock depend on timing and are not reproducible.
+ *
+ * @author UPEI Project Team
+ * @version 1.0
+ * @see MoveStrategy
+ * @see GameState
+ */
+public class MonteCarloStrategy implements MoveStrategy {
+    /** Default time budget for choosing one move, in milliseconds */
+    public static final long DEFAULT_BUDGET_MILLIS = 50;
+
+    /** Time budget of a search that stops only at its rollout limit */
+    public static final long NO_TIME_LIMIT = Long.MAX_VALUE;
+
+    /** Rollouts per decision of the strategy used in simulations */
+    public static final long SIMULATION_ROLLOUTS = 1000;
+
+    /** Maximum depth of the tree, in decisions */
+    private static final int MAX_TREE_DEPTH = 32;
+
+    /** Number of turns played by a rollout after leaving the tree */
+    private static final int ROLLOUT_TURNS = 48;
+
+    /** Exploration constant of the UCT rule */
+    private static final double EXPLORATION = 0.7;
+
+    /** Rewards are summed as fixed point numbers with this many units per 1.0 */
+    private static final double REWARD_SCALE = 1 << 20;
+
+    /** Number of die outcomes */
+    private static final int ROLLS = 6;
+
+    /** Progress index of a piece that reached home */
+    private static final int HOME_PROGRESS = 57;
+
+    /** Rollouts between two reads of the clock (minus one) */
+    private static final int CLOCK_CHECK_MASK = 15;
+
+    /** Threads running the rollouts of every instance beside the calling thread */
+    private static final ExecutorService WORKERS = Executors.newCachedThreadPool(task -> {
+        Thread thread = new Thread(task, "mcts-worker");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** Number of threads running rollouts, including the calling thread */
+    private final int threads;
+
+    /** Time budget for choosing one move, in nanoseconds, or {@link Long#MAX_VALUE} for none */
+    private final long budgetNanos;
+
+    /** Maximum number of rollouts per decision */
+    private final long maxRollouts;
+
+    /** Seed mixed with each searched position and roll */
+    private final long seed;
+
+    /** Position of the last search */
+    private final GameState searchedPosition = new GameState();
+
+    /** Zobrist key of the position of the last search */
+    private long searchedKey;
+
+    /** Roll of the last search, or 0 if nothing was searched */
+    private int searchedRoll;
+
+    /** Moves of the searched position, indexed by piece within the color */
+    private final Node[] rootMoves = new Node[GameState.PIECES_PER_COLOR];
+
+    /** Total visits of the root moves of the last search */
+    private long rootVisits;
+
+    /** Color index of each seat, in turn order */
+    private int[] seatColors = new int[0];
+
+    /** Number of rollouts played over the strategy's lifetime */
+    private long rollouts;
+
+    /**
+     * Creates a strategy using every available processor and the default
+     * budget, seeded from the clock. Meant for interactive play; see
+     * {@link #forSimulation()} for games that must replay.
+     */
+    public MonteCarloStrategy() {
+        this(Runtime.getRuntime().availableProcessors(), DEFAULT_BUDGET_MILLIS, Long.MAX_VALUE, System.nanoTime());
+    }
+
+    /**
+     * Creates a strategy with the given threads and limits.
+     * A search stops when either its time budget or its rollout limit is reached.
+     *
+     * @param threads Number of threads running rollouts, including the calling thread
+     * @param budgetMillis Time budget for choosing one move, in milliseconds, or {@link #NO_TIME_LIMIT}
+     * @param maxRollouts Maximum number of rollouts per decision
+     * @param seed Seed of the rollouts' random numbers
+     * @throws IllegalArgumentException if the threads, budget or rollout limit is not positive
+     */
+    public MonteCarloStrategy(int threads, long budgetMillis, long maxRollouts, long seed) {
+        if (threads < 1 || budgetMillis < 1 || maxRollouts < 1) {
+            throw new IllegalArgumentException("Threads, time budget and rollouts must be positive");
+        }
+        this.threads = threads;
+        this.budgetNanos = budgetMillis == NO_TIME_LIMIT ? Long.MAX_VALUE : budgetMillis * 1_000_000L;
+        this.maxRollouts = maxRollouts;
+        this.seed = seed;
+    }
+
+    /**
+     * Creates the reproducible strategy used in simulations: one thread,
+     * {@link #SIMULATION_ROLLOUTS} rollouts per decision and no time limit.
+     *
+     * @return A strategy whose moves depend only on the position and roll
+     */
+    public static MonteCarloStrategy forSimulation() {
+        return new MonteCarloStrategy(1, NO_TIME_LIMIT, SIMULATION_ROLLOUTS, 0L);
+    }
+
+    /**
+     * Evaluates a move by the share of the search's visits it received.
+     * Searches the position unless it was searched for this roll already.
+     *
+     * @param piece The piece to be moved
+     * @param dieRoll The number rolled on the die
+     * @param currentPlayer The player making the move
+     * @param allPlayers List of all players in the game, in turn order
+     * @return Share of the root visits between 0 and 1; -1 if the move is invalid
+     */
+    @Override
+    public double evaluateMove(Piece piece, int dieRoll, Player currentPlayer, List<Player> allPlayers) {
+        GameState root = piece.getState();
+        int slot = piece.getSlot();
+        if (root.checkMove(slot, dieRoll) != GameState.MOVE_OK) {
+            return -1;
+        }
+        int color = GameState.colorOf(slot);
+        if (dieRoll != searchedRoll || root.getHash() != searchedKey) {
+            seatColors = SeatOrder.colorsOf(root, allPlayers, seatColors);
+            search(root, SeatOrder.seatOf(seatColors, color), dieRoll);
+        }
+        Node node = rootMoves[slot - color * GameState.PIECES_PER_COLOR];
+        return node == null || rootVisits == 0 ? 0 : (double) node.visits.get() / rootVisits;
+    }
+
+    /**
+     * Gets the number of rollouts this strategy has played.
+     *
+     * @return Number of rollouts
+     */
+    public long getRollouts() {
+        return rollouts;
+    }
+
+    /**
+     * Grows a new tree for the seat to move with the given roll.
+     */
+    private void search(GameState root, int seat, int roll) {
+        searchedPosition.copyFrom(root);
+        searchedKey = root.getHash();
+        searchedRoll = roll;
+        int color = seatColors[seat];
+        Node[] moves = Node.moves(root, color, roll, seat);
+        Arrays.fill(rootMoves, null);
+        for (Node move : moves) {
+            rootMoves[move.slot - color * GameState.PIECES_PER_COLOR] = move;
+        }
+        rootVisits = 0;
+        if (moves.length == 1) {
+            rootVisits = 1;
+            moves[0].visits.set(1);
+            return;
+        }
+
+        long deadline = budgetNanos == Long.MAX_VALUE ? Long.MAX_VALUE : System.nanoTime() + budgetNanos;
+        Search search = new Search(searchedPosition, seatColors.clone(), seat, roll, moves, deadline, maxRollouts);
+        SplittableRandom seeds = new SplittableRandom(DiceSource.gameSeed(seed ^ searchedKey, roll));
+        Future<?>[] helpers = new Future<?>[threads - 1];
+        for (int i = 0; i < helpers.length; i++) {
+            SplittableRandom random = seeds.split();
+            helpers[i] = WORKERS.submit(() -> search.run(random));
+        }
+        search.run(seeds.split());
+        try {
+            for (Future<?> helper : helpers) {
+                helper.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Search worker failed", e.getCause());
+        }
+
+        rollouts += search.finished.get();
+        for (Node move : moves) {
+            rootVisits += move.visits.get();
+        }
+    }
+
+    /**
+     * A move in the tree, followed by the chance node of the next seat's roll.
+     * Statistics are kept from the point of view of the seat that moved.
+     */
+    private static final class Node {
+        /** Slot of the moved piece, or -1 if the seat could not move */
+        final int slot;
+
+        /** Seat that made the move */
+        final int seat;
+
+        /** Number of descents through the node, including running ones */
+        final AtomicLong visits = new AtomicLong();
+
+        /** Sum of the rewards of the moving seat, in fixed point */
+        final AtomicLong reward = new AtomicLong();
+
+        /** Moves of the next seat for each roll, created on first use */
+        final AtomicReferenceArray<Node[]> outcomes = new AtomicReferenceArray<>(ROLLS + 1);
+
+        Node(int slot, int seat) {
+            this.slot = slot;
+            this.seat = seat;
+        }
+
+        /**
+         * Creates the moves of a color for a roll; a single pass if it cannot move.
+         */
+        static Node[] moves(GameState state, int color, int roll, int seat) {
+            int legal = state.legalMoveMask(color, roll);
+            if (legal == 0) {
+                return new Node[] {new Node(-1, seat)};
+            }
+            Node[] moves = new Node[Integer.bitCount(legal)];
+            int i = 0;
+            for (int rest = legal; rest != 0; rest &= rest - 1) {
+                moves[i++] = new Node(color * GameState.PIECES_PER_COLOR + Integer.numberOfTrailingZeros(rest), seat);
+            }
+            return moves;
+        }
+
+        /**
+         * Gets the next seat's moves for a roll, publishing them if this
+         * thread is the first to reach the outcome.
+         */
+        Node[] outcome(GameState state, int color, int roll, int seat) {
+            Node[] moves = outcomes.get(roll);
+            if (moves == null) {
+                Node[] created = moves(state, color, roll, seat);
+                moves = outcomes.compareAndExchange(roll, null, created);
+                if (moves == null) {
+                    moves = created;
+                }
+            }
+            return moves;
+        }
+
+        /**
+         * Picks the move of a decision by the UCT rule. Unvisited moves are
+         * tried first, in order.
+         */
+        static Node select(Node[] moves) {
+            if (moves.length == 1) {
+                return moves[0];
+            }
+            long total = 0;
+            for (Node move : moves) {
+                long visits = move.visits.get();
+                if (visits == 0) {
+                    return move;
+                }
+                total += visits;
+            }
+            double logTotal = Math.log(total);
+            Node best = moves[0];
+            double bestScore = Double.NEGATIVE_INFINITY;
+            for (Node move : moves) {
+                long visits = move.visits.get();
+                double score = move.reward.get() / REWARD_SCALE / visits
+                    + EXPLORATION * Math.sqrt(logTotal / visits);
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = move;
+                }
+            }
+            return best;
+        }
+    }
+
+    /**
+     * One decision's search, shared by the threads running its rollouts.
+     */
+    private static final class Search {
+        final GameState root;
+        final int[] seatColors;
+        final int rootSeat;
+        final int rootRoll;
+        final Node[] rootMoves;
+        final long deadline;
+        final long maxRollouts;
+
+        /** Number of rollouts started by all threads */
+        final AtomicLong started = new AtomicLong();
+
+        /** Number of rollouts finished by all threads */
+        final AtomicLong finished = new AtomicLong();
+
+        /** Whether a thread found the time budget used up */
+        volatile boolean expired;
+
+        Search(GameState root, int[] seatColors, int rootSeat, int rootRoll, Node[] rootMoves,
+               long deadline, long maxRollouts) {
+            this.root = root;
+            this.seatColors = seatColors;
+            this.rootSeat = rootSeat;
+            this.rootRoll = rootRoll;
+            this.rootMoves = rootMoves;
+            this.deadline = deadline;
+            this.maxRollouts = maxRollouts;
+        }
+
+        /**
+         * Runs rollouts until the time budget or the rollout limit is used up.
+         * Each thread works on its own copy of the position.
+         */
+        void run(SplittableRandom random) {
+            GameState state = new GameState();
+            Node[] path = new Node[MAX_TREE_DEPTH];
+            double[] rewards = new double[seatColors.length];
+            long count;
+            while (!expired && (count = started.getAndIncrement()) < maxRollouts) {
+                if ((count & CLOCK_CHECK_MASK) == 0 && count > 0 && System.nanoTime() > deadline) {
+                    expired = true;
+                    break;
+                }
+                state.copyFrom(root);
+                int length = descend(state, path, random);
+                Node last = path[length - 1];
+                int winner = last.slot >= 0 && state.hasWon(seatColors[last.seat]) ? last.seat
+                    : rollout(state, nextSeat(last.seat), random);
+                score(state, winner, rewards);
+                for (int i = 0; i < length; i++) {
+                    path[i].reward.addAndGet((long) (rewards[path[i].seat] * REWARD_SCALE));
+                }
+                finished.incrementAndGet();
+            }
+        }
+
+        /**
+         * Walks down the tree, counting a visit on every node passed, until a
+         * node is reached for the first time, the game is won or the depth
+         * limit is hit.
+         *
+         * @return Number of nodes on the path
+         */
+        private int descend(GameState state, Node[] path, SplittableRandom random) {
+            Node[] moves = rootMoves;
+            int seat = rootSeat;
+            int roll = rootRoll;
+            int length = 0;
+            while (true) {
+                Node node = Node.select(moves);
+                long visits = node.visits.getAndIncrement();
+                path[length++] = node;
+                if (node.slot >= 0) {
+                    state.move(node.slot, roll);
+                    if (state.hasWon(seatColors[seat])) {
+                        return length;
+                    }
+                }
+                if (visits == 0 || length == MAX_TREE_DEPTH) {
+                    return length;
+                }
+                seat = nextSeat(seat);
+                roll = random.nextInt(1, ROLLS + 1);
+                moves = node.outcome(state, seatColors[seat], roll, seat);
+            }
+        }
+
+        /**
+         * Plays the game on from a position with the rollout policy.
+         *
+         * @return Seat that won, or -1 if no one won within the rollout
+         */
+        private int rollout(GameState state, int seat, SplittableRandom random) {
+            for (int turn = 0; turn < ROLLOUT_TURNS; turn++) {
+                int color = seatColors[seat];
+                int roll = random.nextInt(1, ROLLS + 1);
+                int legal = state.legalMoveMask(color, roll);
+                if (legal != 0) {
+                    state.move(pickMove(state, color, roll, legal, random), roll);
+                    if (state.hasWon(color)) {
+                        return seat;
+                    }
+                }
+                seat = nextSeat(seat);
+            }
+            return -1;
+        }
+
+        /**
+         * Rollout policy: a capture, else a move reaching home, else a random legal move.
+         */
+        private static int pickMove(GameState state, int color, int roll, int legal, SplittableRandom random) {
+            int base = color * GameState.PIECES_PER_COLOR;
+            int home = -1;
+            for (int rest = legal; rest != 0; rest &= rest - 1) {
+                int slot = base + Integer.numberOfTrailingZeros(rest);
+                int target = state.target(slot, roll);
+                if (target == GameState.HOME) {
+                    home = slot;
+                } else if (state.captureMask(color, target) != 0) {
+                    return slot;
+                }
+            }
+            if (home >= 0) {
+                return home;
+            }
+            int pick = random.nextInt(Integer.bitCount(legal));
+            int rest = legal;
+            for (int i = 0; i < pick; i++) {
+                rest &= rest - 1;
+            }
+            return base + Integer.numberOfTrailingZeros(rest);
+        }
+
+        /**
+         * Rewards each seat between 0 and 1: 1 for the winner and 0 for the
+         * others, or, without a winner, by its progress against the average
+         * progress of the other seats.
+         */
+        private void score(GameState state, int winner, double[] rewards) {
+            int seats = seatColors.length;
+            if (winner >= 0) {
+                for (int seat = 0; seat < seats; seat++) {
+                    rewards[seat] = seat == winner ? 1 : 0;
+                }
+                return;
+            }
+            double total = 0;
+            for (int seat = 0; seat < seats; seat++) {
+                rewards[seat] = progress(state, seatColors[seat]);
+                total += rewards[seat];
+            }
+            double maxLead = GameState.PIECES_PER_COLOR * HOME_PROGRESS;
+            for (int seat = 0; seat < seats; seat++) {
+                double others = seats > 1 ? (total - rewards[seat]) / (seats - 1) : 0;
+                rewards[seat] = 0.5 + 0.5 * (rewards[seat] - others) / maxLead;
+            }
+        }
+
+        /**
+         * Sums the progress of a color's pieces.
+         */
+        private static double progress(GameState state, int color) {
+            int sum = 0;
+            for (int i = 0; i < GameState.PIECES_PER_COLOR; i++) {
+                sum += state.progressOf(color * GameState.PIECES_PER_COLOR + i);
+            }
+            return sum;
+        }
+
+        private int nextSeat(int seat) {
+            return seat + 1 == seatColors.length ? 0 : seat + 1;
+        }
+    }
+}
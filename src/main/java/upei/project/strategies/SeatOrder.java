@@ -0,0 +1,65 @@
+package upei.project.strategies;
+
+import upei.project.GameState;
+import upei.project.Player;
+import java.util.List;
+
+/**
+ * Seating of the players a search strategy plays for and against.
+ * Maps each seat, in turn order, to the color index of its pieces on the
+ * {@link GameState}, and finds the seat of the searching player.
+ *
+ * @author UPEI Project Team
+ * @version 1.0
+ */
+final class SeatOrder {
+    private SeatOrder() {
+    }
+
+    /**
+     * Gets the color index of each seat in turn order.
+     * Without a player list the seats are the colors with pieces on the board.
+     *
+     * @param state The position being searched
+     * @param allPlayers List of all players in turn order, or null
+     * @param reuse Array returned if it already has the right length, or null
+     * @return Color index of each seat
+     */
+    static int[] colorsOf(GameState state, List<Player> allPlayers, int[] reuse) {
+        int seats = 0;
+        int[] colors;
+        if (allPlayers != null && !allPlayers.isEmpty()) {
+            seats = allPlayers.size();
+            colors = reuse != null && reuse.length == seats ? reuse : new int[seats];
+            for (int i = 0; i < seats; i++) {
+                colors[i] = allPlayers.get(i).getPlayerColor().index();
+            }
+            return colors;
+        }
+        int[] onBoard = new int[GameState.NUM_COLORS];
+        for (int color = 0; color < GameState.NUM_COLORS; color++) {
+            if ((state.getPieceMask() >>> (color * GameState.PIECES_PER_COLOR) & 0xF) != 0) {
+                onBoard[seats++] = color;
+            }
+        }
+        colors = reuse != null && reuse.length == seats ? reuse : new int[seats];
+        System.arraycopy(onBoard, 0, colors, 0, seats);
+        return colors;
+    }
+
+    /**
+     * Finds the seat playing a color.
+     *
+     * @param colors Color index of each seat
+     * @param color Color index to find
+     * @return Seat of the color, or 0 if no seat plays it
+     */
+    static int seatOf(int[] colors, int color) {
+        for (int i = 0; i < colors.length; i++) {
+            if (colors[i] == color) {
+                return i;
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,44 @@
+package upei.project.strategies;
+
+import upei.project.MoveStrategy;
+import upei.project.StrategyProvider;
+
+import java.util.List;
+
+/**
+ * Provides the strategies shipped in this package to the
+ * {@link upei.project.StrategyRegistry}:
+ * - "Aggressive": {@link AggressiveStrategy}
+ * - "Defensive": {@link DefensiveStrategy}
+ * - "Balanced": {@link BalancedStrategy}
+ * - "Expectimax": {@link ExpectimaxStrategy#forSimulation()}
+ * - "MCTS": {@link MonteCarloStrategy#forSimulation()}
+ * - "Heuristic": {@link HeuristicStrategy}
+ *
+ * @author UPEI Project Team
+ * @version 1.0
+ * @see StrategyProvider
+ */
+public class StandardStrategies implements StrategyProvider {
+    /** Names of the provided strategies */
+    private static final List<String> NAMES = List.of("Aggressive", "Defensive", "Balanced", "Expectimax", "MCTS",
+        "Heuristic");
+
+    @Override
+    public List<String> getNames() {
+        return NAMES;
+    }
+
+    @Override
+    public MoveStrategy create(String name) {
+        return switch (name) {
+            case "Aggressive" -> new AggressiveStrategy();
+            case "Defensive" -> new DefensiveStrategy();
+            case "Balanced" -> new BalancedStrategy();
+            case "Expectimax" -> ExpectimaxStrategy.forSimulation();
+            case "MCTS" -> MonteCarloStrategy.forSimulation();
+            case "Heuristic" -> new HeuristicStrategy();
+            default -> throw new IllegalArgumentException("Unknown strategy: " + name);
+        };
+    }
+}
@@ -3,6 +3,7 @@ package upei.project;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
+import upei.project.strategies.HeuristicStrategy;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.awt.Color;
@@ -88,7 +89,7 @@ public class AIPlayerTest {
     @Timeout(100)
     void testMoveEvaluationFromBase() {
         Piece piece = pieces.getFirst();
-        int evaluation = aiPlayer.evaluateMove(piece, 6);
+        double evaluation = new HeuristicStrategy().evaluateMove(piece, 6, aiPlayer, List.of(aiPlayer));
         assertTrue(evaluation > 0, "Moving piece out of base with 6 should have positive evaluation");
     }
 
@@ -109,6 +110,45 @@ public class AIPlayerTest {
         assertTrue(aiPlayer.getMovesCount() >= 0, "Moves count should be tracked");
     }
 
+    /**
+     * Tests that a turn reports the move the AI made, including captures,
+     * and keeps the statistics in step.
+     *
+     * @throws InvalidMoveException if setting up the blue piece fails
+     */
+    @Test
+    @Timeout(100)
+    void testPlayTurnReportsCapture() throws InvalidMoveException {
+        GameBoard board = new GameBoard();
+        List<Piece> bluePieces = new ArrayList<>();
+        List<Piece> greenPieces = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            bluePieces.add(new Piece(Color.BLUE, board));
+            greenPieces.add(new Piece(Color.GREEN, board));
+        }
+        AIPlayer blue = new AIPlayer("Blue", Color.BLUE, bluePieces);
+        AIPlayer green = new AIPlayer("Green", Color.GREEN, greenPieces);
+        List<Player> allPlayers = List.of(blue, green);
+        Piece target = bluePieces.get(0);
+        for (int steps : new int[]{6, 6, 6, 2}) {
+            target.move(steps);
+        }
+
+        int outcome = green.playTurn(6, allPlayers);
+        assertTrue(TurnOutcome.leftBase(outcome), "Green should bring a piece out");
+        assertEquals(GameState.START_SQUARES[1], TurnOutcome.to(outcome), "Green enters at its start");
+
+        outcome = green.playTurn(1, allPlayers);
+        assertEquals(GameState.START_SQUARES[1], TurnOutcome.from(outcome), "Green leaves its start");
+        assertEquals(1, TurnOutcome.captures(outcome), "Green should capture the blue piece");
+        assertTrue(target.isAtHome(), "The blue piece should be back in base");
+        assertEquals(2, green.getMovesCount(), "Both moves should be counted");
+        assertEquals(1, green.getCapturesMade(), "The capture should be counted");
+
+        assertEquals(TurnOutcome.NONE, blue.playTurn(3, allPlayers), "Blue cannot move with a 3");
+        assertEquals(0, blue.getMovesCount(), "No move should be counted");
+    }
+
     /**
      * Tests the capture statistics tracking.
      * Verifies that capture counts are properly initialized
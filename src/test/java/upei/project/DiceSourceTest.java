@@ -0,0 +1,73 @@
+package upei.project;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for the DiceSource seeding.
+ * Verifies that:
+ * - Rolls stay between 1 and 6
+ * - Dice of the same game roll the same sequence
+ * - Games of a campaign get different streams
+ *
+ * @author UPEI Project Team
+ * @version 1.0
+ * @see DiceSource
+ */
+public class DiceSourceTest {
+    /**
+     * Tests that every face is rolled and nothing outside 1-6.
+     */
+    @Test
+    @Timeout(100)
+    void testRollRange() {
+        DiceSource dice = DiceSource.seeded(1L);
+        boolean[] seen = new boolean[7];
+        for (int i = 0; i < 1000; i++) {
+            int roll = dice.roll();
+            assertTrue(roll >= 1 && roll <= 6, "Roll should be between 1 and 6");
+            seen[roll] = true;
+        }
+        for (int face = 1; face <= 6; face++) {
+            assertTrue(seen[face], "Face " + face + " should be rolled");
+        }
+    }
+
+    /**
+     * Tests that a game's dice depend only on the campaign seed and game index.
+     */
+    @Test
+    @Timeout(100)
+    void testGameDiceAreReproducible() {
+        DiceSource first = DiceSource.forGame(99L, 123_456L);
+        DiceSource second = DiceSource.forGame(99L, 123_456L);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(first.roll(), second.roll(), "Same game should roll the same sequence");
+        }
+    }
+
+    /**
+     * Tests that neighbouring games and campaigns get different seeds.
+     */
+    @Test
+    @Timeout(100)
+    void testGameSeedsDiffer() {
+        long seed = DiceSource.gameSeed(99L, 0);
+        assertNotEquals(seed, DiceSource.gameSeed(99L, 1), "Neighbouring games should differ");
+        assertNotEquals(seed, DiceSource.gameSeed(100L, 0), "Neighbouring campaigns should differ");
+    }
+
+    /**
+     * Tests that antithetic dice mirror every roll.
+     */
+    @Test
+    @Timeout(100)
+    void testAntitheticDice() {
+        DiceSource dice = DiceSource.forGame(5L, 3L);
+        DiceSource mirrored = DiceSource.antithetic(DiceSource.forGame(5L, 3L));
+        for (int i = 0; i < 100; i++) {
+            assertEquals(7, dice.roll() + mirrored.roll(), "Antithetic rolls should add up to 7");
+        }
+    }
+}
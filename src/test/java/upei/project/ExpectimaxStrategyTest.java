@@ -0,0 +1,227 @@
+package upei.project;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import upei.project.strategies.ExpectimaxStrategy;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.awt.Color;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test suite for the ExpectimaxStrategy search.
+ * Verifies that:
+ * - Star1/Star2 pruning returns the same values as a plain expectimax search
+ * - Illegal moves score below every legal move
+ * - Repeated searches are answered from the transposition table
+ * - AI players can be driven by the search in simulated games
+ * - Games with the registered search replay exactly
+ *
+ * @author UPEI Project Team
+ * @version 1.0
+ * @see ExpectimaxStrategy
+ */
+public class ExpectimaxStrategyTest {
+    /** Score of a won game used by the search */
+    private static final double WIN_SCORE = 1000.0;
+
+    /** Search depth used by the tests */
+    private static final int DEPTH = 3;
+
+    /** Player colors in the seating order of the simulation */
+    private static final Color[] COLORS = {Color.RED, Color.BLUE, Color.GREEN, Color.YELLOW};
+
+    private GameBoard board;
+    private List<Player> players;
+
+    /**
+     * Seats four AI players and plays a seeded opening so that
+     * several pieces of every color are on the board.
+     */
+    @BeforeEach
+    void setUp() {
+        board = new GameBoard();
+        players = new ArrayList<>();
+        for (Color color : COLORS) {
+            List<Piece> pieces = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                pieces.add(new Piece(color, board));
+            }
+            players.add(new AIPlayer(color.toString(), color, pieces));
+        }
+        DiceSource dice = DiceSource.seeded(11L);
+        for (int turn = 0; turn < 60; turn++) {
+            int roll = turn % 3 == 0 ? 6 : dice.roll();
+            players.get(turn % players.size()).makeMove(roll, players);
+        }
+    }
+
+    /**
+     * Tests the pruned search against a plain expectimax search for every
+     * legal move of a player and every roll.
+     */
+    @Test
+    @Timeout(5000)
+    void testPruningMatchesPlainExpectimax() {
+        ExpectimaxStrategy strategy = new TestStrategy();
+        Player player = players.get(1);
+        int compared = 0;
+        for (int roll = 1; roll <= 6; roll++) {
+            for (Piece piece : player.getPieces()) {
+                if (piece.checkMove(roll) != GameState.MOVE_OK) {
+                    continue;
+                }
+                double expected = plainMoveValue(piece.getState(), piece.getSlot(), roll);
+                double actual = strategy.evaluateMove(piece, roll, player, players);
+                assertEquals(expected, actual, 1e-9, "Pruning changed the value of slot "
+                    + piece.getSlot() + " rolling " + roll);
+                compared++;
+            }
+        }
+        assertTrue(compared > 0, "The position should have legal moves to compare");
+    }
+
+    /**
+     * Tests that an illegal move scores below every legal move.
+     */
+    @Test
+    @Timeout(1000)
+    void testIllegalMoveScoresLowest() {
+        ExpectimaxStrategy strategy = new ExpectimaxStrategy(2, 100);
+        Player player = players.get(1);
+        for (Piece piece : player.getPieces()) {
+            for (int roll = 1; roll <= 6; roll++) {
+                double value = strategy.evaluateMove(piece, roll, player, players);
+                if (piece.checkMove(roll) == GameState.MOVE_OK) {
+                    assertTrue(value >= -WIN_SCORE, "Legal moves score at least a lost game");
+                } else {
+                    assertTrue(value < -WIN_SCORE, "Illegal moves score below every legal move");
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests that searching a move again is answered from the table.
+     */
+    @Test
+    @Timeout(5000)
+    void testRepeatedSearchHitsTable() {
+        TranspositionTable table = new TranspositionTable(1 << 12);
+        ExpectimaxStrategy strategy = new ExpectimaxStrategy(DEPTH, 60_000, table);
+        Player player = players.get(1);
+        Piece piece = null;
+        int roll = 6;
+        for (Piece candidate : player.getPieces()) {
+            if (candidate.checkMove(roll) == GameState.MOVE_OK) {
+                piece = candidate;
+            }
+        }
+        assertNotNull(piece, "Some piece should be able to move with a 6");
+
+        double first = strategy.evaluateMove(piece, roll, player, players);
+        long searched = strategy.getNodesSearched();
+        long hits = table.getHits();
+        double second = strategy.evaluateMove(piece, roll, player, players);
+        assertEquals(first, second, 1e-9, "The cached search should give the same value");
+        assertTrue(table.getHits() > hits, "The second search should hit the table");
+        assertTrue(strategy.getNodesSearched() - searched < searched,
+            "The second search should visit fewer nodes");
+    }
+
+    /**
+     * Tests that a search driven player completes simulated games.
+     */
+    @Test
+    @Timeout(5000)
+    void testExpectimaxPlaysSimulatedGame() {
+        List<String> strategies = List.of("Aggressive", "Expectimax", "Defensive", "Balanced");
+        SimulationExperiment.GameResult result = SimulationExperiment.playGame(strategies,
+            DiceSource.forGame(3L, 0));
+        assertTrue(result.moves() > 0, "The game should be played");
+    }
+
+    /**
+     * Tests that games with the registered search replay exactly, even on
+     * a fixture whose table was filled by another game first.
+     */
+    @Test
+    @Timeout(5000)
+    void testRegisteredSearchReplays() {
+        List<String> strategies = List.of("Balanced", "Expectimax", "Balanced", "Balanced");
+        GameFixture fixture = new GameFixture();
+        SimulationExperiment.playGame(fixture, strategies, DiceSource.forGame(2L, 1));
+        assertEquals(SimulationExperiment.playGame(strategies, DiceSource.forGame(2L, 0)),
+            SimulationExperiment.playGame(fixture, strategies, DiceSource.forGame(2L, 0)),
+            "The game should not depend on the games played before it");
+    }
+
+    /**
+     * Expectimax without any pruning, mirroring the search's game model.
+     */
+    private double plainMoveValue(GameState root, int slot, int roll) {
+        GameState child = new GameState(root);
+        child.move(slot, roll);
+        if (child.hasWon(GameState.colorOf(slot))) {
+            return WIN_SCORE;
+        }
+        return plainChance(child, DEPTH - 1, 2);
+    }
+
+    private double plainChance(GameState state, int depth, int seat) {
+        if (depth == 0) {
+            return TestStrategy.score(state);
+        }
+        int color = players.get(seat).getPlayerColor().index();
+        int next = (seat + 1) % players.size();
+        double sum = 0;
+        for (int roll = 1; roll <= 6; roll++) {
+            int legal = state.legalMoveMask(color, roll);
+            if (legal == 0) {
+                sum += plainChance(state, depth - 1, next);
+                continue;
+            }
+            boolean maximizing = seat == 1;
+            double best = maximizing ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+            for (int i = 0; i < GameState.PIECES_PER_COLOR; i++) {
+                if ((legal & (1 << i)) == 0) {
+                    continue;
+                }
+                GameState child = new GameState(state);
+                child.move(color * GameState.PIECES_PER_COLOR + i, roll);
+                double value = child.hasWon(color) ? (maximizing ? WIN_SCORE : -WIN_SCORE)
+                    : plainChance(child, depth - 1, next);
+                best = maximizing ? Math.max(best, value) : Math.min(best, value);
+            }
+            sum += best;
+        }
+        return sum / 6;
+    }
+
+    /**
+     * Search with a simple evaluation the plain search can reproduce and
+     * a budget large enough to always reach full depth. Without a table,
+     * so deeper cached values cannot stand in for the requested depth.
+     */
+    private static class TestStrategy extends ExpectimaxStrategy {
+        TestStrategy() {
+            super(DEPTH, 60_000, null);
+        }
+
+        @Override
+        protected double evaluate(GameState state) {
+            return score(state);
+        }
+
+        static double score(GameState state) {
+            double score = 0;
+            for (int slot = 0; slot < GameState.MAX_PIECES; slot++) {
+                int weight = GameState.colorOf(slot) == 0 ? 3 : -1;
+                score += weight * state.progressOf(slot) * (1 + slot % 4) / 10.0;
+            }
+            return score;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package upei.project;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+/**
+ * Test suite for the GameFixture class.
+ * Verifies that:
+ * - A reused fixture plays the same games as new boards
+ * - Starting a new game returns every piece to base and clears the nodes
+ * - Players are kept for the same strategies and rebuilt for others
+ *
+ * @author UPEI Project Team
+ * @version 1.0
+ * @see GameFixture
+ */
+public class GameFixtureTest {
+    /** Configurations alternated between games */
+    private static final List<List<String>> CONFIGURATIONS = List.of(
+        List.of("Aggressive", "Defensive", "Balanced", "Balanced"),
+        List.of("Defensive", "Defensive", "Aggressive", "Aggressive")
+    );
+
+    /**
+     * Tests that games on a reused fixture match games on new boards.
+     */
+    @Test
+    @Timeout(5000)
+    void testReusedFixturePlaysSameGames() {
+        GameFixture fixture = new GameFixture();
+        for (int game = 0; game < 12; game++) {
+            List<String> strategies = CONFIGURATIONS.get(game / 3 % CONFIGURATIONS.size());
+            SimulationExperiment.GameResult fresh =
+                SimulationExperiment.playGame(strategies, DiceSource.forGame(7L, game));
+            SimulationExperiment.GameResult reused =
+                SimulationExperiment.playGame(fixture, strategies, DiceSource.forGame(7L, game));
+            assertEquals(fresh, reused, "Game " + game + " should not depend on the fixture");
+        }
+    }
+
+    /**
+     * Tests that a new game starts from an empty board with fresh counts.
+     */
+    @Test
+    @Timeout(2000)
+    void testNewGameResetsBoard() {
+        GameFixture fixture = new GameFixture();
+        List<String> strategies = CONFIGURATIONS.getFirst();
+        List<Player> players = fixture.newGame(strategies);
+        SimulationExperiment.playGame(fixture, strategies, DiceSource.seeded(3L));
+        assertTrue(((AIPlayer) players.get(0)).getMovesCount() > 0, "The game should have been played");
+
+        assertSame(players, fixture.newGame(strategies), "Players should be kept for the same strategies");
+        GameBoard board = fixture.getBoard();
+        assertEquals(board.getState().getPieceMask(), board.getState().getBaseMask(),
+            "Every piece should be back in base");
+        assertEquals(0, board.getState().getTurn(), "The first seat should have the turn");
+        for (Node node : board.getNodes()) {
+            assertTrue(node.isEmpty(), "Node " + node.getPosition() + " should be empty");
+        }
+        for (Player player : players) {
+            assertEquals(0, ((AIPlayer) player).getMovesCount(), "Move counts should start from zero");
+            assertEquals(0, ((AIPlayer) player).getCapturesMade(), "Capture counts should start from zero");
+        }
+
+        Piece firstPiece = players.get(0).getPieces().get(0);
+        List<Player> rebuilt = fixture.newGame(CONFIGURATIONS.get(1));
+        assertEquals("Defensive", ((AIPlayer) rebuilt.get(0)).getStrategyName(),
+            "Players should be rebuilt for other strategies");
+        assertSame(firstPiece, rebuilt.get(0).getPieces().get(0),
+            "Rebuilt players should keep the pieces");
+    }
+}
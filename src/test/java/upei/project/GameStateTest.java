@@ -0,0 +1,515 @@
+package upei.project;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for the headless GameState engine.
+ * Tests the primitive game state including:
+ * - Slot assignment per color
+ * - Leaving base and moving along the track
+ * - Home stretch entry and reaching home
+ * - Captures and safe spots
+ * - Win detection and turn order
+ * - Incremental Zobrist keys
+ * - Making and taking back moves
+ * - The incremental threat map
+ * - Bitboards of occupied, landing, capture and attacking squares
+ *
+ * Each test method includes a timeout to ensure performance.
+ *
+ * @author UPEI Project Team
+ * @version 1.0
+ * @see GameState
+ */
+public class GameStateTest {
+    /** Color index of blue pieces */
+    private static final int BLUE = 0;
+
+    /** Color index of red pieces */
+    private static final int RED = 3;
+
+    /** Game state under test */
+    private GameState state;
+
+    /**
+     * Sets up a fresh game state before each test.
+     */
+    @BeforeEach
+    void setUp() {
+        state = new GameState();
+    }
+
+    /**
+     * Tests that pieces get consecutive slots within their color's group
+     * and that a fifth piece of one color is rejected.
+     */
+    @Test
+    @Timeout(100)
+    void testSlotAssignment() {
+        assertEquals(0, state.addPiece(BLUE), "First blue piece should take slot 0");
+        assertEquals(1, state.addPiece(BLUE), "Second blue piece should take slot 1");
+        assertEquals(12, state.addPiece(RED), "First red piece should take slot 12");
+        assertEquals(RED, GameState.colorOf(12), "Slot 12 should belong to red");
+        state.addPiece(BLUE);
+        state.addPiece(BLUE);
+        assertThrows(IllegalStateException.class, () -> state.addPiece(BLUE),
+            "A fifth blue piece should be rejected");
+    }
+
+    /**
+     * Tests that pieces only leave base with a 6 and land on their start square.
+     */
+    @Test
+    @Timeout(100)
+    void testLeavingBase() {
+        int blue = state.addPiece(BLUE);
+        int red = state.addPiece(RED);
+        assertFalse(state.canMove(blue, 3), "Piece in base should need a 6");
+        assertEquals(0, state.move(blue, 6), "Leaving base should not capture");
+        assertEquals(0, state.getSquare(blue), "Blue should start on square 0");
+        state.move(red, 6);
+        assertEquals(39, state.getSquare(red), "Red should start on square 39");
+    }
+
+    /**
+     * Tests home stretch entry, exact arrival and overshooting inside the stretch.
+     */
+    @Test
+    @Timeout(100)
+    void testReachingHome() {
+        int blue = state.addPiece(BLUE);
+        state.move(blue, 6);
+        for (int i = 0; i < 8; i++) {
+            state.move(blue, 6);
+        }
+        assertEquals(48, state.getSquare(blue), "Blue should be two squares before its home entry");
+        state.move(blue, 3);
+        assertEquals(GameState.MAIN_TRACK_SIZE, state.getSquare(blue), "Blue should turn into its home stretch");
+        assertEquals(GameState.HOME, state.target(blue, 6), "Overshooting inside the home stretch reaches home");
+        state.move(blue, 4);
+        assertTrue(state.isHome(blue), "Landing on the last home square reaches home");
+        assertFalse(state.canMove(blue, 6), "Pieces that reached home cannot move again");
+    }
+
+    /**
+     * Tests that pieces of colors other than blue cannot wrap past square 51.
+     */
+    @Test
+    @Timeout(100)
+    void testNoWrapAround() {
+        int red = state.addPiece(RED);
+        state.move(red, 6);
+        state.move(red, 6);
+        state.move(red, 6);
+        assertEquals(51, state.getSquare(red), "Red should be on the last main track square");
+        assertEquals(GameState.NO_MOVE, state.target(red, 1), "Red cannot wrap around to square 0");
+    }
+
+    /**
+     * Tests that landing on an opponent captures it, except on safe squares.
+     */
+    @Test
+    @Timeout(100)
+    void testCapture() {
+        int blue = state.addPiece(BLUE);
+        int red = state.addPiece(RED);
+        state.move(red, 6);
+        state.move(red, 6);
+        state.move(red, 1);
+        assertEquals(46, state.getSquare(red), "Red should be on square 46");
+
+        state.move(blue, 6);
+        for (int i = 0; i < 7; i++) {
+            state.move(blue, 6);
+        }
+        state.move(blue, 4);
+        assertEquals(46, state.getSquare(blue), "Blue should land on square 46");
+        assertTrue(state.isInBase(red), "Captured red piece should be back in base");
+
+        state.move(red, 6);
+        int secondBlue = state.addPiece(BLUE);
+        state.move(secondBlue, 6);
+        for (int i = 0; i < 6; i++) {
+            state.move(secondBlue, 6);
+        }
+        state.move(secondBlue, 3);
+        assertEquals(39, state.getSquare(secondBlue), "Blue should share red's start square");
+        assertEquals(39, state.getSquare(red), "Red should not be captured on a safe square");
+    }
+
+    /**
+     * Tests that the occupancy index follows moves, captures and returns to base.
+     */
+    @Test
+    @Timeout(100)
+    void testOccupancyIndex() {
+        int blue = state.addPiece(BLUE);
+        int red = state.addPiece(RED);
+        state.move(red, 6);
+        state.move(red, 6);
+        state.move(red, 1);
+        assertEquals(1 << red, state.occupantMask(46), "Red should occupy square 46");
+        assertEquals(1, state.countAt(RED, 46), "One red piece should be on square 46");
+        assertEquals(1 << red, state.captureMask(BLUE, 46), "Blue would capture red on square 46");
+        assertEquals(0, state.captureMask(RED, 46), "Pieces never capture their own color");
+
+        state.move(blue, 6);
+        assertEquals(0, state.captureMask(RED, 0), "Nothing is captured on a safe square");
+        for (int i = 0; i < 7; i++) {
+            state.move(blue, 6);
+        }
+        assertEquals(1 << red, state.move(blue, 4), "Blue's move should report the capture");
+        assertEquals(1 << blue, state.occupantMask(46), "Only blue should remain on square 46");
+        assertEquals(0, state.occupantMask(0), "Blue should have left its start square");
+
+        state.sendToBase(blue);
+        assertEquals(0, state.occupantMask(46), "Pieces in base occupy no square");
+    }
+
+    /**
+     * Tests the move result codes and the per-color legal move mask.
+     */
+    @Test
+    @Timeout(100)
+    void testCheckMoveAndLegalMask() {
+        int first = state.addPiece(BLUE);
+        int second = state.addPiece(BLUE);
+        assertEquals(GameState.MOVE_NEEDS_SIX, state.checkMove(first, 3), "Base pieces need a 6");
+        assertEquals(GameState.MOVE_INVALID_STEPS, state.checkMove(first, 0), "Zero steps is invalid");
+        assertEquals(0, state.legalMoveMask(BLUE, 3), "No blue piece can move with a 3");
+        assertEquals(0b11, state.legalMoveMask(BLUE, 6), "Both blue pieces can leave base with a 6");
+
+        state.move(second, 6);
+        assertEquals(GameState.MOVE_OK, state.checkMove(second, 3), "Pieces on the track can move");
+        assertEquals(0b10, state.legalMoveMask(BLUE, 3), "Only the second piece can move with a 3");
+        assertEquals(0, state.legalMoveMask(RED, 6), "Colors without pieces have no legal moves");
+
+        for (int i = 0; i < 10; i++) {
+            state.move(second, 6);
+        }
+        assertTrue(state.isHome(second), "Second piece should be home");
+        assertEquals(GameState.MOVE_ALREADY_HOME, state.checkMove(second, 1), "Home pieces cannot move");
+    }
+
+    /**
+     * Tests win detection and turn rotation.
+     */
+    @Test
+    @Timeout(100)
+    void testWinAndTurns() {
+        assertFalse(state.hasWon(BLUE), "A color without pieces has not won");
+        int blue = state.addPiece(BLUE);
+        state.move(blue, 6);
+        for (int i = 0; i < 8; i++) {
+            state.move(blue, 6);
+        }
+        state.move(blue, 6);
+        assertFalse(state.hasWon(BLUE), "Blue has not won before reaching home");
+        state.move(blue, 6);
+        assertTrue(state.hasWon(BLUE), "Blue wins once all its pieces are home");
+
+        assertEquals(0, state.getTurn(), "First seat starts");
+        state.advanceTurn(4);
+        state.advanceTurn(4);
+        state.advanceTurn(4);
+        assertEquals(0, state.advanceTurn(4), "Turn order should wrap after the last seat");
+    }
+
+    /**
+     * Tests that the incremental Zobrist key matches one computed from
+     * scratch and identifies positions regardless of move order.
+     */
+    @Test
+    @Timeout(500)
+    void testZobristKey() {
+        for (int color = 0; color < GameState.NUM_COLORS; color++) {
+            for (int i = 0; i < GameState.PIECES_PER_COLOR; i++) {
+                state.addPiece(color);
+            }
+        }
+        long seatKey = new GameState().hashFor(0);
+        DiceSource dice = DiceSource.seeded(5L);
+        for (int turn = 0; turn < 400; turn++) {
+            int color = turn % GameState.NUM_COLORS;
+            int roll = turn % 5 == 0 ? 6 : dice.roll();
+            int legal = state.legalMoveMask(color, roll);
+            if (legal != 0) {
+                state.move(color * GameState.PIECES_PER_COLOR + Integer.numberOfTrailingZeros(legal), roll);
+            }
+            assertEquals(state.computePieceKey() ^ seatKey, state.hashFor(0),
+                "The incremental key should match the key computed from scratch");
+            assertEquals(state.getHash(), new GameState(state).getHash(), "Copies should keep the key");
+        }
+
+        GameState a = new GameState();
+        GameState b = new GameState();
+        int a1 = a.addPiece(BLUE);
+        int a2 = a.addPiece(BLUE);
+        b.addPiece(BLUE);
+        int b2 = b.addPiece(BLUE);
+        a.move(a1, 6);
+        a.move(a1, 4);
+        b.move(b2, 6);
+        b.move(b2, 4);
+        assertEquals(a.getHash(), b.getHash(), "Pieces of one color are interchangeable");
+        a.move(a2, 6);
+        assertNotEquals(a.getHash(), b.getHash(), "Different positions should have different keys");
+        a.sendToBase(a2);
+        assertEquals(a.getHash(), b.getHash(), "Returning to base restores the key");
+        a.advanceTurn(4);
+        assertNotEquals(a.getHash(), b.getHash(), "The seat to move is part of the key");
+        assertEquals(a.getHash(), b.hashFor(1), "The key can be read for any seat");
+    }
+
+    /**
+     * Tests that taking back made moves restores every part of the state.
+     */
+    @Test
+    @Timeout(500)
+    void testMakeAndUnmakeMove() {
+        for (int color = 0; color < GameState.NUM_COLORS; color++) {
+            for (int i = 0; i < GameState.PIECES_PER_COLOR; i++) {
+                state.addPiece(color);
+            }
+        }
+        DiceSource dice = DiceSource.seeded(9L);
+        GameState[] history = new GameState[300];
+        int made = 0;
+        for (int turn = 0; turn < 1200 && made < history.length; turn++) {
+            int color = turn % GameState.NUM_COLORS;
+            int roll = turn % 4 == 0 ? 6 : dice.roll();
+            int legal = state.legalMoveMask(color, roll);
+            if (legal == 0) {
+                assertEquals(-1, state.makeMove(color * GameState.PIECES_PER_COLOR, roll),
+                    "Illegal moves should be rejected");
+                continue;
+            }
+            history[made++] = new GameState(state);
+            state.makeMove(color * GameState.PIECES_PER_COLOR + Integer.numberOfTrailingZeros(legal), roll);
+        }
+        assertEquals(made, state.getUndoDepth(), "Every legal move should be recorded");
+
+        while (made > 0) {
+            state.unmakeMove();
+            GameState expected = history[--made];
+            assertEquals(expected.getHash(), state.getHash(), "Taking back should restore the key");
+            for (int slot = 0; slot < GameState.MAX_PIECES; slot++) {
+                assertEquals(expected.getSquare(slot), state.getSquare(slot), "Slot " + slot + " square");
+                assertEquals(expected.isHome(slot), state.isHome(slot), "Slot " + slot + " home flag");
+            }
+            for (int square = 0; square < GameState.NUM_SQUARES; square++) {
+                assertEquals(expected.occupantMask(square), state.occupantMask(square), "Square " + square);
+            }
+        }
+        assertThrows(IllegalStateException.class, state::unmakeMove, "Nothing is left to take back");
+    }
+
+    /**
+     * Tests that the threat map matches threats found by walking every
+     * piece's path, through moves, captures and taken back moves.
+     */
+    @Test
+    @Timeout(500)
+    void testThreatMap() {
+        for (int color = 0; color < GameState.NUM_COLORS; color++) {
+            for (int i = 0; i < GameState.PIECES_PER_COLOR; i++) {
+                state.addPiece(color);
+            }
+        }
+        assertEquals(4, state.exitThreats(BLUE, GameState.START_SQUARES[RED]), "Red waits in base");
+        assertEquals(0, state.exitThreats(RED, GameState.START_SQUARES[RED]), "Own pieces are no threat");
+
+        DiceSource dice = DiceSource.seeded(13L);
+        for (int turn = 0; turn < 600; turn++) {
+            int color = turn % GameState.NUM_COLORS;
+            int roll = turn % 4 == 0 ? 6 : dice.roll();
+            int legal = state.legalMoveMask(color, roll);
+            if (legal != 0) {
+                state.makeMove(color * GameState.PIECES_PER_COLOR + Integer.numberOfTrailingZeros(legal), roll);
+            }
+            if (turn % 7 == 0 && state.getUndoDepth() > 0) {
+                state.unmakeMove();
+            }
+            assertThreatsMatchWalk();
+        }
+    }
+
+    /**
+     * Recomputes the threat map by walking each piece up to 6 steps.
+     */
+    private void assertThreatsMatchWalk() {
+        int[][][] counts = new int[GameState.NUM_COLORS][GameState.MAIN_TRACK_SIZE][7];
+        int[] inBase = new int[GameState.NUM_COLORS];
+        for (int slot = 0; slot < GameState.MAX_PIECES; slot++) {
+            int color = GameState.colorOf(slot);
+            int square = state.getSquare(slot);
+            if (square == GameState.BASE) {
+                inBase[color]++;
+            } else if (square < GameState.MAIN_TRACK_SIZE) {
+                for (int distance = 1; distance <= 6; distance++) {
+                    int reached = state.walk(slot, distance);
+                    if (reached < 0 || reached >= GameState.MAIN_TRACK_SIZE) {
+                        break;
+                    }
+                    counts[color][reached][distance]++;
+                }
+            }
+        }
+        for (int color = 0; color < GameState.NUM_COLORS; color++) {
+            for (int square = 0; square < GameState.MAIN_TRACK_SIZE; square++) {
+                int weight = 0;
+                for (int distance = 1; distance <= 6; distance++) {
+                    assertEquals(counts[color][square][distance], state.threatCount(color, square, distance),
+                        "Color " + color + " square " + square + " distance " + distance);
+                    weight += counts[color][square][distance] * (7 - distance);
+                }
+                assertEquals(weight, state.threatWeight(color, square), "Weight of color " + color);
+            }
+            int opponents = 0;
+            for (int other = 0; other < GameState.NUM_COLORS; other++) {
+                if (other != color && GameState.START_SQUARES[other] == GameState.START_SQUARES[(color + 1) % 4]) {
+                    opponents += inBase[other];
+                }
+            }
+            assertEquals(opponents, state.exitThreats(color, GameState.START_SQUARES[(color + 1) % 4]),
+                "Pieces waiting to enter next to color " + color);
+            for (int square = 0; square < GameState.MAIN_TRACK_SIZE; square++) {
+                int threat = state.exitThreats(color, square);
+                for (int other = 0; other < GameState.NUM_COLORS; other++) {
+                    if (other != color) {
+                        threat += state.threatWeight(other, square);
+                    }
+                }
+                assertEquals(threat, state.threatTo(color, square), "Threat to color " + color + " on " + square);
+            }
+        }
+        assertEquals(0, state.threatTo(BLUE, GameState.HOME), "Home cannot be threatened");
+    }
+
+    /**
+     * Tests that the stored progress indices follow the pieces' squares and
+     * that moves looked up by progress match moves looked up by square.
+     */
+    @Test
+    @Timeout(500)
+    void testProgressIndex() {
+        for (int color = 0; color < GameState.NUM_COLORS; color++) {
+            for (int i = 0; i < GameState.PIECES_PER_COLOR; i++) {
+                state.addPiece(color);
+            }
+        }
+        DiceSource dice = DiceSource.seeded(17L);
+        for (int turn = 0; turn < 800; turn++) {
+            int color = turn % GameState.NUM_COLORS;
+            int roll = turn % 4 == 0 ? 6 : dice.roll();
+            int legal = state.legalMoveMask(color, roll);
+            if (legal != 0) {
+                state.makeMove(color * GameState.PIECES_PER_COLOR + Integer.numberOfTrailingZeros(legal), roll);
+            }
+            if (turn % 11 == 0 && state.getUndoDepth() > 0) {
+                state.unmakeMove();
+            }
+            GameState copy = new GameState(state);
+            for (int slot = 0; slot < GameState.MAX_PIECES; slot++) {
+                int slotColor = GameState.colorOf(slot);
+                int square = state.getSquare(slot);
+                assertEquals(MoveTable.progressOf(slotColor, square), state.progressOf(slot),
+                    "Progress of slot " + slot);
+                assertEquals(state.progressOf(slot), copy.progressOf(slot), "Copied progress of slot " + slot);
+                for (int steps = 0; steps <= 7; steps++) {
+                    assertEquals(MoveTable.walk(slotColor, square, steps), state.walk(slot, steps),
+                        "Walk of slot " + slot + " by " + steps);
+                    assertEquals(MoveTable.target(slotColor, square, steps), state.target(slot, steps),
+                        "Target of slot " + slot + " by " + steps);
+                }
+            }
+        }
+        state.reset();
+        for (int slot = 0; slot < GameState.MAX_PIECES; slot++) {
+            assertEquals(MoveTable.BASE_PROGRESS, state.progressOf(slot), "Reset returns every slot to base");
+        }
+    }
+
+    /**
+     * Tests the bitboards against the square by square rules while pieces
+     * move, capture and are taken back.
+     */
+    @Test
+    @Timeout(1000)
+    void testBitboards() {
+        for (int color = 0; color < GameState.NUM_COLORS; color++) {
+            for (int i = 0; i < GameState.PIECES_PER_COLOR; i++) {
+                state.addPiece(color);
+            }
+        }
+        assertEquals(0, GameState.SAFE_BOARD & ~GameState.MAIN_BOARD & ~GameState.STRETCH_BOARD,
+            "Safe squares lie on the track or in a home stretch");
+        assertTrue((GameState.SAFE_BOARD & GameState.START_BOARD) == GameState.START_BOARD,
+            "Start squares are safe");
+        assertEquals(4, Long.bitCount(GameState.HOME_ENTRY_BOARD), "Every color has a home entry");
+        assertEquals(1L << GameState.START_SQUARES[RED], state.landingBoard(RED, 6), "A 6 brings red out");
+
+        DiceSource dice = DiceSource.seeded(21L);
+        for (int turn = 0; turn < 800; turn++) {
+            int color = turn % GameState.NUM_COLORS;
+            int roll = turn % 4 == 0 ? 6 : dice.roll();
+            int legal = state.legalMoveMask(color, roll);
+            if (legal != 0) {
+                state.makeMove(color * GameState.PIECES_PER_COLOR + Integer.numberOfTrailingZeros(legal), roll);
+            }
+            if (turn % 9 == 0 && state.getUndoDepth() > 0) {
+                state.unmakeMove();
+            }
+            assertBitboardsMatchSquares();
+        }
+    }
+
+    /**
+     * Recomputes every bitboard from the pieces' squares and move targets.
+     */
+    private void assertBitboardsMatchSquares() {
+        for (int color = 0; color < GameState.NUM_COLORS; color++) {
+            long board = 0;
+            long[] landing = new long[7];
+            long[] captures = new long[7];
+            for (int i = 0; i < GameState.PIECES_PER_COLOR; i++) {
+                int slot = color * GameState.PIECES_PER_COLOR + i;
+                board |= GameState.squareBit(color, state.getSquare(slot));
+                for (int roll = 1; roll <= 6; roll++) {
+                    int target = state.target(slot, roll);
+                    if (target != GameState.NO_MOVE && target != GameState.HOME) {
+                        landing[roll] |= GameState.squareBit(color, target);
+                        if (state.captureMask(color, target) != 0) {
+                            captures[roll] |= GameState.squareBit(color, target);
+                        }
+                    }
+                }
+            }
+            assertEquals(board, state.getBoard(color), "Board of color " + color);
+            for (int roll = 1; roll <= 6; roll++) {
+                String move = "color " + color + " roll " + roll;
+                assertEquals(landing[roll], state.landingBoard(color, roll), "Landing squares of " + move);
+                assertEquals(captures[roll], state.captureBoard(color, roll), "Captures of " + move);
+            }
+
+            for (int square = 0; square < GameState.MAIN_TRACK_SIZE; square++) {
+                long attackers = 0;
+                for (int slot = 0; slot < GameState.MAX_PIECES; slot++) {
+                    int from = state.getSquare(slot);
+                    if (GameState.colorOf(slot) == color || from < 0 || from >= GameState.MAIN_TRACK_SIZE) {
+                        continue;
+                    }
+                    for (int roll = 1; roll <= 6; roll++) {
+                        if (state.walk(slot, roll) == square) {
+                            attackers |= 1L << from;
+                        }
+                    }
+                }
+                assertEquals(attackers, state.attackBoard(color, square), "Attackers of square " + square);
+            }
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package upei.project;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import upei.project.strategies.MonteCarloStrategy;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.awt.Color;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test suite for the MonteCarloStrategy search.
+ * Verifies that:
+ * - Moves are scored by their share of the root visits
+ * - Searches with one thread and a fixed seed are reproducible
+ * - Parallel searches play exactly the requested number of rollouts
+ * - Games with the registered search replay exactly
+ *
+ * @author UPEI Project Team
+ * @version 1.0
+ * @see MonteCarloStrategy
+ */
+public class MonteCarloStrategyTest {
+    /** Player colors in the seating order of the simulation */
+    private static final Color[] COLORS = {Color.RED, Color.BLUE, Color.GREEN, Color.YELLOW};
+
+    /** Rollouts per search; small enough for the tests to stay fast */
+    private static final long ROLLOUTS = 400;
+
+    private List<Player> players;
+
+    /**
+     * Seats four AI players and plays a seeded opening so that
+     * several pieces of every color are on the board.
+     */
+    @BeforeEach
+    void setUp() {
+        GameBoard board = new GameBoard();
+        players = new ArrayList<>();
+        for (Color color : COLORS) {
+            List<Piece> pieces = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                pieces.add(new Piece(color, board));
+            }
+            players.add(new AIPlayer(color.toString(), color, pieces));
+        }
+        DiceSource dice = DiceSource.seeded(11L);
+        for (int turn = 0; turn < 60; turn++) {
+            int roll = turn % 3 == 0 ? 6 : dice.roll();
+            players.get(turn % players.size()).makeMove(roll, players);
+        }
+    }
+
+    /**
+     * Tests that legal moves share the root visits and illegal moves score -1.
+     */
+    @Test
+    @Timeout(5000)
+    void testScoresAreVisitShares() {
+        MonteCarloStrategy strategy = new MonteCarloStrategy(1, 10_000, ROLLOUTS, 7L);
+        Player player = players.get(1);
+        for (int roll = 1; roll <= 6; roll++) {
+            double total = 0;
+            int legal = player.legalMoveMask(roll);
+            for (int i = 0; i < player.getPieces().size(); i++) {
+                double score = strategy.evaluateMove(player.getPieces().get(i), roll, player, players);
+                if ((legal & (1 << i)) != 0) {
+                    assertTrue(score >= 0 && score <= 1, "Legal moves score a share of the visits");
+                    total += score;
+                } else {
+                    assertEquals(-1, score, "Illegal moves should score -1");
+                }
+            }
+            if (legal != 0) {
+                assertEquals(1.0, total, 1e-9, "The shares of a roll should add up to 1");
+            }
+        }
+    }
+
+    /**
+     * Tests that single threaded searches with the same seed score moves alike.
+     */
+    @Test
+    @Timeout(5000)
+    void testSeededSearchIsReproducible() {
+        Player player = players.get(1);
+        double[] first = scores(new MonteCarloStrategy(1, 10_000, ROLLOUTS, 42L), player);
+        double[] second = scores(new MonteCarloStrategy(1, 10_000, ROLLOUTS, 42L), player);
+        assertArrayEquals(first, second, "The same seed should grow the same tree");
+    }
+
+    /**
+     * Tests that threads sharing a tree play the rollout limit exactly.
+     */
+    @Test
+    @Timeout(5000)
+    void testParallelSearchCountsEveryRollout() {
+        MonteCarloStrategy strategy = new MonteCarloStrategy(4, 10_000, ROLLOUTS, 3L);
+        Player player = players.get(1);
+        int searches = 0;
+        for (int roll = 1; roll <= 6; roll++) {
+            int legal = player.legalMoveMask(roll);
+            if (Integer.bitCount(legal) < 2) {
+                continue;
+            }
+            double total = 0;
+            for (int i = 0; i < player.getPieces().size(); i++) {
+                if ((legal & (1 << i)) != 0) {
+                    total += strategy.evaluateMove(player.getPieces().get(i), roll, player, players);
+                }
+            }
+            assertEquals(1.0, total, 1e-9, "Every rollout should visit one root move");
+            searches++;
+        }
+        assertTrue(searches > 0, "The position should offer a choice of moves");
+        assertEquals(searches * ROLLOUTS, strategy.getRollouts(), "Each search should play the rollout limit");
+    }
+
+    /**
+     * Tests that an AI player driven by the search makes its moves.
+     */
+    @Test
+    @Timeout(5000)
+    void testPlayerMovesWithSearch() {
+        Player blue = players.get(1);
+        AIPlayer player = new AIPlayer("MCTS", Color.BLUE, blue.getPieces(),
+            new MonteCarloStrategy(2, 10_000, ROLLOUTS, 5L));
+        player.setAllPlayers(players);
+        int roll = 1;
+        while (roll < 6 && player.legalMoveMask(roll) == 0) {
+            roll++;
+        }
+        int before = positionSum(player);
+        player.makeMove(roll, players);
+        assertNotEquals(before, positionSum(player), "The player should move a piece");
+    }
+
+    /**
+     * Tests that games with the registered search replay exactly, even on
+     * a fixture that played another game first.
+     */
+    @Test
+    @Timeout(10000)
+    void testRegisteredSearchReplays() {
+        List<String> strategies = List.of("Balanced", "MCTS", "Balanced", "Balanced");
+        GameFixture fixture = new GameFixture();
+        SimulationExperiment.playGame(fixture, strategies, DiceSource.forGame(1L, 1));
+        assertEquals(SimulationExperiment.playGame(strategies, DiceSource.forGame(1L, 0)),
+            SimulationExperiment.playGame(fixture, strategies, DiceSource.forGame(1L, 0)),
+            "The game should not depend on the games played before it");
+    }
+
+    private double[] scores(MonteCarloStrategy strategy, Player player) {
+        double[] scores = new double[6 * player.getPieces().size()];
+        for (int roll = 1; roll <= 6; roll++) {
+            for (int i = 0; i < player.getPieces().size(); i++) {
+                scores[(roll - 1) * player.getPieces().size() + i] =
+                    strategy.evaluateMove(player.getPieces().get(i), roll, player, players);
+            }
+        }
+        return scores;
+    }
+
+    private int positionSum(Player player) {
+        int sum = 0;
+        for (Piece piece : player.getPieces()) {
+            sum += piece.getState().progressOf(piece.getSlot());
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,94 @@
+package upei.project;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import upei.project.strategies.AggressiveStrategy;
+import upei.project.strategies.BalancedStrategy;
+import upei.project.strategies.DefensiveStrategy;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.awt.Color;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test suite for batched move evaluation.
+ * Verifies that:
+ * - The ported strategies score every candidate exactly like evaluateMove
+ * - The default batched evaluation only writes the candidates' scores
+ * - Players pick the first of the best scoring moves
+ *
+ * @author UPEI Project Team
+ * @version 1.0
+ * @see MoveStrategy
+ */
+public class MoveStrategyTest {
+    /** Player colors in the seating order of the simulation */
+    private static final Color[] COLORS = {Color.RED, Color.BLUE, Color.GREEN, Color.YELLOW};
+
+    /**
+     * Tests the batched scores of each ported strategy against single
+     * move evaluation at every turn of a seeded game.
+     */
+    @Test
+    @Timeout(2000)
+    void testBatchedScoresMatchSingleMoves() {
+        MoveStrategy[] strategies = {new AggressiveStrategy(), new DefensiveStrategy(), new BalancedStrategy()};
+        GameBoard board = new GameBoard();
+        List<Player> players = new ArrayList<>();
+        for (Color color : COLORS) {
+            List<Piece> pieces = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                pieces.add(new Piece(color, board));
+            }
+            players.add(new AIPlayer(color.toString(), color, pieces));
+        }
+
+        DiceSource dice = DiceSource.seeded(5L);
+        int compared = 0;
+        for (int turn = 0; turn < 400; turn++) {
+            Player player = players.get(turn % players.size());
+            List<Piece> pieces = player.getPieces();
+            for (int roll = 1; roll <= 6; roll++) {
+                int candidates = player.legalMoveMask(roll) | 1;
+                for (MoveStrategy strategy : strategies) {
+                    double[] scores = new double[pieces.size()];
+                    strategy.evaluateMoves(player, roll, candidates, players, scores);
+                    for (int i = 0; i < pieces.size(); i++) {
+                        double expected = (candidates & (1 << i)) != 0
+                            ? strategy.evaluateMove(pieces.get(i), roll, player, players) : 0.0;
+                        assertEquals(expected, scores[i], 0.0,
+                            strategy.getClass().getSimpleName() + " piece " + i + " roll " + roll);
+                        compared++;
+                    }
+                }
+            }
+            player.makeMove(turn % 3 == 0 ? 6 : dice.roll(), players);
+        }
+        assertTrue(compared > 0, "Some moves should be compared");
+    }
+
+    /**
+     * Tests the default batched evaluation and the choice between tied moves.
+     */
+    @Test
+    @Timeout(100)
+    void testDefaultEvaluationAndTies() {
+        GameBoard board = new GameBoard();
+        List<Piece> pieces = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            pieces.add(new Piece(Color.BLUE, board));
+        }
+        AIPlayer player = new AIPlayer("Blue", Color.BLUE, pieces);
+        List<Player> players = List.of(player);
+
+        MoveStrategy constant = (piece, steps, current, all) -> pieces.indexOf(piece) == 0 ? 1.0 : 2.0;
+        double[] scores = {-5.0, -5.0, -5.0, -5.0};
+        constant.evaluateMoves(player, 6, 0b0110, players, scores);
+        assertArrayEquals(new double[]{-5.0, 2.0, 2.0, -5.0}, scores, "Only candidates should be scored");
+
+        player.setMoveStrategy(constant);
+        assertEquals(1, player.bestMoveIndex(6, players), "Ties should go to the first piece");
+        assertEquals(-1, player.bestMoveIndex(3, players), "No piece can leave base with a 3");
+    }
+}
@@ -0,0 +1,98 @@
+package upei.project;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.awt.Color;
+
+/**
+ * Test suite for the precomputed MoveTable transitions.
+ * Verifies the tables against a step by step walk of the node graph
+ * built by {@link GameBoard}, including:
+ * - Progress index translation
+ * - Leaving base
+ * - Home stretch entry
+ * - The no wrap-around rule
+ * - Overshoot sentinels
+ *
+ * @author UPEI Project Team
+ * @version 1.0
+ * @see MoveTable
+ */
+public class MoveTableTest {
+    /** Player colors in engine index order */
+    private static final Color[] COLORS = {Color.BLUE, Color.GREEN, Color.YELLOW, Color.RED};
+
+    /**
+     * Tests that progress indices and squares translate back and forth.
+     */
+    @Test
+    @Timeout(100)
+    void testProgressTranslation() {
+        for (int color = 0; color < GameState.NUM_COLORS; color++) {
+            for (int progress = 0; progress < MoveTable.PROGRESS_SIZE; progress++) {
+                int square = MoveTable.squareAt(color, progress);
+                assertEquals(progress, MoveTable.progressOf(color, square),
+                    "Progress " + progress + " should round trip for color " + color);
+            }
+            assertEquals(1, MoveTable.progressOf(color, GameState.START_SQUARES[color]),
+                "Start square should be progress 1");
+            assertEquals(51, MoveTable.progressOf(color, GameState.HOME_ENTRIES[color]),
+                "Home entry should be progress 51");
+        }
+    }
+
+    /**
+     * Tests every table entry against a walk along the board's nodes.
+     */
+    @Test
+    @Timeout(1000)
+    void testTablesMatchNodeWalk() {
+        GameBoard board = new GameBoard();
+        for (int color = 0; color < GameState.NUM_COLORS; color++) {
+            for (int progress = 1; progress < MoveTable.HOME_PROGRESS; progress++) {
+                int square = MoveTable.squareAt(color, progress);
+                for (int roll = 1; roll <= MoveTable.MAX_ROLL; roll++) {
+                    Node expected = walkNodes(board.getNode(square), COLORS[color], roll);
+                    int actual = MoveTable.walk(color, square, roll);
+                    assertEquals(expected, board.getNode(actual),
+                        "Color " + color + " from square " + square + " rolling " + roll);
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests leaving base and the home arrival sentinels.
+     */
+    @Test
+    @Timeout(100)
+    void testBaseAndHome() {
+        assertEquals(13, MoveTable.target(1, GameState.BASE, 6), "Green should leave base to square 13");
+        assertEquals(GameState.NO_MOVE, MoveTable.target(1, GameState.BASE, 5), "Leaving base needs a 6");
+        assertEquals(GameState.NO_MOVE, MoveTable.target(0, GameState.HOME, 1), "Home pieces cannot move");
+        assertEquals(GameState.HOME, MoveTable.target(0, 50, 5), "Exact roll into the last home square reaches home");
+        assertEquals(GameState.NO_MOVE, MoveTable.target(0, 50, 6), "Overshooting from the main track is invalid");
+        assertEquals(GameState.HOME, MoveTable.target(0, 53, 6), "Overshooting inside the home stretch reaches home");
+    }
+
+    /**
+     * Walks the node graph the way pieces used to, returning null when the
+     * path runs out or would wrap backwards around the main track.
+     */
+    private Node walkNodes(Node start, Color color, int steps) {
+        Node current = start;
+        for (int i = 0; i < steps; i++) {
+            Node next = current.getNext(color);
+            if (next == null) {
+                return null;
+            }
+            if (current.getPosition() < 52 && next.getPosition() < current.getPosition()) {
+                return null;
+            }
+            current = next;
+        }
+        return current;
+    }
+}
@@ -0,0 +1,79 @@
+package upei.project;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+/**
+ * Test suite for the PairedComparison class.
+ * Verifies that:
+ * - Both arms replay the same games
+ * - Pairing lowers the standard error of the difference
+ * - The result does not depend on the number of threads
+ * - Invalid comparisons are rejected
+ *
+ * @author UPEI Project Team
+ * @version 1.0
+ * @see PairedComparison
+ */
+public class PairedComparisonTest {
+    /** Opponents of the tested seat */
+    private static final List<String> OPPONENTS = List.of("Balanced", "Balanced", "Balanced");
+
+    /**
+     * Tests that identical arms play identical games.
+     */
+    @Test
+    @Timeout(2000)
+    void testIdenticalArmsCancel() {
+        PairedComparison comparison = new PairedComparison("Defensive", "Defensive", OPPONENTS);
+        for (boolean antithetic : new boolean[]{false, true}) {
+            PairedComparison.Result result = comparison.run(1, 24, antithetic, 3L);
+            assertEquals(0.0, result.difference(), "Identical arms should score the same");
+            assertEquals(0.0, result.standardError(), "Identical arms should have no paired noise");
+            assertTrue(result.unpairedStandardError() > 0, "Independent dice would still be noisy");
+        }
+        assertEquals(List.of("Balanced", "Balanced", "Defensive", "Balanced"), comparison.lineup("Defensive", 2));
+    }
+
+    /**
+     * Tests that pairing reduces the variance of the difference.
+     */
+    @Test
+    @Timeout(5000)
+    void testPairingReducesVariance() {
+        PairedComparison comparison = new PairedComparison("Aggressive", "Defensive", OPPONENTS);
+        PairedComparison.Result result = comparison.run(2, 200, false, 5L);
+        assertEquals(200, result.samples());
+        assertTrue(result.standardError() < result.unpairedStandardError(),
+            "Common dice should lower the standard error");
+        assertTrue(result.varianceReduction() > 1);
+        assertEquals(result.firstMean() - result.secondMean(), result.difference(), 1e-12);
+    }
+
+    /**
+     * Tests that the thread count does not change the result.
+     */
+    @Test
+    @Timeout(5000)
+    void testSameResultForAnyThreadCount() {
+        PairedComparison comparison = new PairedComparison("Aggressive", "Defensive", OPPONENTS);
+        assertEquals(comparison.run(1, 40, true, 9L), comparison.run(3, 40, true, 9L));
+    }
+
+    /**
+     * Tests that invalid comparisons are rejected.
+     */
+    @Test
+    @Timeout(100)
+    void testInvalidComparisons() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new PairedComparison("Aggressive", "Defensive", List.of("Balanced")));
+        assertThrows(IllegalArgumentException.class,
+            () -> new PairedComparison("Aggressive", "Reckless", OPPONENTS));
+        assertThrows(IllegalArgumentException.class,
+            () -> new PairedComparison("Aggressive", "Defensive", OPPONENTS).run(1, 0, false, 1L));
+    }
+}
@@ -0,0 +1,87 @@
+package upei.project;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+/**
+ * Test suite for the ParallelSimulation runner.
+ * Tests the parallel simulation including:
+ * - Identical results for any number of threads
+ * - Replaying single games of a run
+ * - Merging of per-worker statistics
+ * - Thread count validation
+ *
+ * @author UPEI Project Team
+ * @version 1.0
+ * @see ParallelSimulation
+ * @see SimulationStats
+ */
+public class ParallelSimulationTest {
+    /** Small set of configurations to keep the tests fast */
+    private static final List<List<String>> CONFIGURATIONS = List.of(
+        List.of("Aggressive", "Defensive", "Balanced", "Balanced"),
+        List.of("Defensive", "Defensive", "Aggressive", "Aggressive")
+    );
+
+    /**
+     * Tests that the merged statistics do not depend on the number of threads.
+     */
+    @Test
+    @Timeout(5000)
+    void testSameResultsForAnyThreadCount() {
+        ParallelSimulation.Report single = new ParallelSimulation(1).run(CONFIGURATIONS, 12, 42L);
+        ParallelSimulation.Report parallel = new ParallelSimulation(3).run(CONFIGURATIONS, 12, 42L);
+        assertEquals(24, single.stats().getGames(), "Every trial of every configuration should be played");
+        assertEquals(single.stats(), parallel.stats(), "Thread count should not change the results");
+        assertTrue(parallel.gamesPerSecond() > 0, "Throughput should be reported");
+    }
+
+    /**
+     * Tests that any game of a run can be replayed on its own.
+     */
+    @Test
+    @Timeout(5000)
+    void testReplaySingleGame() {
+        SimulationStats replayed = new SimulationStats();
+        for (int game = 0; game < 8; game++) {
+            replayed.record(ParallelSimulation.replay(CONFIGURATIONS, 4, 42L, game));
+        }
+        ParallelSimulation.Report report = new ParallelSimulation(2).run(CONFIGURATIONS, 4, 42L);
+        assertEquals(report.stats(), replayed, "Replaying every game should reproduce the run");
+        assertEquals(ParallelSimulation.replay(CONFIGURATIONS, 4, 42L, 5),
+            ParallelSimulation.replay(CONFIGURATIONS, 4, 42L, 5), "A replay should always play the same game");
+    }
+
+    /**
+     * Tests that merging accumulators adds up their counters.
+     */
+    @Test
+    @Timeout(100)
+    void testMergeStats() {
+        List<String> strategies = CONFIGURATIONS.getFirst();
+        SimulationStats first = new SimulationStats();
+        first.record(new SimulationExperiment.GameResult(strategies, 0, 120, 3));
+        SimulationStats second = new SimulationStats();
+        second.record(new SimulationExperiment.GameResult(strategies, -1, 500, 0));
+
+        first.merge(second);
+        assertEquals(2, first.getGames(), "Merged stats should count both games");
+        assertEquals(1, first.getWins("Aggressive"), "Aggressive should have one win");
+        assertEquals(120, first.getTotalMoves("Aggressive"), "Only won games count moves");
+        assertEquals(3, first.getTotalCaptures("Aggressive"), "Winner captures should be kept");
+        assertEquals(4, first.getGamesPlayed("Balanced"), "Balanced played two seats in each game");
+    }
+
+    /**
+     * Tests that a runner needs at least one thread.
+     */
+    @Test
+    @Timeout(100)
+    void testInvalidThreadCount() {
+        assertThrows(IllegalArgumentException.class, () -> new ParallelSimulation(0),
+            "A runner without threads should be rejected");
+    }
+}
@@ -133,4 +133,53 @@ public class PieceTest {
         assertEquals(piece, piece, "Piece should equal itself");
         assertNotEquals(otherPiece, piece, "Different pieces should not be equal even with same color");
     }
+
+    /**
+     * Tests the distance from home against a walk along the node graph
+     * at every square each color can reach one step at a time. Blue walks
+     * all the way home; the other colors stop where the main track would
+     * wrap around.
+     *
+     * @throws InvalidMoveException if a single step is rejected
+     */
+    @Test
+    @Timeout(500)
+    void testDistanceFromHomeAlongPath() throws InvalidMoveException {
+        for (Color color : new Color[]{Color.BLUE, Color.GREEN, Color.YELLOW, Color.RED}) {
+            Piece walker = new Piece(color, new GameBoard());
+            walker.move(6);
+            while (walker.checkMove(1) == GameState.MOVE_OK) {
+                Node node = walker.getCurrentNode();
+                int distance = walkedDistance(node, color);
+                assertEquals(distance, walker.getDistanceFromHome(), "Distance at position " + node.getPosition());
+                if (node.getPosition() < 300 && distance > 0) {
+                    int expected = node.getNext().getPosition() == 0 ? distance : distance == 1 ? -1 : distance - 1;
+                    assertEquals(expected, walker.simulateDistanceFromHome(1),
+                        "Simulated distance from position " + node.getPosition());
+                }
+                walker.move(1);
+            }
+            if (walker.hasReachedHome()) {
+                assertEquals(-1, walker.getDistanceFromHome(), "Pieces at home should report -1");
+            }
+        }
+    }
+
+    /**
+     * Counts the steps from a node to the home entry, or to the end of the
+     * home stretch for home stretch nodes, by following the node links.
+     */
+    private static int walkedDistance(Node node, Color color) {
+        int steps = 0;
+        if (node.getPosition() >= 300) {
+            for (Node current = node.getNext(color); current != null; current = current.getNext(color)) {
+                steps++;
+            }
+            return steps;
+        }
+        for (Node current = node; !current.isHomeEntry(color); current = current.getNext()) {
+            steps++;
+        }
+        return steps;
+    }
 }
@@ -0,0 +1,83 @@
+package upei.project;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.awt.Color;
+import java.util.List;
+
+/**
+ * Test suite for the PlayerColor enum and its AWT mapping in PieceColors.
+ * Verifies that:
+ * - Indices follow the engine's color order
+ * - Start and home entry squares match the board layout
+ * - AWT colors map back to their player colors
+ * - Invalid colors and indices are rejected
+ *
+ * @author UPEI Project Team
+ * @version 1.0
+ * @see PlayerColor
+ * @see PieceColors
+ */
+public class PlayerColorTest {
+    /** Player colors in engine index order */
+    private static final Color[] COLORS = {Color.BLUE, Color.GREEN, Color.YELLOW, Color.RED};
+
+    /**
+     * Tests that each color's index, squares and AWT color agree with
+     * the engine tables and the node graph.
+     */
+    @Test
+    @Timeout(100)
+    void testColorTables() {
+        GameBoard board = new GameBoard();
+        for (int index = 0; index < COLORS.length; index++) {
+            PlayerColor color = PlayerColor.fromIndex(index);
+            assertEquals(index, color.index(), "Index should match the engine order");
+            assertSame(COLORS[index], PieceColors.awtColor(color), "AWT color should match the engine order");
+            assertEquals(GameState.START_SQUARES[index], color.getStartSquare(), "Start square should match");
+            assertEquals(GameState.HOME_ENTRIES[index], color.getHomeEntry(), "Home entry should match");
+            assertTrue(board.getNode(color.getHomeEntry()).isHomeEntry(COLORS[index]),
+                "Home entry node should turn " + color + " into its home stretch");
+            assertTrue(board.getNode(color.getHomeEntry()).isHomeEntry(color),
+                "Home entry node should turn " + color + " into its home stretch");
+        }
+    }
+
+    /**
+     * Tests mapping AWT colors to player colors.
+     */
+    @Test
+    @Timeout(100)
+    void testFromAwtColor() {
+        for (int index = 0; index < COLORS.length; index++) {
+            assertEquals(index, PieceColors.playerColor(COLORS[index]).index(), "Constant should map to its color");
+            Color copy = new Color(COLORS[index].getRGB());
+            assertEquals(index, PieceColors.playerColor(copy).index(), "Equal color should map to the same color");
+        }
+        assertThrows(IllegalArgumentException.class, () -> PieceColors.playerColor(Color.ORANGE),
+            "Other colors should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> PlayerColor.fromIndex(4),
+            "Out of range indices should be rejected");
+    }
+
+    /**
+     * Tests that pieces and players expose their engine and AWT colors.
+     */
+    @Test
+    @Timeout(100)
+    void testPieceColor() {
+        GameBoard board = new GameBoard();
+        Piece piece = new Piece(Color.YELLOW, board);
+        assertEquals(PlayerColor.YELLOW, piece.getPlayerColor(), "Piece should carry its engine color");
+        assertEquals(PlayerColor.YELLOW.index(), piece.getSlot() / GameState.PIECES_PER_COLOR,
+            "Piece slot should follow the color index");
+
+        Piece engine = new Piece(PlayerColor.GREEN, board);
+        assertSame(Color.GREEN, engine.getColor(), "Engine piece should be drawn in its color");
+        Player player = new AIPlayer("Green", PlayerColor.GREEN, List.of(engine), "Balanced");
+        assertEquals(PlayerColor.GREEN, player.getPlayerColor(), "Player should carry its engine color");
+        assertSame(Color.GREEN, player.getColor(), "Player should be drawn in its color");
+    }
+}
@@ -157,6 +157,21 @@ public class PlayerTest {
             "Should have valid moves with roll of 6 when pieces in base");
     }
 
+    /**
+     * Tests the legal move mask.
+     * Verifies that:
+     * - No bits are set when no piece can move
+     * - Each movable piece sets the bit of its index
+     */
+    @Test
+    @Timeout(100)
+    void testLegalMoveMask() throws InvalidMoveException {
+        assertEquals(0, player.legalMoveMask(1), "No piece can move with a 1 from base");
+        assertEquals(0b1111, player.legalMoveMask(6), "Every piece can leave base with a 6");
+        pieces.get(2).move(6);
+        assertEquals(0b0100, player.legalMoveMask(1), "Only the third piece can move with a 1");
+    }
+
     /**
      * Tests the move execution functionality.
      * Verifies that:
@@ -173,6 +188,69 @@ public class PlayerTest {
         assertTrue(anyPieceMoved, "At least one piece should move with roll of 6");
     }
 
+    /**
+     * Tests the turn outcome reported for a player that only implements
+     * makeMove, which is found by comparing the pieces' squares.
+     */
+    @Test
+    @Timeout(100)
+    void testPlayTurnOutcome() {
+        int outcome = player.playTurn(6, players);
+        assertTrue(TurnOutcome.leftBase(outcome), "A 6 should bring the first piece out");
+        assertEquals(0, TurnOutcome.pieceIndex(outcome), "The first piece should be reported");
+        assertEquals(GameState.START_SQUARES[0], TurnOutcome.to(outcome), "The piece should reach its start");
+        assertTrue(TurnOutcome.isExtraTurn(outcome), "A 6 earns another roll");
+
+        outcome = player.playTurn(2, players);
+        assertEquals(GameState.START_SQUARES[0], TurnOutcome.from(outcome), "The piece should leave its start");
+        assertEquals(GameState.START_SQUARES[0] + 2, TurnOutcome.to(outcome), "The piece should move two squares");
+        assertEquals(0, TurnOutcome.captures(outcome), "Nothing was captured");
+        assertFalse(TurnOutcome.isExtraTurn(outcome), "A 2 earns no extra roll");
+
+        TestPlayer idle = new TestPlayer("Idle", Color.GREEN, List.of(new Piece(Color.GREEN, board)));
+        assertEquals(TurnOutcome.NONE, idle.playTurn(3, players), "No piece can leave base with a 3");
+    }
+
+    /**
+     * Tests that the piece counts follow moves, captures and arrival home,
+     * for pieces on a shared board and for detached pieces.
+     *
+     * @throws InvalidMoveException if a scripted move is rejected
+     */
+    @Test
+    @Timeout(100)
+    void testPieceCounts() throws InvalidMoveException {
+        assertEquals(4, player.getPiecesInBase(), "Every piece starts in base");
+        assertEquals(0, player.getPiecesOnBoard(), "No piece starts on the board");
+
+        Piece runner = pieces.get(0);
+        Piece victim = pieces.get(1);
+        runner.move(6);
+        victim.move(6);
+        for (int steps : new int[]{6, 6, 2}) {
+            victim.move(steps);
+        }
+        assertEquals(2, player.getPiecesOnBoard(), "Two pieces should be on the board");
+
+        Piece green = new Piece(Color.GREEN, board);
+        green.move(6);
+        green.move(1);
+        assertTrue(victim.isAtHome(), "The green piece should capture the blue one");
+        assertEquals(3, player.getPiecesInBase(), "The captured piece should count as in base again");
+
+        for (int steps : new int[]{6, 6, 6, 6, 6, 6, 6, 6, 6, 2}) {
+            runner.move(steps);
+        }
+        assertTrue(runner.hasReachedHome(), "The runner should reach home");
+        assertEquals(new Player.GameStats(3, 1, 0), player.getStats(), "Stats should follow the counts");
+        assertFalse(player.hasWon(), "One piece home is no win");
+
+        TestPlayer detached = new TestPlayer("Detached", Color.BLUE,
+            List.of(new Piece(Color.BLUE, null), new Piece(Color.BLUE, null)));
+        assertEquals(2, detached.getPiecesInBase(), "Detached pieces should be counted one by one");
+        assertFalse(detached.hasWon(), "Pieces in base are no win");
+    }
+
     /**
      * Tests player equality.
      * Verifies that:
@@ -0,0 +1,234 @@
+package upei.project;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Test suite for the ResultFileSink and ResultFileReader classes.
+ * Verifies that:
+ * - Game records hold the details of the game they describe
+ * - Binary files read back record for record
+ * - Runs appended to an existing file keep its earlier records
+ * - CSV files have one header and one line per game
+ * - Sinks refuse files in another format or version
+ *
+ * @author UPEI Project Team
+ * @version 1.0
+ * @see ResultFileSink
+ * @see ResultFileReader
+ */
+public class ResultFileSinkTest {
+    /** Configurations of the simulated runs */
+    private static final List<List<String>> CONFIGURATIONS = List.of(
+        List.of("Aggressive", "Defensive", "Balanced", "Aggressive"),
+        List.of("Balanced", "Balanced", "Defensive", "Defensive"));
+
+    /** Games per configuration */
+    private static final int TRIALS = 10;
+
+    /**
+     * Tests that a record describes its game without changing it.
+     */
+    @Test
+    @Timeout(2000)
+    void testRecordDetails() {
+        GameFixture fixture = new GameFixture();
+        GameRecord record = new GameRecord();
+        for (int game = 0; game < 10; game++) {
+            List<String> strategies = CONFIGURATIONS.get(game % 2);
+            record.start(7L, game);
+            SimulationExperiment.GameResult result = SimulationExperiment.playGame(fixture, strategies,
+                DiceSource.forGame(7L, game), record);
+            assertEquals(SimulationExperiment.playGame(strategies, DiceSource.forGame(7L, game)), result,
+                "Recording should not change the game");
+
+            assertEquals(game, record.getGameIndex());
+            assertEquals(strategies, record.getStrategies());
+            assertEquals(result.placings(), record.getPlacings());
+            assertEquals(result.moves(), record.getTurns());
+            for (int seat = 0; seat < GameRecord.SEATS; seat++) {
+                assertTrue(record.getCaptures(seat) >= 0);
+                for (int piece = 0; piece < GameState.PIECES_PER_COLOR; piece++) {
+                    int turn = record.getFinishTurn(seat, piece);
+                    assertTrue(turn == GameRecord.NOT_FINISHED || (turn >= 0 && turn < record.getTurns()),
+                        "Pieces should reach home during the game");
+                    if (seat == result.winner()) {
+                        assertNotEquals(GameRecord.NOT_FINISHED, turn, "Every piece of the winner is home");
+                    }
+                }
+            }
+            if (result.hasWinner()) {
+                assertEquals(result.captures(), record.getCaptures(result.winner()));
+            }
+        }
+    }
+
+    /**
+     * Tests that binary files read back and can be appended to.
+     *
+     * @throws IOException if the file cannot be written or read
+     */
+    @Test
+    @Timeout(10000)
+    void testBinaryRoundTrip() throws IOException {
+        Path dir = Files.createTempDirectory("results");
+        try {
+            checkBinaryRoundTrip(dir);
+        } finally {
+            deleteDirectory(dir);
+        }
+    }
+
+    /**
+     * Writes two runs into one binary file and reads them back.
+     */
+    private void checkBinaryRoundTrip(Path dir) throws IOException {
+        Path file = dir.resolve("games.lrec");
+        for (long seed : new long[]{11L, 12L}) {
+            try (ResultSink sink = ResultFileSink.binary(file)) {
+                ParallelSimulation.Report report = new ParallelSimulation(3).run(CONFIGURATIONS, TRIALS, seed, sink);
+                assertEquals(CONFIGURATIONS.size() * TRIALS, report.stats().getGames());
+            }
+        }
+
+        boolean[][] seen = new boolean[2][CONFIGURATIONS.size() * TRIALS];
+        AtomicLong total = new AtomicLong();
+        long count = ResultFileReader.read(file, record -> {
+            int game = (int) record.getGameIndex();
+            SimulationExperiment.GameResult expected = ParallelSimulation.replay(CONFIGURATIONS, TRIALS,
+                record.getCampaignSeed(), game);
+            assertEquals(expected.strategies(), record.getStrategies());
+            assertEquals(expected.placings(), record.getPlacings());
+            assertEquals(expected.moves(), record.getTurns());
+            if (expected.hasWinner()) {
+                assertEquals(expected.captures(), record.getCaptures(expected.winner()));
+            }
+            seen[(int) (record.getCampaignSeed() - 11L)][game] = true;
+            total.incrementAndGet();
+        });
+        assertEquals(2L * CONFIGURATIONS.size() * TRIALS, count);
+        assertEquals(count, total.get());
+        for (boolean[] run : seen) {
+            for (boolean game : run) {
+                assertTrue(game, "Every game of both runs should be in the file");
+            }
+        }
+
+        Path other = dir.resolve("other.txt");
+        Files.writeString(other, "not results");
+        assertThrows(IOException.class, () -> ResultFileReader.read(other, record -> { }));
+    }
+
+    /**
+     * Tests that CSV files have a single header and a line per game.
+     *
+     * @throws IOException if the file cannot be written or read
+     */
+    @Test
+    @Timeout(10000)
+    void testCsvLines() throws IOException {
+        Path dir = Files.createTempDirectory("results");
+        try {
+            Path file = dir.resolve("games.csv");
+            for (int run = 0; run < 2; run++) {
+                try (ResultSink sink = ResultFileSink.csv(file)) {
+                    new ParallelSimulation(2).run(CONFIGURATIONS, TRIALS, 5L, sink);
+                }
+            }
+
+            List<String> lines = Files.readAllLines(file);
+            assertEquals(1 + 2 * CONFIGURATIONS.size() * TRIALS, lines.size(), "Appending should not repeat the header");
+            assertTrue(lines.get(0).startsWith("campaign_seed,game_index,strategy0"));
+            int columns = lines.get(0).split(",").length;
+            assertEquals(2 + 4 + 4 + 1 + 4 + 16, columns);
+            for (String line : lines.subList(1, lines.size())) {
+                String[] fields = line.split(",");
+                assertEquals(columns, fields.length);
+                int game = Integer.parseInt(fields[1]);
+                SimulationExperiment.GameResult expected = ParallelSimulation.replay(CONFIGURATIONS, TRIALS, 5L, game);
+                assertEquals(expected.strategies(), List.of(fields).subList(2, 6));
+                assertEquals(expected.seatAt(0), Integer.parseInt(fields[6]));
+                assertEquals(expected.moves(), Integer.parseInt(fields[10]));
+            }
+        } finally {
+            deleteDirectory(dir);
+        }
+    }
+
+    /**
+     * Tests that a closed sink takes no more records.
+     *
+     * @throws IOException if the file cannot be written
+     */
+    @Test
+    @Timeout(1000)
+    void testClosedSink() throws IOException {
+        Path dir = Files.createTempDirectory("results");
+        try {
+            ResultFileSink sink = ResultFileSink.binary(dir.resolve("games.lrec"));
+            sink.close();
+            sink.close();
+            assertThrows(IllegalStateException.class, () -> sink.write(new GameRecord()));
+            assertEquals(0, ResultFileReader.read(dir.resolve("games.lrec"), record -> fail("No records expected")));
+        } finally {
+            deleteDirectory(dir);
+        }
+    }
+
+    /**
+     * Tests that a sink refuses to append to a file that holds data in
+     * another format or version.
+     *
+     * @throws IOException if the files cannot be written
+     */
+    @Test
+    @Timeout(1000)
+    void testForeignFiles() throws IOException {
+        Path dir = Files.createTempDirectory("results");
+        try {
+            Path binary = dir.resolve("games.lrec");
+            ResultFileSink.binary(binary).close();
+            assertThrows(IOException.class, () -> ResultFileSink.csv(binary),
+                "CSV should not be appended to a binary file");
+            ResultFileSink.binary(binary).close();
+
+            Path csv = dir.resolve("games.csv");
+            ResultFileSink.csv(csv).close();
+            assertThrows(IOException.class, () -> ResultFileSink.binary(csv),
+                "Binary records should not be appended to a CSV file");
+            ResultFileSink.csv(csv).close();
+
+            Path text = dir.resolve("other.txt");
+            Files.writeString(text, "not");
+            assertThrows(IOException.class, () -> ResultFileSink.binary(text),
+                "Binary records should not be appended to other files");
+
+            Path newer = dir.resolve("newer.lrec");
+            Files.write(newer, new byte[]{0x4C, 0x52, 0x45, 0x43, (byte) (ResultFileSink.VERSION + 1)});
+            assertThrows(IOException.class, () -> ResultFileSink.binary(newer),
+                "Binary records should not be appended to another version");
+            assertEquals(5, Files.size(newer), "A refused file should be left as it was");
+        } finally {
+            deleteDirectory(dir);
+        }
+    }
+
+    /**
+     * Deletes a directory and the files in it.
+     */
+    private static void deleteDirectory(Path dir) throws IOException {
+        try (var files = Files.list(dir)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(dir);
+    }
+}
@@ -0,0 +1,72 @@
+package upei.project;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for the SequentialTest class.
+ * Verifies that:
+ * - A clearly stronger challenger is accepted and a weaker one rejected
+ * - The outcome does not depend on the number of threads
+ * - The game limit ends undecided tests
+ * - Invalid settings are rejected
+ *
+ * @author UPEI Project Team
+ * @version 1.0
+ * @see SequentialTest
+ */
+public class SequentialTestTest {
+    /**
+     * Tests the decisions between a strong and a weak strategy.
+     */
+    @Test
+    @Timeout(5000)
+    void testDecisions() {
+        SequentialTest.Result better = new SequentialTest("Defensive", "Aggressive").run(2, 48, 20_000, 7L);
+        assertEquals(SequentialTest.Decision.CHALLENGER_BETTER, better.decision());
+        assertTrue(better.score() > 0.5, "The stronger strategy should score more than half");
+        assertEquals(0, better.games() % 12, "Batches should play whole rounds of line-ups");
+
+        SequentialTest.Result worse = new SequentialTest("Aggressive", "Defensive").run(2, 48, 20_000, 7L);
+        assertEquals(SequentialTest.Decision.NOT_BETTER, worse.decision());
+        assertTrue(worse.logLikelihoodRatio() <= new SequentialTest("Aggressive", "Defensive").getLowerBound());
+    }
+
+    /**
+     * Tests that the thread count does not change the outcome.
+     */
+    @Test
+    @Timeout(5000)
+    void testSameResultForAnyThreadCount() {
+        SequentialTest test = new SequentialTest("Defensive", "Aggressive");
+        assertEquals(test.run(1, 40, 20_000, 3L), test.run(3, 40, 20_000, 3L));
+    }
+
+    /**
+     * Tests that the game limit stops a test before it decides.
+     */
+    @Test
+    @Timeout(2000)
+    void testGameLimit() {
+        SequentialTest.Result result = new SequentialTest("Balanced", "Defensive").run(1, 12, 30, 1L);
+        assertEquals(SequentialTest.Decision.INCONCLUSIVE, result.decision());
+        assertEquals(30, result.games(), "The last batch should stop at the limit");
+    }
+
+    /**
+     * Tests that invalid settings are rejected.
+     */
+    @Test
+    @Timeout(100)
+    void testInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new SequentialTest("Balanced", "Balanced"));
+        assertThrows(IllegalArgumentException.class, () -> new SequentialTest("Balanced", "Reckless"));
+        assertThrows(IllegalArgumentException.class,
+            () -> new SequentialTest("Balanced", "Defensive", 0, 0.05, 0.05));
+        assertThrows(IllegalArgumentException.class,
+            () -> new SequentialTest("Balanced", "Defensive", 0.05, 0.5, 0.05));
+        assertThrows(IllegalArgumentException.class,
+            () -> new SequentialTest("Balanced", "Defensive").run(0, 12, 100, 1L));
+    }
+}
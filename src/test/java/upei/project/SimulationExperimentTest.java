@@ -124,6 +124,33 @@ public class SimulationExperimentTest {
         assertTrue(maxMoves < 1000, "Max moves should be reasonable");
     }
 
+    /**
+     * Tests the finishing order of simulated games.
+     * Verifies that every seat gets one place, the winner
+     * finishes first and the rest follow by progress.
+     */
+    @Test
+    @Timeout(1000)
+    void testFinishingOrder() {
+        List<String> strategies = Arrays.asList("Aggressive", "Defensive", "Balanced", "Balanced");
+        for (int game = 0; game < 5; game++) {
+            SimulationExperiment.GameResult result =
+                SimulationExperiment.playGame(strategies, DiceSource.forGame(9L, game));
+            Set<Integer> seats = new HashSet<>();
+            for (int place = 0; place < 4; place++) {
+                seats.add(result.seatAt(place));
+            }
+            assertEquals(Set.of(0, 1, 2, 3), seats, "Every seat should finish once");
+            if (result.hasWinner()) {
+                assertEquals(result.winner(), result.seatAt(0), "The winner should finish first");
+            }
+        }
+
+        SimulationExperiment.GameResult known = new SimulationExperiment.GameResult(strategies, 2, 100, 0);
+        assertEquals(List.of(2, 0, 1, 3), List.of(known.seatAt(0), known.seatAt(1), known.seatAt(2),
+            known.seatAt(3)), "Without progress the other seats should follow in seat order");
+    }
+
     /**
      * Helper method to access private static fields of the
      * SimulationExperiment class using reflection.
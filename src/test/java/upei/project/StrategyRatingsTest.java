@@ -0,0 +1,136 @@
+package upei.project;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Test suite for the StrategyRatings class.
+ * Verifies that:
+ * - Ratings follow the finishing order of each game
+ * - Deviations shrink as games are recorded
+ * - Seats of the same strategy are not compared with each other
+ * - Saved ratings load back unchanged
+ *
+ * @author UPEI Project Team
+ * @version 1.0
+ * @see StrategyRatings
+ */
+public class StrategyRatingsTest {
+    /** Line-up of four different strategies */
+    private static final List<String> LINEUP = List.of("Aggressive", "Defensive", "Balanced", "MCTS");
+
+    /**
+     * Packs a finishing order, first place first.
+     */
+    private static int placings(int... seats) {
+        int placings = 0;
+        for (int place = 0; place < seats.length; place++) {
+            placings |= seats[place] << (2 * place);
+        }
+        return placings;
+    }
+
+    /**
+     * Tests that ratings move with the finishing order.
+     */
+    @Test
+    @Timeout(100)
+    void testRatingsFollowFinishingOrder() {
+        StrategyRatings ratings = new StrategyRatings();
+        ratings.record(new SimulationExperiment.GameResult(LINEUP, 2, 300, 1, placings(2, 0, 3, 1)));
+
+        double balanced = ratings.getRating("Balanced").rating();
+        double aggressive = ratings.getRating("Aggressive").rating();
+        double mcts = ratings.getRating("MCTS").rating();
+        double defensive = ratings.getRating("Defensive").rating();
+        assertTrue(balanced > aggressive && aggressive > mcts && mcts > defensive,
+            "Ratings should follow the finishing order");
+        assertEquals(4 * StrategyRatings.INITIAL_RATING, balanced + aggressive + mcts + defensive, 1e-9,
+            "Equal deviations should exchange points evenly");
+        assertEquals(balanced - StrategyRatings.INITIAL_RATING, StrategyRatings.INITIAL_RATING - defensive, 1e-9,
+            "First and last place should move by the same amount");
+
+        StrategyRatings.Rating first = ratings.getRating("Balanced");
+        assertTrue(first.deviation() < StrategyRatings.INITIAL_DEVIATION, "A game should narrow the interval");
+        assertEquals(1, first.games());
+        assertEquals(first.rating() - 1.96 * first.deviation(), first.lower(), 1e-9);
+        assertEquals("Balanced", ratings.getRatings().get(0).strategy(), "The best rating should lead");
+
+        // Rotating the finishing order keeps the strategies evenly matched
+        for (int game = 0; game < 200; game++) {
+            int winner = game % 4;
+            ratings.record(new SimulationExperiment.GameResult(LINEUP, winner, 300, 1,
+                placings(winner, (winner + 1) % 4, (winner + 2) % 4, (winner + 3) % 4)));
+        }
+        assertEquals(StrategyRatings.MIN_DEVIATION, ratings.getRating("Balanced").deviation(), 1e-9,
+            "Deviations should stop at the minimum");
+    }
+
+    /**
+     * Tests that a strategy playing several seats is only rated against others.
+     */
+    @Test
+    @Timeout(100)
+    void testSharedStrategySeats() {
+        StrategyRatings ratings = new StrategyRatings();
+        List<String> lineup = List.of("Balanced", "Balanced", "Balanced", "Balanced");
+        ratings.record(new SimulationExperiment.GameResult(lineup, 0, 300, 0));
+        StrategyRatings.Rating rating = ratings.getRating("Balanced");
+        assertEquals(StrategyRatings.INITIAL_RATING, rating.rating(), "Self play should not move the rating");
+        assertEquals(StrategyRatings.INITIAL_DEVIATION, rating.deviation());
+        assertEquals(1, rating.games(), "The game should be counted once");
+
+        List<String> pair = List.of("Balanced", "Aggressive", "Balanced", "Aggressive");
+        ratings.record(new SimulationExperiment.GameResult(pair, 0, 300, 0, placings(0, 2, 1, 3)));
+        assertTrue(ratings.getRating("Balanced").rating() > StrategyRatings.INITIAL_RATING,
+            "Both Balanced seats beat both Aggressive seats");
+        assertEquals(1, ratings.getRating("Aggressive").games());
+    }
+
+    /**
+     * Tests that saved ratings load back unchanged.
+     *
+     * @throws IOException if the file cannot be written or read
+     */
+    @Test
+    @Timeout(100)
+    void testSaveAndLoad() throws IOException {
+        Path dir = Files.createTempDirectory("ratings");
+        try {
+            checkSaveAndLoad(dir);
+        } finally {
+            try (var files = Files.list(dir)) {
+                for (Path file : files.toList()) {
+                    Files.delete(file);
+                }
+            }
+            Files.delete(dir);
+        }
+    }
+
+    /**
+     * Saves ratings into a directory and loads them back.
+     */
+    private void checkSaveAndLoad(Path dir) throws IOException {
+        StrategyRatings ratings = new StrategyRatings();
+        ratings.record(new SimulationExperiment.GameResult(LINEUP, 1, 250, 3, placings(1, 3, 0, 2)));
+        ratings.record(new SimulationExperiment.GameResult(LINEUP, 3, 280, 0, placings(3, 1, 2, 0)));
+
+        Path file = dir.resolve("league.ratings");
+        ratings.save(file);
+        ratings.save(file);
+        StrategyRatings loaded = StrategyRatings.load(file);
+        assertEquals(ratings.getRatings(), loaded.getRatings(), "Loaded ratings should match the saved ones");
+        assertTrue(Files.size(file) < 200, "The file should stay compact");
+
+        Path other = dir.resolve("other.txt");
+        Files.writeString(other, "not ratings");
+        assertThrows(IOException.class, () -> StrategyRatings.load(other));
+    }
+}
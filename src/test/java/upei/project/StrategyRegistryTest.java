@@ -0,0 +1,91 @@
+package upei.project;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import upei.project.strategies.AggressiveStrategy;
+import upei.project.strategies.BalancedStrategy;
+import upei.project.strategies.DefensiveStrategy;
+import upei.project.strategies.ExpectimaxStrategy;
+import upei.project.strategies.HeuristicStrategy;
+import upei.project.strategies.MonteCarloStrategy;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.awt.Color;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test suite for the StrategyRegistry class.
+ * Verifies that:
+ * - Every standard strategy is registered under its name
+ * - Each lookup creates a new strategy instance
+ * - Unknown names are rejected
+ * - AI players play with the strategy class registered under their name
+ *
+ * @author UPEI Project Team
+ * @version 1.0
+ * @see StrategyRegistry
+ */
+public class StrategyRegistryTest {
+    /**
+     * Tests that the standard strategies resolve to their classes.
+     */
+    @Test
+    @Timeout(100)
+    void testStandardStrategies() {
+        assertTrue(StrategyRegistry.getNames().containsAll(
+            List.of("Aggressive", "Defensive", "Balanced", "Expectimax", "MCTS", "Heuristic")));
+        assertTrue(StrategyRegistry.create("Aggressive") instanceof AggressiveStrategy);
+        assertTrue(StrategyRegistry.create("Defensive") instanceof DefensiveStrategy);
+        assertTrue(StrategyRegistry.create("Balanced") instanceof BalancedStrategy);
+        assertTrue(StrategyRegistry.create("Expectimax") instanceof ExpectimaxStrategy);
+        assertTrue(StrategyRegistry.create("MCTS") instanceof MonteCarloStrategy);
+        assertTrue(StrategyRegistry.create("Heuristic") instanceof HeuristicStrategy);
+        assertNotSame(StrategyRegistry.create("MCTS"), StrategyRegistry.create("MCTS"),
+            "Every player should get its own strategy instance");
+    }
+
+    /**
+     * Tests that unknown strategy names are rejected.
+     */
+    @Test
+    @Timeout(100)
+    void testUnknownStrategy() {
+        assertFalse(StrategyRegistry.isRegistered("Reckless"));
+        assertThrows(IllegalArgumentException.class, () -> StrategyRegistry.create("Reckless"));
+        List<Piece> pieces = new ArrayList<>();
+        assertThrows(IllegalArgumentException.class,
+            () -> new AIPlayer("Reckless", Color.BLUE, pieces, "Reckless"));
+    }
+
+    /**
+     * Tests that a named AI player picks the move its registered strategy scores best.
+     */
+    @Test
+    @Timeout(100)
+    void testAIPlayerUsesRegisteredStrategy() {
+        GameBoard board = new GameBoard();
+        List<Piece> pieces = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            pieces.add(new Piece(Color.BLUE, board));
+        }
+        AIPlayer player = new AIPlayer("Blue", Color.BLUE, pieces, "Defensive");
+        List<Player> players = List.of(player);
+        assertEquals("Defensive", player.getStrategyName());
+
+        MoveStrategy reference = new DefensiveStrategy();
+        double[] scores = new double[pieces.size()];
+        int candidates = player.legalMoveMask(6);
+        reference.evaluateMoves(player, 6, candidates, players, scores);
+        int expected = -1;
+        for (int i = 0; i < pieces.size(); i++) {
+            if ((candidates & (1 << i)) != 0 && (expected < 0 || scores[i] > scores[expected])) {
+                expected = i;
+            }
+        }
+        assertEquals(expected, player.bestMoveIndex(6, players));
+
+        AIPlayer injected = new AIPlayer("Blue", Color.BLUE, pieces, new HeuristicStrategy());
+        assertEquals("HeuristicStrategy", injected.getStrategyName(), "An injected strategy reports its class");
+    }
+}
@@ -0,0 +1,117 @@
+package upei.project;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Test suite for the Tournament class.
+ * Tests the round-robin league including:
+ * - Line-ups covering every combination in every seat rotation
+ * - Identical tables for any parallelism
+ * - Agreement with the parallel simulation of the same line-ups
+ * - Validation of the entrants and limits
+ *
+ * @author UPEI Project Team
+ * @version 1.0
+ * @see Tournament
+ * @see LeagueTable
+ */
+public class TournamentTest {
+    /** Entrants fast enough for the tests */
+    private static final List<String> ENTRANTS = List.of("Aggressive", "Defensive", "Balanced");
+
+    /**
+     * Tests that every entrant of a combination plays every seat once.
+     */
+    @Test
+    @Timeout(100)
+    void testLineupsRotateSeats() {
+        List<List<String>> lineups = Tournament.lineups(ENTRANTS);
+        assertEquals(12, lineups.size(), "Three combinations in four rotations");
+        assertEquals(12, new HashSet<>(lineups).size(), "Line-ups should not repeat");
+        for (List<String> lineup : lineups) {
+            assertTrue(lineup.containsAll(ENTRANTS), "Every entrant should play in " + lineup);
+        }
+        for (int seat = 0; seat < 4; seat++) {
+            Map<String, Integer> seats = new HashMap<>();
+            for (List<String> lineup : lineups) {
+                seats.merge(lineup.get(seat), 1, Integer::sum);
+            }
+            assertEquals(Map.of("Aggressive", 4, "Defensive", 4, "Balanced", 4), seats,
+                "Seat " + seat + " should be shared equally");
+        }
+
+        List<String> five = List.of("A", "B", "C", "D", "E");
+        List<List<String>> combinations = Tournament.lineups(five);
+        assertEquals(20, combinations.size(), "Five combinations of four in four rotations");
+        for (List<String> lineup : combinations) {
+            assertEquals(4, new HashSet<>(lineup).size(), "Entrants should not repeat in " + lineup);
+        }
+    }
+
+    /**
+     * Tests that the table depends on neither the parallelism nor the runner.
+     */
+    @Test
+    @Timeout(5000)
+    void testTableMatchesParallelSimulation() {
+        Tournament tournament = new Tournament(ENTRANTS, 3, 11L);
+        LeagueTable serial = tournament.run(1);
+        LeagueTable parallel = tournament.run(4);
+        assertEquals(36, serial.getGames(), "Every game should be recorded");
+        assertEquals(serial.getStandings(), parallel.getStandings(), "Parallelism should not change the table");
+
+        SimulationStats stats = new ParallelSimulation(1).run(tournament.getLineups(), 3, 11L).stats();
+        for (String entrant : ENTRANTS) {
+            LeagueTable.Standing standing = serial.getStanding(entrant);
+            assertEquals(stats.getGamesPlayed(entrant), standing.played(), entrant + " seats");
+            assertEquals(stats.getWins(entrant), standing.wins(), entrant + " wins");
+            assertEquals(stats.getTotalMoves(entrant), standing.winMoves(), entrant + " moves");
+        }
+    }
+
+    /**
+     * Tests the league table ranking and its rejection of outsiders.
+     */
+    @Test
+    @Timeout(100)
+    void testLeagueTable() {
+        LeagueTable table = new LeagueTable(ENTRANTS);
+        table.record(new SimulationExperiment.GameResult(
+            List.of("Defensive", "Balanced", "Defensive", "Aggressive"), 1, 200, 2));
+        table.record(new SimulationExperiment.GameResult(
+            List.of("Balanced", "Defensive", "Aggressive", "Balanced"), -1, 500, 0));
+
+        List<LeagueTable.Standing> standings = table.getStandings();
+        assertEquals("Balanced", standings.get(0).strategy(), "The only winner should lead");
+        assertEquals(new LeagueTable.Standing("Balanced", 3, 1, 200, 2), standings.get(0));
+        assertEquals("Aggressive", standings.get(1).strategy(), "Ties should keep the entrant order");
+        assertEquals(1, table.getUnfinishedGames());
+
+        assertThrows(IllegalArgumentException.class, () -> table.record(new SimulationExperiment.GameResult(
+            List.of("Balanced", "MCTS", "Balanced", "Balanced"), 0, 100, 0)));
+        assertEquals(2, table.getGames(), "A rejected game should not be counted");
+        assertEquals(3, table.getStanding("Balanced").played(), "A rejected game should change no counter");
+    }
+
+    /**
+     * Tests that invalid tournaments are rejected.
+     */
+    @Test
+    @Timeout(100)
+    void testInvalidTournaments() {
+        assertThrows(IllegalArgumentException.class, () -> new Tournament(List.of("Balanced"), 1, 0L));
+        assertThrows(IllegalArgumentException.class,
+            () -> new Tournament(List.of("Balanced", "Balanced"), 1, 0L));
+        assertThrows(IllegalArgumentException.class,
+            () -> new Tournament(List.of("Balanced", "Reckless"), 1, 0L));
+        assertThrows(IllegalArgumentException.class, () -> new Tournament(ENTRANTS, 0, 0L));
+        assertThrows(IllegalArgumentException.class, () -> new Tournament(ENTRANTS, 1, 0L).run(0));
+    }
+}
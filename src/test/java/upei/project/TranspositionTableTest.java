@@ -0,0 +1,94 @@
+package upei.project;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for the TranspositionTable cache.
+ * Tests:
+ * - Exact values and bounds answering lookups
+ * - Depth requirements
+ * - Replacement within a bucket
+ * - Hit, miss and collision counters
+ *
+ * @author UPEI Project Team
+ * @version 1.0
+ * @see TranspositionTable
+ */
+public class TranspositionTableTest {
+    /** Table under test: four buckets of two entries */
+    private TranspositionTable table;
+
+    /**
+     * Sets up a small table before each test.
+     */
+    @BeforeEach
+    void setUp() {
+        table = new TranspositionTable(8);
+    }
+
+    /**
+     * Tests that stored values answer lookups according to their bound and depth.
+     */
+    @Test
+    @Timeout(100)
+    void testProbeRespectsBoundsAndDepth() {
+        table.store(11L, 3, TranspositionTable.BOUND_EXACT, 1.5);
+        assertEquals(1.5, table.probe(11L, 3, -10, 10), "Exact values answer any window");
+        assertEquals(1.5, table.probe(11L, 2, -10, 10), "Deeper results answer shallower lookups");
+        assertTrue(Double.isNaN(table.probe(11L, 4, -10, 10)), "Shallower results cannot answer deeper lookups");
+
+        table.store(12L, 2, TranspositionTable.BOUND_LOWER, 5.0);
+        assertEquals(5.0, table.probe(12L, 2, -10, 4), "A lower bound above beta answers the lookup");
+        assertTrue(Double.isNaN(table.probe(12L, 2, -10, 6)), "A lower bound inside the window does not");
+
+        table.store(13L, 2, TranspositionTable.BOUND_UPPER, -5.0);
+        assertEquals(-5.0, table.probe(13L, 2, -4, 10), "An upper bound below alpha answers the lookup");
+        assertTrue(Double.isNaN(table.probe(13L, 2, -6, 10)), "An upper bound inside the window does not");
+        assertTrue(Double.isNaN(table.probe(14L, 1, -10, 10)), "Unknown positions miss");
+    }
+
+    /**
+     * Tests the counters and the replacement of entries in a full bucket.
+     */
+    @Test
+    @Timeout(100)
+    void testCountersAndReplacement() {
+        assertEquals(8, table.getCapacity(), "Capacity should be rounded to whole buckets");
+        // Keys 1, 5 and 9 share a bucket of a four bucket table
+        table.store(1L, 5, TranspositionTable.BOUND_EXACT, 1.0);
+        table.store(5L, 2, TranspositionTable.BOUND_EXACT, 2.0);
+        table.store(9L, 3, TranspositionTable.BOUND_EXACT, 3.0);
+        assertEquals(1.0, table.probe(1L, 1, -10, 10), "The deepest entry should be kept");
+        assertTrue(Double.isNaN(table.probe(5L, 1, -10, 10)), "The shallowest entry should be replaced");
+        assertEquals(3.0, table.probe(9L, 1, -10, 10), "The new entry should be stored");
+
+        assertEquals(2, table.getHits(), "Two lookups were answered");
+        assertEquals(1, table.getMisses(), "One lookup missed");
+        assertEquals(1, table.getCollisions(), "The miss found its bucket filled by other positions");
+        assertEquals(2.0 / 3, table.getHitRate(), 1e-9, "Hit rate is hits over lookups");
+
+        table.newGeneration();
+        table.store(9L, 3, TranspositionTable.BOUND_EXACT, 3.0);
+        table.store(5L, 1, TranspositionTable.BOUND_EXACT, 4.0);
+        assertEquals(4.0, table.probe(5L, 1, -10, 10), "Entries of earlier searches are replaced first");
+        assertEquals(3.0, table.probe(9L, 1, -10, 10), "Entries of the current search are kept");
+        assertTrue(Double.isNaN(table.probe(1L, 1, -10, 10)), "The old deep entry should be gone");
+
+        table.clear();
+        assertTrue(Double.isNaN(table.probe(9L, 1, -10, 10)), "Clearing empties the table");
+        assertEquals(0, table.getHits(), "Clearing resets the counters");
+    }
+
+    /**
+     * Tests that invalid sizes are rejected.
+     */
+    @Test
+    @Timeout(100)
+    void testInvalidSize() {
+        assertThrows(IllegalArgumentException.class, () -> new TranspositionTable(0),
+            "A table needs at least one entry");
+    }
+}
@@ -0,0 +1,56 @@
+package upei.project;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for the packed TurnOutcome values.
+ * Verifies that every field survives packing, including the base and
+ * home sentinels, and that the derived flags follow the fields.
+ *
+ * @author UPEI Project Team
+ * @version 1.0
+ * @see TurnOutcome
+ */
+public class TurnOutcomeTest {
+    /**
+     * Tests that every combination of fields round trips.
+     */
+    @Test
+    @Timeout(100)
+    void testPacking() {
+        int[] squares = {GameState.BASE, 0, 25, GameState.MAIN_TRACK_SIZE - 1, GameState.NUM_SQUARES - 1,
+            GameState.HOME};
+        for (int piece = 0; piece < GameState.PIECES_PER_COLOR; piece++) {
+            for (int from : squares) {
+                for (int to : squares) {
+                    for (int captures = 0; captures <= GameState.MAX_PIECES - GameState.PIECES_PER_COLOR; captures++) {
+                        int outcome = TurnOutcome.of(piece, from, to, captures, 3);
+                        assertTrue(TurnOutcome.moved(outcome), "A packed move should count as moved");
+                        assertEquals(piece, TurnOutcome.pieceIndex(outcome), "Piece index should round trip");
+                        assertEquals(from, TurnOutcome.from(outcome), "From square should round trip");
+                        assertEquals(to, TurnOutcome.to(outcome), "To square should round trip");
+                        assertEquals(captures, TurnOutcome.captures(outcome), "Captures should round trip");
+                        assertEquals(from == GameState.BASE, TurnOutcome.leftBase(outcome), "Left base flag");
+                        assertEquals(to == GameState.HOME, TurnOutcome.reachedHome(outcome), "Reached home flag");
+                        assertEquals(captures > 0, TurnOutcome.isExtraTurn(outcome), "Only captures earn a roll");
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests the outcome of a turn without a move and the extra turn of a six.
+     */
+    @Test
+    @Timeout(100)
+    void testNoMoveAndSix() {
+        assertFalse(TurnOutcome.moved(TurnOutcome.NONE), "NONE is not a move");
+        assertFalse(TurnOutcome.leftBase(TurnOutcome.NONE), "NONE brings no piece out");
+        assertFalse(TurnOutcome.reachedHome(TurnOutcome.NONE), "NONE takes no piece home");
+        assertFalse(TurnOutcome.isExtraTurn(TurnOutcome.NONE), "NONE earns no roll");
+        assertTrue(TurnOutcome.isExtraTurn(TurnOutcome.of(0, 5, 11, 0, 6)), "A six earns another roll");
+    }
+}